@@ -0,0 +1,21 @@
+package com.tngtech.archunit.benchmarks;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+
+final class ArchUnitClasses {
+    private ArchUnitClasses() {
+    }
+
+    /**
+     * Imports the production classes of ArchUnit itself, i.e. a real world code base of moderate size.
+     * The benchmark classes are excluded, since depending on how JMH is run they are part of the same location.
+     */
+    static JavaClasses importArchUnitClasses() {
+        return new ClassFileImporter()
+                .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .withImportOption(location -> !location.contains("Benchmark") && !location.contains("jmh_generated"))
+                .importPackages("com.tngtech.archunit");
+    }
+}
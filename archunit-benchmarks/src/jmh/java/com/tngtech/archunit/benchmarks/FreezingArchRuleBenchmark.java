@@ -0,0 +1,75 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.library.freeze.BinaryViolationStore;
+import com.tngtech.archunit.library.freeze.FreezingArchRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.tngtech.archunit.benchmarks.ArchUnitClasses.importArchUnitClasses;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.library.freeze.FreezingArchRule.freeze;
+
+/**
+ * Measures evaluating a {@link FreezingArchRule} where all current violations are already stored,
+ * i.e. reading the store and matching every violation against the stored ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FreezingArchRuleBenchmark {
+    private static final ArchRule RULE_VIOLATED_BY_EVERY_CLASS = classes().should().haveSimpleNameStartingWith("Frozen");
+
+    @Param({"text", "binary"})
+    public String store;
+
+    private Path storeFolder;
+    private JavaClasses classes;
+    private FreezingArchRule rule;
+
+    @Setup
+    public void setUp() throws IOException {
+        storeFolder = Files.createTempDirectory("archunit-benchmark-store");
+        ArchConfiguration configuration = ArchConfiguration.get();
+        configuration.setProperty("freeze.store.default.path", storeFolder.resolve("text").toString());
+        configuration.setProperty("freeze.store.default.allowStoreCreation", "true");
+        configuration.setProperty("freeze.store.binary.path", storeFolder.resolve("binary").toString());
+        configuration.setProperty("freeze.store.binary.allowStoreCreation", "true");
+
+        classes = importArchUnitClasses();
+        rule = store.equals("binary")
+                ? freeze(RULE_VIOLATED_BY_EVERY_CLASS).persistIn(new BinaryViolationStore())
+                : freeze(RULE_VIOLATED_BY_EVERY_CLASS);
+        rule.evaluate(classes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        ArchConfiguration.get().reset();
+        try (Stream<Path> files = Files.walk(storeFolder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public EvaluationResult matchStoredViolations() {
+        return rule.evaluate(classes);
+    }
+}
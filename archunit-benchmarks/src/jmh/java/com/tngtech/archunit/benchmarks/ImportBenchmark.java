@@ -0,0 +1,33 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import static com.tngtech.archunit.benchmarks.ArchUnitClasses.importArchUnitClasses;
+
+/**
+ * Measures the complete import, i.e. reading the class files as well as creating the class graph.
+ * Importing {@code java.base} needs a JDK 9+ runtime, since the classes are read from the module image.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImportBenchmark {
+
+    @Benchmark
+    public JavaClasses importJavaBase() {
+        return new ClassFileImporter()
+                .withImportOption(location -> location.contains("jrt:/java.base/"))
+                .importPackages("java", "javax", "jdk", "sun");
+    }
+
+    @Benchmark
+    public JavaClasses importArchUnit() {
+        return importArchUnitClasses();
+    }
+}
@@ -0,0 +1,106 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.tngtech.archunit.benchmarks.ArchUnitClasses.importArchUnitClasses;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
+import static com.tngtech.archunit.library.Architectures.onionArchitecture;
+import static com.tngtech.archunit.library.GeneralCodingRules.NO_CLASSES_SHOULD_ACCESS_STANDARD_STREAMS;
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+
+/**
+ * Measures the evaluation of representative rules against the (already imported) classes of ArchUnit itself.
+ * Most of these rules are violated, so the creation of violation messages is part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RuleEvaluationBenchmark {
+    private static final ArchRule CLASS_NAMING_RULE = classes()
+            .that().implement(ArchRule.class)
+            .should().haveSimpleNameEndingWith("Rule");
+
+    private static final ArchRule DEPENDENCY_RULE = noClasses()
+            .that().resideInAPackage("..core..")
+            .should().dependOnClassesThat().resideInAPackage("..library..");
+
+    private static final ArchRule METHOD_RULE = methods()
+            .that().arePublic()
+            .should().notBeDeclaredIn(Object.class);
+
+    private static final ArchRule LAYERED_ARCHITECTURE = layeredArchitecture()
+            .layer("Base").definedBy("com.tngtech.archunit.base..")
+            .layer("Core").definedBy("com.tngtech.archunit.core..")
+            .layer("Lang").definedBy("com.tngtech.archunit.lang..")
+            .layer("Library").definedBy("com.tngtech.archunit.library..")
+            .whereLayer("Library").mayNotBeAccessedByAnyLayer()
+            .whereLayer("Lang").mayOnlyBeAccessedByLayers("Library")
+            .whereLayer("Core").mayOnlyBeAccessedByLayers("Lang", "Library");
+
+    private static final ArchRule ONION_ARCHITECTURE = onionArchitecture()
+            .domainModels("com.tngtech.archunit.core.domain..")
+            .domainServices("com.tngtech.archunit.base..")
+            .applicationServices("com.tngtech.archunit.lang..")
+            .adapter("importer", "com.tngtech.archunit.core.importer..")
+            .adapter("library", "com.tngtech.archunit.library..");
+
+    private static final ArchRule SLICE_CYCLES = slices()
+            .matching("com.tngtech.archunit.(**)")
+            .should().beFreeOfCycles();
+
+    private JavaClasses classes;
+
+    @Setup
+    public void setUp() {
+        classes = importArchUnitClasses();
+    }
+
+    @Benchmark
+    public EvaluationResult classNaming() {
+        return CLASS_NAMING_RULE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult classDependencies() {
+        return DEPENDENCY_RULE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult methodDeclarations() {
+        return METHOD_RULE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult accessOfStandardStreams() {
+        return NO_CLASSES_SHOULD_ACCESS_STANDARD_STREAMS.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult layers() {
+        return LAYERED_ARCHITECTURE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult onion() {
+        return ONION_ARCHITECTURE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult sliceCycles() {
+        return SLICE_CYCLES.evaluate(classes);
+    }
+}
@@ -0,0 +1,84 @@
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.ArchConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+
+/**
+ * Measures cycle detection on synthetic random graphs with a fixed seed, where a higher edge probability
+ * means a denser graph with (exponentially) more cycles. Resides in the package of the cycle detection,
+ * since the graph types are not part of the public API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CycleDetectionBenchmark {
+    private static final long SEED = 0xA4C4;
+
+    @Param({"20", "100", "500"})
+    public int numberOfNodes;
+
+    @Param({"0.05", "0.2"})
+    public double edgeProbability;
+
+    @Param({"100", "10000"})
+    public int maxNumberOfCycles;
+
+    private int[][] edges;
+    private Graph<Integer, String> graph;
+
+    @Setup
+    public void setUp() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(maxNumberOfCycles));
+
+        Random random = new Random(SEED);
+        List<Integer> nodes = new ArrayList<>();
+        List<Edge<Integer, String>> graphEdges = new ArrayList<>();
+        edges = new int[numberOfNodes][];
+        for (int from = 0; from < numberOfNodes; from++) {
+            nodes.add(from);
+            List<Integer> targets = new ArrayList<>();
+            for (int to = 0; to < numberOfNodes; to++) {
+                if (from != to && random.nextDouble() < edgeProbability) {
+                    targets.add(to);
+                    graphEdges.add(new Edge<>(from, to, Collections.singleton(from + " -> " + to)));
+                }
+            }
+            edges[from] = targets.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        graph = new Graph<>();
+        graph.addNodes(nodes);
+        graph.addEdges(graphEdges);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Benchmark
+    public JohnsonCycleFinder.Result findPrimitiveCycles() {
+        return new JohnsonCycleFinder(new PrimitiveGraph(edges)).findCycles();
+    }
+
+    @Benchmark
+    public Graph.Cycles<Integer, String> findCycles() {
+        return graph.findCycles();
+    }
+}
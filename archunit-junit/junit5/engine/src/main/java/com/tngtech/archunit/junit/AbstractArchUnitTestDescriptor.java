@@ -61,6 +61,10 @@ abstract class AbstractArchUnitTestDescriptor extends AbstractTestDescriptor imp
         return skipResult;
     }
 
+    boolean isIgnored() {
+        return skipResult.isSkipped();
+    }
+
     @Override
     public Set<TestTag> getTags() {
         Set<TestTag> result = new HashSet<>(tags);
@@ -17,16 +17,28 @@ package com.tngtech.archunit.junit;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.DelegatingRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.PostProcessingRule;
+import com.tngtech.archunit.lang.RuleBatch;
+import com.tngtech.archunit.library.freeze.ViolationStore;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +50,10 @@ import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.ReflectionUtils.getValueOrThrowException;
 import static com.tngtech.archunit.junit.ReflectionUtils.invokeMethod;
 import static com.tngtech.archunit.junit.ReflectionUtils.withAnnotation;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
 class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements CreatesChildren {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitTestDescriptor.class);
@@ -46,9 +62,15 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
     static final String FIELD_SEGMENT_TYPE = "field";
     static final String METHOD_SEGMENT_TYPE = "method";
 
+    static final String JUNIT_EVALUATE_RULES_IN_BATCH_PROPERTY_NAME = "junit.evaluateRulesInBatch";
+
+    // frozen rules share the configured ViolationStore, which must not be updated by several rules concurrently
+    static final ExclusiveResource VIOLATION_STORE_RESOURCE = new ExclusiveResource(ViolationStore.class.getName(), READ_WRITE);
+
     private final Class<?> testClass;
     @SuppressWarnings("FieldMayBeFinal") // We want to change this in tests
     private ClassCache classCache;
+    private Map<ArchRule, EvaluationResult> batchResults;
 
     private ArchUnitTestDescriptor(ElementResolver resolver, Class<?> testClass, ClassCache classCache) {
         super(resolver.getUniqueId(), testClass.getSimpleName(), ClassSource.from(testClass), testClass);
@@ -134,11 +156,87 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
         return Type.CONTAINER;
     }
 
+    /**
+     * If rules are evaluated in batch, the batch is evaluated by whichever rule of this test class is executed first.
+     * Thus, if any of these rules is frozen, the whole test class needs to hold the lock of the {@link ViolationStore}.
+     */
+    @Override
+    public Set<ExclusiveResource> getExclusiveResources() {
+        return evaluateRulesInBatch() && getDescendants().stream().anyMatch(ArchUnitTestDescriptor::evaluatesFrozenRule)
+                ? singleton(VIOLATION_STORE_RESOURCE)
+                : emptySet();
+    }
+
+    private static boolean evaluatesFrozenRule(TestDescriptor descriptor) {
+        return descriptor instanceof ArchUnitRuleDescriptor && isFrozen(((ArchUnitRuleDescriptor) descriptor).rule);
+    }
+
+    // any rule post processing the complete result of another rule (like FreezingArchRule) might update the ViolationStore
+    private static boolean isFrozen(ArchRule rule) {
+        ArchRule unwrapped = rule;
+        while (unwrapped instanceof DelegatingRule) {
+            unwrapped = ((DelegatingRule) unwrapped).getDelegate();
+        }
+        return unwrapped instanceof PostProcessingRule;
+    }
+
     @Override
     public void after(ArchUnitEngineExecutionContext context) {
+        synchronized (this) {
+            batchResults = null;
+        }
         classCache.clear(testClass);
     }
 
+    /**
+     * If configured via {@value #JUNIT_EVALUATE_RULES_IN_BATCH_PROPERTY_NAME}, all rule fields of this test class
+     * that are going to be executed are evaluated together by a {@link RuleBatch} when the first of them is executed.
+     */
+    synchronized Optional<EvaluationResult> getBatchedResult(ArchRule rule, JavaClasses classes) {
+        if (!evaluateRulesInBatch()) {
+            return Optional.empty();
+        }
+        if (batchResults == null) {
+            batchResults = evaluateBatch(classes);
+        }
+        return Optional.ofNullable(batchResults.get(rule));
+    }
+
+    private Map<ArchRule, EvaluationResult> evaluateBatch(JavaClasses classes) {
+        List<ArchRule> rules = getDescendants().stream()
+                .filter(descriptor -> descriptor instanceof ArchUnitRuleDescriptor && !isIgnoredBelowThis(descriptor))
+                .map(descriptor -> ((ArchUnitRuleDescriptor) descriptor).rule)
+                .collect(toList());
+        Map<ArchRule, EvaluationResult> result = new IdentityHashMap<>();
+        try {
+            List<EvaluationResult> evaluationResults = RuleBatch.of(rules).evaluate(classes);
+            for (int i = 0; i < rules.size(); i++) {
+                result.put(rules.get(i), evaluationResults.get(i));
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Evaluating the rules of {} in batch failed, falling back to evaluating each rule on its own", testClass.getName(), e);
+            result.clear();
+        }
+        return result;
+    }
+
+    private boolean isIgnoredBelowThis(TestDescriptor descriptor) {
+        Optional<TestDescriptor> current = Optional.of(descriptor);
+        while (current.isPresent() && current.get() != this) {
+            if (current.get() instanceof AbstractArchUnitTestDescriptor && ((AbstractArchUnitTestDescriptor) current.get()).isIgnored()) {
+                return true;
+            }
+            current = current.get().getParent();
+        }
+        return false;
+    }
+
+    private static boolean evaluateRulesInBatch() {
+        String evaluateRulesInBatch = ArchConfiguration.get()
+                .getPropertyOrDefault(JUNIT_EVALUATE_RULES_IN_BATCH_PROPERTY_NAME, Boolean.FALSE.toString());
+        return Boolean.parseBoolean(evaluateRulesInBatch);
+    }
+
     private static class ArchUnitRuleDescriptor extends AbstractArchUnitTestDescriptor {
         private final ArchRule rule;
         private final Supplier<JavaClasses> classes;
@@ -154,11 +252,31 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
             return Type.TEST;
         }
 
+        @Override
+        public Set<ExclusiveResource> getExclusiveResources() {
+            return evaluatesFrozenRule(this) ? singleton(VIOLATION_STORE_RESOURCE) : emptySet();
+        }
+
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
-            rule.check(classes.get());
+            JavaClasses javaClasses = classes.get();
+            Optional<EvaluationResult> batchedResult = findTestClassDescriptor()
+                    .flatMap(testClassDescriptor -> testClassDescriptor.getBatchedResult(rule, javaClasses));
+            if (batchedResult.isPresent()) {
+                ArchRule.Assertions.checkEvaluated(rule, javaClasses, batchedResult.get());
+            } else {
+                rule.check(javaClasses);
+            }
             return context;
         }
+
+        private Optional<ArchUnitTestDescriptor> findTestClassDescriptor() {
+            Optional<TestDescriptor> current = getParent();
+            while (current.isPresent() && !(current.get() instanceof ArchUnitTestDescriptor)) {
+                current = current.get().getParent();
+            }
+            return current.map(ArchUnitTestDescriptor.class::cast);
+        }
     }
 
     private static class ArchUnitMethodDescriptor extends AbstractArchUnitTestDescriptor {
@@ -23,10 +23,12 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.Filter;
@@ -39,7 +41,11 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
 
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllFields;
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
@@ -59,10 +65,20 @@ import static java.util.stream.Collectors.toList;
  *     public static final ArchRule myRule = classes()...
  * }
  * </code></pre>
+ * By default all tests are executed sequentially. Configuring {@value #JUNIT_EXECUTION_PARALLELISM_PROPERTY_NAME}
+ * with a value greater than 1 executes test classes and rules concurrently with the given number of threads.
+ * Otherwise, the engine follows the configuration parameters of JUnit Jupiter, i.e. tests are executed concurrently if
+ * {@value #JUPITER_PARALLEL_EXECUTION_ENABLED_PARAMETER_NAME} is {@code true} and
+ * {@value #JUPITER_PARALLEL_EXECUTION_MODE_PARAMETER_NAME} is {@code concurrent}, using the strategy configured by
+ * the parameters starting with {@value #JUPITER_PARALLEL_EXECUTION_CONFIG_PREFIX}.
  */
 @Internal
 public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEngineExecutionContext> {
     static final String UNIQUE_ID = "archunit";
+    static final String JUNIT_EXECUTION_PARALLELISM_PROPERTY_NAME = "junit.executionParallelism";
+    static final String JUPITER_PARALLEL_EXECUTION_ENABLED_PARAMETER_NAME = "junit.jupiter.execution.parallel.enabled";
+    static final String JUPITER_PARALLEL_EXECUTION_MODE_PARAMETER_NAME = "junit.jupiter.execution.parallel.mode.default";
+    static final String JUPITER_PARALLEL_EXECUTION_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
     private SharedCache cache = new SharedCache(); // NOTE: We want to change this in tests -> no static/final reference
 
@@ -193,6 +209,74 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         return new ArchUnitEngineExecutionContext();
     }
 
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        int parallelism = getExecutionParallelism();
+        if (parallelism > 1) {
+            return new ForkJoinPoolHierarchicalTestExecutorService(new FixedParallelism(parallelism));
+        }
+        ConfigurationParameters parameters = request.getConfigurationParameters();
+        if (isJupiterParallelExecutionEnabled(parameters)) {
+            ConfigurationParameters parallelExecutionConfig = new PrefixedConfigurationParameters(parameters, JUPITER_PARALLEL_EXECUTION_CONFIG_PREFIX);
+            return new ForkJoinPoolHierarchicalTestExecutorService(parallelExecutionConfig);
+        }
+        return super.createExecutorService(request);
+    }
+
+    // like JUnit Jupiter, tests are only executed concurrently if the default execution mode is concurrent as well
+    private static boolean isJupiterParallelExecutionEnabled(ConfigurationParameters parameters) {
+        boolean enabled = parameters.getBoolean(JUPITER_PARALLEL_EXECUTION_ENABLED_PARAMETER_NAME).orElse(false);
+        Optional<String> defaultMode = parameters.get(JUPITER_PARALLEL_EXECUTION_MODE_PARAMETER_NAME);
+        return enabled && defaultMode.isPresent() && defaultMode.get().trim().equalsIgnoreCase("concurrent");
+    }
+
+    private static int getExecutionParallelism() {
+        String parallelism = ArchConfiguration.get().getPropertyOrDefault(JUNIT_EXECUTION_PARALLELISM_PROPERTY_NAME, "1");
+        try {
+            return Integer.parseInt(parallelism.trim());
+        } catch (NumberFormatException e) {
+            throw new ArchTestInitializationException(e, "Property %s must be an integer, but was '%s'",
+                    JUNIT_EXECUTION_PARALLELISM_PROPERTY_NAME, parallelism);
+        }
+    }
+
+    // the same values JUnit Jupiter derives from junit.jupiter.execution.parallel.config.fixed.parallelism
+    private static class FixedParallelism implements ParallelExecutionConfiguration {
+        private static final int KEEP_ALIVE_SECONDS = 30;
+        private static final int ADDITIONAL_THREADS_FOR_BLOCKED_WORKERS = 256;
+
+        private final int parallelism;
+
+        FixedParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return parallelism + ADDITIONAL_THREADS_FOR_BLOCKED_WORKERS;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return KEEP_ALIVE_SECONDS;
+        }
+    }
+
     static class SharedCache {
         private static final ClassCache cache = new ClassCache();
 
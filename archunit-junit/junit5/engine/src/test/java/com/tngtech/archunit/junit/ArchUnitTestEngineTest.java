@@ -20,6 +20,7 @@ import com.tngtech.archunit.junit.testexamples.ComplexLegacyRuleLibrary;
 import com.tngtech.archunit.junit.testexamples.ComplexMetaTags;
 import com.tngtech.archunit.junit.testexamples.ComplexRuleLibrary;
 import com.tngtech.archunit.junit.testexamples.ComplexTags;
+import com.tngtech.archunit.junit.testexamples.FrozenRuleField;
 import com.tngtech.archunit.junit.testexamples.FullAnalyzeClassesSpec;
 import com.tngtech.archunit.junit.testexamples.LibraryWithPrivateTests;
 import com.tngtech.archunit.junit.testexamples.SimpleLegacyRuleLibrary;
@@ -62,6 +63,8 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.Node;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
@@ -72,8 +75,13 @@ import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.CLASS_SEGMENT_TYPE;
 import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.FIELD_SEGMENT_TYPE;
+import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.JUNIT_EVALUATE_RULES_IN_BATCH_PROPERTY_NAME;
 import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.METHOD_SEGMENT_TYPE;
+import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.VIOLATION_STORE_RESOURCE;
 import static com.tngtech.archunit.junit.EngineExecutionTestListener.onlyElement;
+import static com.tngtech.archunit.junit.testexamples.FrozenRuleField.DELEGATING_FROZEN_RULE_FIELD_NAME;
+import static com.tngtech.archunit.junit.testexamples.FrozenRuleField.FROZEN_RULE_FIELD_NAME;
+import static com.tngtech.archunit.junit.testexamples.FrozenRuleField.UNFROZEN_RULE_FIELD_NAME;
 import static com.tngtech.archunit.junit.testexamples.TestFieldWithMetaTag.FIELD_WITH_META_TAG_NAME;
 import static com.tngtech.archunit.junit.testexamples.TestFieldWithMetaTags.FIELD_WITH_META_TAGS_NAME;
 import static com.tngtech.archunit.junit.testexamples.TestFieldWithTags.FIELD_WITH_TAG_NAME;
@@ -165,6 +173,39 @@ class ArchUnitTestEngineTest {
             assertClassSource(child, SimpleRuleField.class);
         }
 
+        @Test
+        void a_lock_of_the_violation_store_only_for_frozen_rules() {
+            EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest().withClass(FrozenRuleField.class);
+
+            TestDescriptor descriptor = testEngine.discover(discoveryRequest, engineId);
+
+            UniqueId testClassId = engineId.append(CLASS_SEGMENT_TYPE, FrozenRuleField.class.getName());
+            assertThat(exclusiveResourcesOf(descriptor, testClassId)).isEmpty();
+            assertThat(exclusiveResourcesOf(descriptor, testClassId.append(FIELD_SEGMENT_TYPE, FROZEN_RULE_FIELD_NAME)))
+                    .containsOnly(VIOLATION_STORE_RESOURCE);
+            assertThat(exclusiveResourcesOf(descriptor, testClassId.append(FIELD_SEGMENT_TYPE, UNFROZEN_RULE_FIELD_NAME)))
+                    .isEmpty();
+            assertThat(exclusiveResourcesOf(descriptor, testClassId.append(FIELD_SEGMENT_TYPE, DELEGATING_FROZEN_RULE_FIELD_NAME)))
+                    .containsOnly(VIOLATION_STORE_RESOURCE);
+        }
+
+        @Test
+        void a_lock_of_the_violation_store_for_test_classes_evaluating_frozen_rules_in_batch() {
+            ArchConfiguration.get().setProperty(JUNIT_EVALUATE_RULES_IN_BATCH_PROPERTY_NAME, "true");
+            try {
+                TestDescriptor descriptor = testEngine.discover(new EngineDiscoveryTestRequest()
+                        .withClass(FrozenRuleField.class)
+                        .withClass(SimpleRuleField.class), engineId);
+
+                assertThat(exclusiveResourcesOf(descriptor, engineId.append(CLASS_SEGMENT_TYPE, FrozenRuleField.class.getName())))
+                        .containsOnly(VIOLATION_STORE_RESOURCE);
+                assertThat(exclusiveResourcesOf(descriptor, engineId.append(CLASS_SEGMENT_TYPE, SimpleRuleField.class.getName())))
+                        .isEmpty();
+            } finally {
+                ArchConfiguration.get().reset();
+            }
+        }
+
         @Test
         void multiple_test_classes() {
             EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest()
@@ -881,6 +922,49 @@ class ArchUnitTestEngineTest {
             testListener.verifyViolation(methodRuleInLibrary, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName());
         }
 
+        @Test
+        void rules_in_parallel_if_execution_parallelism_is_configured() {
+            simulateCachedClassesForTest(SimpleRuleLibrary.class, UnwantedClass.CLASS_VIOLATING_RULES);
+            simulateCachedClassesForTest(SimpleRuleField.class, UnwantedClass.CLASS_VIOLATING_RULES);
+            simulateCachedClassesForTest(SimpleRuleMethod.class, UnwantedClass.CLASS_SATISFYING_RULES);
+            ArchConfiguration.get().setProperty(ArchUnitTestEngine.JUNIT_EXECUTION_PARALLELISM_PROPERTY_NAME, "4");
+
+            try {
+                EngineExecutionTestListener testListener = execute(engineId, new EngineDiscoveryTestRequest()
+                        .withClass(SimpleRuleLibrary.class)
+                        .withClass(SimpleRuleField.class)
+                        .withClass(SimpleRuleMethod.class));
+
+                getExpectedIdsForSimpleRuleLibrary(engineId).forEach(testId ->
+                        testListener.verifyViolation(testId, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName()));
+                testListener.verifyViolation(simpleRuleFieldTestId(engineId), UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName());
+                testListener.verifySuccessful(simpleRuleMethodTestId(engineId));
+            } finally {
+                ArchConfiguration.get().reset();
+            }
+        }
+
+        @Test
+        void rules_in_parallel_if_parallel_execution_of_JUnit_Jupiter_is_configured() {
+            simulateCachedClassesForTest(SimpleRuleLibrary.class, UnwantedClass.CLASS_VIOLATING_RULES);
+            simulateCachedClassesForTest(SimpleRuleField.class, UnwantedClass.CLASS_VIOLATING_RULES);
+            simulateCachedClassesForTest(SimpleRuleMethod.class, UnwantedClass.CLASS_SATISFYING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, new EngineDiscoveryTestRequest()
+                    .withConfigurationParameter(ArchUnitTestEngine.JUPITER_PARALLEL_EXECUTION_ENABLED_PARAMETER_NAME, "true")
+                    .withConfigurationParameter(ArchUnitTestEngine.JUPITER_PARALLEL_EXECUTION_MODE_PARAMETER_NAME, "concurrent")
+                    .withConfigurationParameter(ArchUnitTestEngine.JUPITER_PARALLEL_EXECUTION_CONFIG_PREFIX + "strategy", "fixed")
+                    .withConfigurationParameter(ArchUnitTestEngine.JUPITER_PARALLEL_EXECUTION_CONFIG_PREFIX + "fixed.parallelism", "4")
+                    .withClass(SimpleRuleLibrary.class)
+                    .withClass(SimpleRuleField.class)
+                    .withClass(SimpleRuleMethod.class));
+
+            getExpectedIdsForSimpleRuleLibrary(engineId).forEach(testId ->
+                    testListener.verifyViolation(testId, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName()));
+            testListener.verifyViolation(simpleRuleFieldTestId(engineId), UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName());
+            testListener.verifySuccessful(simpleRuleMethodTestId(engineId));
+        }
+
         @Test
         void passes_AnalyzeClasses_to_cache() {
             execute(createEngineId(), FullAnalyzeClassesSpec.class);
@@ -1279,6 +1363,12 @@ class ArchUnitTestEngineTest {
         return result;
     }
 
+    private Set<ExclusiveResource> exclusiveResourcesOf(TestDescriptor rootDescriptor, UniqueId uniqueId) {
+        TestDescriptor descriptor = rootDescriptor.findByUniqueId(uniqueId)
+                .orElseThrow(() -> new AssertionError("No descriptor with id " + uniqueId));
+        return ((Node<?>) descriptor).getExclusiveResources();
+    }
+
     private Set<UniqueId> toUniqueIds(TestDescriptor rootDescriptor) {
         return rootDescriptor.getChildren().stream().map(TestDescriptor::getUniqueId).collect(toSet());
     }
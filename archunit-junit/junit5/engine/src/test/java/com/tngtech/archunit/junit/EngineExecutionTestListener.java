@@ -2,6 +2,7 @@ package com.tngtech.archunit.junit;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
@@ -21,9 +22,10 @@ import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
 
 class EngineExecutionTestListener implements EngineExecutionListener {
-    private final List<TestDescriptor> startedTests = new ArrayList<>();
-    private final List<FinishedTest> finishedTests = new ArrayList<>();
-    private final List<SkippedTest> skippedTests = new ArrayList<>();
+    // synchronized, since the engine may report from several threads, if tests are executed in parallel
+    private final List<TestDescriptor> startedTests = Collections.synchronizedList(new ArrayList<>());
+    private final List<FinishedTest> finishedTests = Collections.synchronizedList(new ArrayList<>());
+    private final List<SkippedTest> skippedTests = Collections.synchronizedList(new ArrayList<>());
 
     @Override
     public void dynamicTestRegistered(TestDescriptor testDescriptor) {
@@ -0,0 +1,69 @@
+package com.tngtech.archunit.junit.testexamples;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.AnalyzeClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.DelegatingRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import static com.tngtech.archunit.library.freeze.FreezingArchRule.freeze;
+
+@AnalyzeClasses(packages = "some.dummy.package")
+public class FrozenRuleField {
+    @ArchTest
+    public static final ArchRule frozen_rule = freeze(RuleThatFails.on(UnwantedClass.CLASS_VIOLATING_RULES));
+
+    @ArchTest
+    public static final ArchRule unfrozen_rule = RuleThatFails.on(UnwantedClass.CLASS_VIOLATING_RULES);
+
+    @ArchTest
+    public static final ArchRule delegating_frozen_rule = new SimpleDelegatingRule(freeze(RuleThatFails.on(UnwantedClass.CLASS_VIOLATING_RULES)));
+
+    public static final String FROZEN_RULE_FIELD_NAME = "frozen_rule";
+    public static final String UNFROZEN_RULE_FIELD_NAME = "unfrozen_rule";
+    public static final String DELEGATING_FROZEN_RULE_FIELD_NAME = "delegating_frozen_rule";
+
+    private static class SimpleDelegatingRule implements ArchRule, DelegatingRule {
+        private final ArchRule delegate;
+
+        SimpleDelegatingRule(ArchRule delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ArchRule getDelegate() {
+            return delegate;
+        }
+
+        @Override
+        public void check(JavaClasses classes) {
+            delegate.check(classes);
+        }
+
+        @Override
+        public ArchRule because(String reason) {
+            return delegate.because(reason);
+        }
+
+        @Override
+        public ArchRule withMaxViolations(int maxViolations) {
+            return delegate.withMaxViolations(maxViolations);
+        }
+
+        @Override
+        public EvaluationResult evaluate(JavaClasses classes) {
+            return delegate.evaluate(classes);
+        }
+
+        @Override
+        public ArchRule as(String newDescription) {
+            return delegate.as(newDescription);
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
@@ -50,6 +51,10 @@ import static com.tngtech.archunit.junit.ReflectionUtils.newInstanceOf;
  * may dramatically reduce performance, if multiple test classes are executed.
  * The cache will hold imported classes as long as there is sufficient memory, and reuse them, if the same
  * locations (i.e. URLs) are imported.
+ * <br><br>
+ * The cache may be used concurrently, e.g. if rules are executed in parallel. The classes for one test class
+ * are imported only once, all concurrent requests for the same test class wait for this import to finish.
+ * Once a test class has finished and is cleared, neither its classes nor its import lock are retained.
  */
 class ClassCache {
     @VisibleForTesting
@@ -62,6 +67,8 @@ class ClassCache {
                     return new LazyJavaClasses(key.locations, key.importOptionTypes);
                 }
             });
+    @VisibleForTesting
+    final ConcurrentMap<Class<?>, Object> importLocksByTest = new ConcurrentHashMap<>();
 
     private CacheClassFileImporter cacheClassFileImporter = new CacheClassFileImporter();
 
@@ -69,22 +76,37 @@ class ClassCache {
         checkNotNull(testClass);
         checkNotNull(classAnalysisRequest);
 
-        if (cachedByTest.containsKey(testClass)) {
-            return cachedByTest.get(testClass);
+        JavaClasses cached = cachedByTest.get(testClass);
+        if (cached != null) {
+            return cached;
         }
 
-        LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
+        synchronized (importLockFor(testClass)) {
+            cached = cachedByTest.get(testClass);
+            if (cached != null) {
+                return cached;
+            }
+
+            LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
 
-        JavaClasses classes = classAnalysisRequest.getCacheMode() == FOREVER
-                ? cachedByLocations.getUnchecked(locations).get()
-                : new LazyJavaClasses(locations.locations, locations.importOptionTypes).get();
+            JavaClasses classes = classAnalysisRequest.getCacheMode() == FOREVER
+                    ? cachedByLocations.getUnchecked(locations).get()
+                    : new LazyJavaClasses(locations.locations, locations.importOptionTypes).get();
+
+            cachedByTest.put(testClass, classes);
+            return classes;
+        }
+    }
 
-        cachedByTest.put(testClass, classes);
-        return classes;
+    private Object importLockFor(Class<?> testClass) {
+        Object newLock = new Object();
+        Object existingLock = importLocksByTest.putIfAbsent(testClass, newLock);
+        return existingLock != null ? existingLock : newLock;
     }
 
     void clear(Class<?> testClass) {
         cachedByTest.remove(testClass);
+        importLocksByTest.remove(testClass);
     }
 
     private class LazyJavaClasses {
@@ -2,7 +2,12 @@ package com.tngtech.archunit.junit;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -90,6 +95,29 @@ public class ClassCacheTest {
         verifyNumberOfImports(2);
     }
 
+    @Test
+    public void imports_classes_only_once_for_concurrent_requests_of_the_same_test() throws Exception {
+        final ClassAnalysisRequest request = analyzePackages("com.tngtech.archunit.junit").withCacheMode(PER_CLASS);
+        Callable<JavaClasses> getClasses = new Callable<JavaClasses>() {
+            @Override
+            public JavaClasses call() {
+                return cache.getClassesToAnalyzeFor(TestClass.class, request);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JavaClasses>> results = executor.invokeAll(Collections.nCopies(8, getClasses));
+            for (Future<JavaClasses> result : results) {
+                assertThat(result.get()).isSameAs(results.get(0).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verifyNumberOfImports(1);
+    }
+
     @Test
     public void filters_jars_relative_to_class() {
         JavaClasses classes = cache.getClassesToAnalyzeFor(TestClass.class, analyzePackagesOf(Rule.class));
@@ -201,6 +229,16 @@ public class ClassCacheTest {
         assertThat(cache.cachedByTest).isEmpty();
     }
 
+    @Test
+    public void releases_import_lock_of_test_class_on_clear() {
+        cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit"));
+        assertThat(cache.importLocksByTest).containsOnlyKeys(TestClass.class);
+
+        cache.clear(TestClass.class);
+
+        assertThat(cache.importLocksByTest).isEmpty();
+    }
+
     private TestAnalysisRequest analyzePackages(String packages) {
         return new TestAnalysisRequest().withPackages(packages);
     }
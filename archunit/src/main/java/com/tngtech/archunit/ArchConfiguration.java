@@ -29,11 +29,13 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
@@ -50,8 +52,31 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String PARALLELISM = "parallelism";
+    @Internal
+    public static final String IMPORT_PARALLELISM = "importParallelism";
+    @Internal
+    public static final String IMPORT_CACHE_DIRECTORY = "importCacheDirectory";
+    @Internal
+    public static final String IMPORT_DEPTH = "importDepth";
+    @Internal
+    public static final String IMPORT_ACCESSES_LAZILY = "importAccessesLazily";
+    @Internal
+    public static final String IMPORT_JAR_FILES_DIRECTLY = "importJarFilesDirectly";
+    @Internal
+    public static final String RULE_EVALUATION_PARALLELISM = "ruleEvaluationParallelism";
+    @Internal
+    public static final String RULE_EVALUATION_VIOLATIONS_ONLY = "ruleEvaluationViolationsOnly";
+    @Internal
+    public static final String RULE_EVALUATION_MAX_VIOLATIONS = "ruleEvaluationMaxViolations";
+    @Internal
+    public static final String METRICS_PARALLELISM = "metricsParallelism";
     private static final String EXTENSION_PREFIX = "extension";
 
+    // the names of com.tngtech.archunit.core.domain.ImportDepth, which this class must not depend on
+    static final Set<String> IMPORT_DEPTH_NAMES = ImmutableSet.of("DECLARATIONS_ONLY", "DECLARATIONS_AND_ACCESSES", "FULL");
+
     private static final Logger LOG = LoggerFactory.getLogger(ArchConfiguration.class);
 
     private static final Supplier<ArchConfiguration> INSTANCE = Suppliers.memoize(new Supplier<ArchConfiguration>() {
@@ -120,6 +145,203 @@ public final class ArchConfiguration {
         properties.setProperty(ENABLE_MD5_IN_CLASS_SOURCES, String.valueOf(enabled));
     }
 
+    /**
+     * @return The number of threads ArchUnit uses for any work it can do concurrently (compare {@value PARALLELISM}),
+     *         unless a more specific parallelism like {@value IMPORT_PARALLELISM} is configured.
+     *         A value of {@code 1} (the default) means that all work is done sequentially within the calling thread.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getParallelism() {
+        return getPositiveInt(PARALLELISM);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        properties.setProperty(PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @param propertyName The name of a property configuring the number of threads for a specific kind of work,
+     *                     e.g. {@code cycles.detectionParallelism}
+     * @return The configured value of this property, or {@link #getParallelism()}, if this property is not configured
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getParallelism(String propertyName) {
+        return getPositiveInt(properties.containsKey(propertyName) ? propertyName : PARALLELISM);
+    }
+
+    private int getPositiveInt(String propertyName) {
+        String value = properties.getProperty(propertyName).trim();
+        try {
+            int result = Integer.parseInt(value);
+            checkArgument(result > 0, "Property %s must be positive, but was %s", propertyName, result);
+            return result;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Property %s must be an integer, but was '%s'", propertyName, value), e);
+        }
+    }
+
+    /**
+     * @return The number of threads used to parse class files during the import (compare {@link #getParallelism(String)}).
+     *         A value of {@code 1} means that all class files are parsed sequentially within the importing thread.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getImportParallelism() {
+        return getParallelism(IMPORT_PARALLELISM);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Import parallelism must be positive, but was %s", parallelism);
+        properties.setProperty(IMPORT_PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @return The name of the {@link com.tngtech.archunit.core.domain.ImportDepth ImportDepth} that determines how much of
+     *         each class file is parsed during the import (compare {@value IMPORT_DEPTH}). The default is {@code FULL}.
+     * @throws IllegalArgumentException if the configured value is no valid name of an
+     *         {@link com.tngtech.archunit.core.domain.ImportDepth ImportDepth}
+     */
+    @PublicAPI(usage = ACCESS)
+    public String getImportDepth() {
+        return checkImportDepth(properties.getProperty(IMPORT_DEPTH).trim());
+    }
+
+    /**
+     * @param importDepthName The name of the {@link com.tngtech.archunit.core.domain.ImportDepth ImportDepth} to use,
+     *                        e.g. {@code DECLARATIONS_ONLY}
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setImportDepth(String importDepthName) {
+        properties.setProperty(IMPORT_DEPTH, checkImportDepth(checkNotNull(importDepthName).trim()));
+    }
+
+    private String checkImportDepth(String importDepthName) {
+        checkArgument(IMPORT_DEPTH_NAMES.contains(importDepthName),
+                "Property %s must be one of %s, but was '%s'", IMPORT_DEPTH, IMPORT_DEPTH_NAMES, importDepthName);
+        return importDepthName;
+    }
+
+    /**
+     * @return {@code true}, if the field accesses, method calls and constructor calls of imported code units are only
+     *         created once they are requested for the first time (compare {@value IMPORT_ACCESSES_LAZILY}).
+     *         This speeds up imports for rules that never look at accesses. The default is {@code false}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean importAccessesLazily() {
+        return Boolean.parseBoolean(properties.getProperty(IMPORT_ACCESSES_LAZILY));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportAccessesLazily(boolean lazily) {
+        properties.setProperty(IMPORT_ACCESSES_LAZILY, String.valueOf(lazily));
+    }
+
+    /**
+     * @return {@code true}, if class files of local JAR files are read directly from the archive by positional reads of the file,
+     *         instead of via the URL handling of the JDK (compare {@value IMPORT_JAR_FILES_DIRECTLY}).
+     *         Any class file that can't be read this way is still read via the JDK. The default is {@code false}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean importJarFilesDirectly() {
+        return Boolean.parseBoolean(properties.getProperty(IMPORT_JAR_FILES_DIRECTLY));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportJarFilesDirectly(boolean directly) {
+        properties.setProperty(IMPORT_JAR_FILES_DIRECTLY, String.valueOf(directly));
+    }
+
+    /**
+     * @return The number of threads used to check the objects of a rule against its condition, if the condition
+     *         supports parallel evaluation (compare {@link com.tngtech.archunit.lang.ArchCondition#supportsParallelEvaluation()}
+     *         and {@link #getParallelism(String)}).
+     *         A value of {@code 1} means that all rules are evaluated sequentially within the calling thread.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getRuleEvaluationParallelism() {
+        return getParallelism(RULE_EVALUATION_PARALLELISM);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setRuleEvaluationParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Rule evaluation parallelism must be positive, but was %s", parallelism);
+        properties.setProperty(RULE_EVALUATION_PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @return {@code true}, if rules only record violations while being evaluated and drop all allowed events
+     *         (compare {@link com.tngtech.archunit.lang.ConditionEvents#recordingViolationsOnly()}).
+     *         The default is {@code false}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isRuleEvaluationViolationsOnly() {
+        return Boolean.parseBoolean(properties.getProperty(RULE_EVALUATION_VIOLATIONS_ONLY));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setRuleEvaluationViolationsOnly(boolean violationsOnly) {
+        properties.setProperty(RULE_EVALUATION_VIOLATIONS_ONLY, String.valueOf(violationsOnly));
+    }
+
+    /**
+     * @return The maximum number of violations after which the evaluation of a rule stops (compare {@value RULE_EVALUATION_MAX_VIOLATIONS}).
+     *         The report of such a rule will then state that the number of violations is truncated.
+     *         If absent (the default), rules are always evaluated completely.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<Integer> getRuleEvaluationMaxViolations() {
+        String maxViolations = properties.getProperty(RULE_EVALUATION_MAX_VIOLATIONS);
+        return maxViolations != null ? Optional.of(Integer.parseInt(maxViolations.trim())) : Optional.<Integer>empty();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setRuleEvaluationMaxViolations(int maxViolations) {
+        checkArgument(maxViolations > 0, "Maximum number of violations must be positive, but was %s", maxViolations);
+        properties.setProperty(RULE_EVALUATION_MAX_VIOLATIONS, String.valueOf(maxViolations));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetRuleEvaluationMaxViolations() {
+        properties.remove(RULE_EVALUATION_MAX_VIOLATIONS);
+    }
+
+    /**
+     * @return The number of threads used to calculate metrics over the transitive dependencies of components,
+     *         like {@link com.tngtech.archunit.library.metrics.LakosMetrics} (compare {@link #getParallelism(String)}).
+     *         A value of {@code 1} means that all metrics are calculated within the calling thread.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMetricsParallelism() {
+        return getParallelism(METRICS_PARALLELISM);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMetricsParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Metrics parallelism must be positive, but was %s", parallelism);
+        properties.setProperty(METRICS_PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @return The directory where the parsed class files of imported JAR files are cached persistently between several runs
+     *         (compare {@value IMPORT_CACHE_DIRECTORY}). If absent (the default), no persistent cache is used.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getImportCacheDirectory() {
+        return Optional.ofNullable(properties.getProperty(IMPORT_CACHE_DIRECTORY));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportCacheDirectory(String directory) {
+        properties.setProperty(IMPORT_CACHE_DIRECTORY, directory);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetImportCacheDirectory() {
+        properties.remove(IMPORT_CACHE_DIRECTORY);
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return Optional.ofNullable(properties.getProperty(CLASS_RESOLVER));
@@ -268,10 +490,15 @@ public final class ArchConfiguration {
     }
 
     private static class PropertiesOverwritableBySystemProperties {
-        private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.of(
-                RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString(),
-                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString()
-        ));
+        private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.<String, String>builder()
+                .put(RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString())
+                .put(ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString())
+                .put(PARALLELISM, "1")
+                .put(IMPORT_DEPTH, "FULL")
+                .put(IMPORT_ACCESSES_LAZILY, Boolean.FALSE.toString())
+                .put(IMPORT_JAR_FILES_DIRECTLY, Boolean.FALSE.toString())
+                .put(RULE_EVALUATION_VIOLATIONS_ONLY, Boolean.FALSE.toString())
+                .build());
 
         private final Properties baseProperties = createProperties(PROPERTY_DEFAULTS);
         private final Properties overwrittenProperties = new Properties();
@@ -105,6 +105,13 @@ public class ArchUnitException extends RuntimeException {
         }
     }
 
+    @Internal
+    public static class ClassFileImportException extends ArchUnitException {
+        public ClassFileImportException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     @Internal
     public static class InvalidSyntaxUsageException extends ArchUnitException {
         public InvalidSyntaxUsageException(String message) {
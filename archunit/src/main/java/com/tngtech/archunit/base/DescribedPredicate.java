@@ -15,11 +15,16 @@
  */
 package com.tngtech.archunit.base;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 
 /**
@@ -56,6 +61,17 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return new OnResultOfPredicate<>(this, function);
     }
 
+    /**
+     * @return A predicate with the same description that remembers the result for each object it was applied to,
+     *         so repeated checks of the same object (e.g. the same {@link com.tngtech.archunit.core.domain.JavaClass}
+     *         as origin or target of many dependencies) are simple lookups.<br>
+     *         Objects are identified by identity and only weakly referenced, i.e. this predicate must only be cached
+     *         if its result for an object never changes.
+     */
+    public DescribedPredicate<T> cached() {
+        return new CachedPredicate<>(this);
+    }
+
     /**
      * Workaround for the limitations of the Java type system {@code ->} Can't specify this contravariant type at the language level
      */
@@ -163,6 +179,41 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         }
     }
 
+    private static class CachedPredicate<T> extends DescribedPredicate<T> {
+        private final DescribedPredicate<T> predicate;
+        private final LoadingCache<T, Boolean> results;
+
+        CachedPredicate(final DescribedPredicate<T> predicate) {
+            super(predicate.getDescription());
+            this.predicate = predicate;
+            // weak keys are compared by identity and don't keep imported classes alive
+            this.results = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<T, Boolean>() {
+                @Override
+                public Boolean load(T input) {
+                    return predicate.apply(input);
+                }
+            });
+        }
+
+        @Override
+        public DescribedPredicate<T> cached() {
+            return this;
+        }
+
+        @Override
+        public boolean apply(T input) {
+            if (input == null) {
+                return predicate.apply(null);
+            }
+            try {
+                return results.getUnchecked(input);
+            } catch (UncheckedExecutionException e) {
+                throwIfUnchecked(e.getCause());
+                throw e;
+            }
+        }
+    }
+
     private static class AndPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
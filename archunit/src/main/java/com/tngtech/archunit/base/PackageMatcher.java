@@ -25,6 +25,7 @@ import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.singletonList;
 
 /**
  * Matches packages with a syntax similar to AspectJ. In particular '*' stands for any sequence of
@@ -63,12 +64,19 @@ public final class PackageMatcher {
 
     private final String packageIdentifier;
     private final Pattern packagePattern;
+    // matches packages by segments instead of the regular expression, if the identifier allows it
+    private final Optional<PackagePattern> compiledPattern;
+    private final Optional<PackageMatcherAutomaton> automaton;
 
     private PackageMatcher(String packageIdentifier) {
         validate(packageIdentifier);
 
         this.packageIdentifier = packageIdentifier;
         this.packagePattern = Pattern.compile(convertToRegex(packageIdentifier));
+        this.compiledPattern = PackagePattern.tryCompile(packageIdentifier);
+        this.automaton = compiledPattern.isPresent()
+                ? Optional.of(new PackageMatcherAutomaton(singletonList(compiledPattern.get())))
+                : Optional.<PackageMatcherAutomaton>empty();
     }
 
     private void validate(String packageIdentifier) {
@@ -118,9 +126,19 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
+        if (automaton.isPresent()) {
+            Optional<String[]> segments = PackagePattern.segmentsOf(aPackage);
+            if (segments.isPresent()) {
+                return !automaton.get().getMatchingPatterns(segments.get()).isEmpty();
+            }
+        }
         return packagePattern.matcher(aPackage).matches();
     }
 
+    Optional<PackagePattern> getCompiledPattern() {
+        return compiledPattern;
+    }
+
     /**
      * Returns a matching {@link PackageMatcher.Result Result}
      * against the provided package name. If the package identifier of this {@link PackageMatcher} does not match the
@@ -132,8 +150,15 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
+        if (compiledPattern.isPresent() && compiledPattern.get().supportsGroups()) {
+            Optional<String[]> segments = PackagePattern.segmentsOf(aPackage);
+            if (segments.isPresent()) {
+                Optional<List<String>> groups = compiledPattern.get().match(segments.get());
+                return groups.isPresent() ? Optional.of(new Result(aPackage, groups.get())) : Optional.<Result>empty();
+            }
+        }
         Matcher matcher = packagePattern.matcher(aPackage);
-        return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.<Result>empty();
+        return matcher.matches() ? Optional.of(Result.from(matcher)) : Optional.<Result>empty();
     }
 
     @Override
@@ -142,20 +167,33 @@ public final class PackageMatcher {
     }
 
     public static final class Result {
-        private final Matcher matcher;
+        private final String matchedPackage;
+        private final List<String> groups;
 
-        private Result(Matcher matcher) {
-            this.matcher = matcher;
+        private Result(String matchedPackage, List<String> groups) {
+            this.matchedPackage = matchedPackage;
+            this.groups = groups;
+        }
+
+        private static Result from(Matcher matcher) {
+            List<String> groups = new ArrayList<>();
+            for (int i = 1; i <= matcher.groupCount(); i++) {
+                groups.add(matcher.group(i));
+            }
+            return new Result(matcher.group(), groups);
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.size();
         }
 
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            if (number < 0 || number > groups.size()) {
+                throw new IndexOutOfBoundsException("No group " + number);
+            }
+            return number == 0 ? matchedPackage : groups.get(number - 1);
         }
     }
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tngtech.archunit.base.PackagePattern.Token;
+
+/**
+ * Matches package names against several {@link PackagePattern package patterns} at once. All alternatives of all patterns
+ * are merged into one trie of package segments, i.e. patterns starting with the same segments share the same path.
+ * A package name is then matched by following all possible paths through the trie simultaneously, segment by segment
+ * (like a non-deterministic finite automaton). Literal segments are looked up by hash, so the effort is linear in the
+ * number of segments of the package name and mostly independent of the number of patterns.
+ */
+final class PackageMatcherAutomaton {
+    private final Node root;
+    private final int numberOfNodes;
+
+    PackageMatcherAutomaton(List<PackagePattern> patterns) {
+        NodeFactory nodeFactory = new NodeFactory();
+        root = nodeFactory.create();
+        for (int patternIndex = 0; patternIndex < patterns.size(); patternIndex++) {
+            for (List<Token> alternative : patterns.get(patternIndex).getAlternatives()) {
+                add(alternative, patternIndex, nodeFactory);
+            }
+        }
+        numberOfNodes = nodeFactory.numberOfNodes;
+    }
+
+    private void add(List<Token> tokens, int patternIndex, NodeFactory nodeFactory) {
+        Node node = root;
+        for (Token token : tokens) {
+            node = node.getOrCreateChild(token, nodeFactory);
+        }
+        node.matchingPatterns.set(patternIndex);
+    }
+
+    /**
+     * @param packageSegments The segments of a well-formed package name (compare {@link PackagePattern#segmentsOf(String)})
+     * @return The indexes of all patterns matching the package (in the order the patterns were passed to the constructor)
+     */
+    BitSet getMatchingPatterns(String[] packageSegments) {
+        int[] addedInStep = new int[numberOfNodes];
+        int step = 1;
+        List<Node> currentNodes = new ArrayList<>();
+        addWithAnySegmentsChild(root, currentNodes, addedInStep, step);
+        for (String segment : packageSegments) {
+            step++;
+            List<Node> nextNodes = new ArrayList<>();
+            for (Node node : currentNodes) {
+                node.addSuccessors(segment, nextNodes, addedInStep, step);
+            }
+            if (nextNodes.isEmpty()) {
+                return new BitSet();
+            }
+            currentNodes = nextNodes;
+        }
+
+        BitSet result = new BitSet();
+        for (Node node : currentNodes) {
+            result.or(node.matchingPatterns);
+        }
+        return result;
+    }
+
+    private static void addWithAnySegmentsChild(Node node, List<Node> nodes, int[] addedInStep, int step) {
+        while (node != null && addedInStep[node.id] != step) {
+            addedInStep[node.id] = step;
+            nodes.add(node);
+            // any segments include zero segments, so the child is reachable without consuming a segment
+            node = node.anySegmentsChild;
+        }
+    }
+
+    private static class NodeFactory {
+        private int numberOfNodes = 0;
+
+        Node create() {
+            return new Node(numberOfNodes++);
+        }
+    }
+
+    private static class Node {
+        private final int id;
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private final List<Token> globs = new ArrayList<>();
+        private final List<Node> globChildren = new ArrayList<>();
+        private Node anySegmentsChild;
+        private boolean consumesAnySegments;
+        private final BitSet matchingPatterns = new BitSet();
+
+        private Node(int id) {
+            this.id = id;
+        }
+
+        Node getOrCreateChild(Token token, NodeFactory nodeFactory) {
+            if (token.isAnySegments()) {
+                if (anySegmentsChild == null) {
+                    anySegmentsChild = nodeFactory.create();
+                    anySegmentsChild.consumesAnySegments = true;
+                }
+                return anySegmentsChild;
+            }
+            if (token.isLiteral()) {
+                Node child = literalChildren.get(token.getGlob());
+                if (child == null) {
+                    child = nodeFactory.create();
+                    literalChildren.put(token.getGlob(), child);
+                }
+                return child;
+            }
+            for (int i = 0; i < globs.size(); i++) {
+                if (globs.get(i).getGlob().equals(token.getGlob())) {
+                    return globChildren.get(i);
+                }
+            }
+            Node child = nodeFactory.create();
+            globs.add(token);
+            globChildren.add(child);
+            return child;
+        }
+
+        void addSuccessors(String segment, List<Node> nodes, int[] addedInStep, int step) {
+            if (consumesAnySegments) {
+                addWithAnySegmentsChild(this, nodes, addedInStep, step);
+            }
+            addWithAnySegmentsChild(literalChildren.get(segment), nodes, addedInStep, step);
+            for (int i = 0; i < globs.size(); i++) {
+                if (globs.get(i).matches(segment)) {
+                    addWithAnySegmentsChild(globChildren.get(i), nodes, addedInStep, step);
+                }
+            }
+        }
+    }
+}
@@ -15,7 +15,9 @@
  */
 package com.tngtech.archunit.base;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
@@ -27,14 +29,28 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
     private final Set<PackageMatcher> packageMatchers;
+    // all identifiers that can be compiled to package patterns are matched at once,
+    // only the remaining ones are matched one by one via regular expressions
+    private final PackageMatcherAutomaton automaton;
+    private final Set<PackageMatcher> packageMatchersNotInAutomaton;
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of ['%s']", Joiner.on("', '").join(packageIdentifiers));
         ImmutableSet.Builder<PackageMatcher> matchers = ImmutableSet.builder();
+        List<PackagePattern> compiledPatterns = new ArrayList<>();
+        ImmutableSet.Builder<PackageMatcher> matchersNotInAutomaton = ImmutableSet.builder();
         for (String identifier : packageIdentifiers) {
-            matchers.add(PackageMatcher.of(identifier));
+            PackageMatcher matcher = PackageMatcher.of(identifier);
+            matchers.add(matcher);
+            if (matcher.getCompiledPattern().isPresent()) {
+                compiledPatterns.add(matcher.getCompiledPattern().get());
+            } else {
+                matchersNotInAutomaton.add(matcher);
+            }
         }
         packageMatchers = matchers.build();
+        automaton = new PackageMatcherAutomaton(compiledPatterns);
+        packageMatchersNotInAutomaton = matchersNotInAutomaton.build();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -50,10 +66,19 @@ public final class PackageMatchers extends DescribedPredicate<String> {
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean apply(String aPackage) {
-        boolean matches = false;
-        for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
+        Optional<String[]> segments = PackagePattern.segmentsOf(aPackage);
+        Set<PackageMatcher> matchersToApply = packageMatchers;
+        if (segments.isPresent()) {
+            if (!automaton.getMatchingPatterns(segments.get()).isEmpty()) {
+                return true;
+            }
+            matchersToApply = packageMatchersNotInAutomaton;
         }
-        return matches;
+        for (PackageMatcher matcher : matchersToApply) {
+            if (matcher.matches(aPackage)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A package identifier (compare {@link PackageMatcher}) compiled into a sequence of package segments,
+ * so packages can be matched segment by segment instead of character by character via a regular expression.
+ * Only identifiers consisting of the common constructs are supported, i.e. segments made of word characters
+ * and {@code '*'}, whole segment captures {@code '(*)'} and {@code '(**)'}, and {@code '.'} or {@code '..'}
+ * as separators. For any other identifier (like captures of partial segments) {@link #tryCompile(String)}
+ * returns {@link Optional#empty()} and the regular expression must be used.
+ * <br><br>
+ * The segments reproduce the regular expression exactly. In particular {@code '..'} between two segments
+ * also allows the two segments to be merged into one (e.g. {@code 'a..b'} matches {@code 'ab'}), which
+ * is covered by expanding the identifier into alternatives.
+ */
+final class PackagePattern {
+    private static final int MAX_NUMBER_OF_MERGEABLE_SEPARATORS = 4;
+    private static final String ANY_SEGMENT = "*";
+    private static final String CAPTURE_ONE = "(*)";
+    private static final String CAPTURE_MANY = "(**)";
+
+    private final boolean leadingTwoDots;
+    private final List<String> segments;
+    private final List<Boolean> twoDotsBeforeSegment;
+    private final boolean trailingTwoDots;
+    private final List<List<Token>> alternatives;
+
+    private PackagePattern(boolean leadingTwoDots, List<String> segments, List<Boolean> twoDotsBeforeSegment, boolean trailingTwoDots) {
+        this.leadingTwoDots = leadingTwoDots;
+        this.segments = segments;
+        this.twoDotsBeforeSegment = twoDotsBeforeSegment;
+        this.trailingTwoDots = trailingTwoDots;
+        this.alternatives = expandAlternatives();
+    }
+
+    /**
+     * @return The compiled {@link PackagePattern} or {@link Optional#empty()}, if the (already validated) identifier
+     * uses constructs that are only supported by the regular expression
+     */
+    static Optional<PackagePattern> tryCompile(String packageIdentifier) {
+        if (packageIdentifier.isEmpty() || packageIdentifier.equals("..") || !consistsOfSupportedCharacters(packageIdentifier)) {
+            return Optional.empty();
+        }
+
+        boolean leadingTwoDots = packageIdentifier.startsWith("..");
+        int position = leadingTwoDots ? 2 : 0;
+        List<String> segments = new ArrayList<>();
+        List<Boolean> twoDotsBeforeSegment = new ArrayList<>();
+        boolean twoDotsBefore = false;
+        while (true) {
+            int end = packageIdentifier.indexOf('.', position);
+            String segment = packageIdentifier.substring(position, end < 0 ? packageIdentifier.length() : end);
+            if (!isSupportedSegment(segment)) {
+                return Optional.empty();
+            }
+            segments.add(segment);
+            twoDotsBeforeSegment.add(twoDotsBefore);
+            if (end < 0) {
+                break;
+            }
+            twoDotsBefore = packageIdentifier.startsWith("..", end);
+            position = end + (twoDotsBefore ? 2 : 1);
+            if (twoDotsBefore && position == packageIdentifier.length()) {
+                return create(leadingTwoDots, segments, twoDotsBeforeSegment, true);
+            }
+        }
+        return create(leadingTwoDots, segments, twoDotsBeforeSegment, false);
+    }
+
+    private static Optional<PackagePattern> create(
+            boolean leadingTwoDots, List<String> segments, List<Boolean> twoDotsBeforeSegment, boolean trailingTwoDots) {
+        PackagePattern result = new PackagePattern(leadingTwoDots, segments, twoDotsBeforeSegment, trailingTwoDots);
+        return result.alternatives.isEmpty() ? Optional.<PackagePattern>empty() : Optional.of(result);
+    }
+
+    private static boolean consistsOfSupportedCharacters(String packageIdentifier) {
+        for (int i = 0; i < packageIdentifier.length(); i++) {
+            char c = packageIdentifier.charAt(i);
+            if (!isWordCharacter(c) && c != '.' && c != '*' && c != '(' && c != ')') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupportedSegment(String segment) {
+        if (segment.equals(CAPTURE_ONE) || segment.equals(CAPTURE_MANY)) {
+            return true;
+        }
+        return !segment.isEmpty() && !segment.contains("(") && !segment.contains(")");
+    }
+
+    // the regular expression \w, which the package identifiers are translated to, only covers ASCII characters
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * @return The segments of the package name or {@link Optional#empty()}, if the package name is not well-formed,
+     * i.e. does not consist of non-empty segments of word characters (in which case the regular expression must be used)
+     */
+    static Optional<String[]> segmentsOf(String packageName) {
+        if (packageName.isEmpty()) {
+            return Optional.empty();
+        }
+        int numberOfSegments = 1;
+        char previous = '.';
+        for (int i = 0; i < packageName.length(); i++) {
+            char c = packageName.charAt(i);
+            if (c == '.') {
+                if (previous == '.') {
+                    return Optional.empty();
+                }
+                numberOfSegments++;
+            } else if (!isWordCharacter(c)) {
+                return Optional.empty();
+            }
+            previous = c;
+        }
+        if (previous == '.') {
+            return Optional.empty();
+        }
+
+        String[] result = new String[numberOfSegments];
+        int start = 0;
+        for (int i = 0; i < numberOfSegments - 1; i++) {
+            int end = packageName.indexOf('.', start);
+            result[i] = packageName.substring(start, end);
+            start = end + 1;
+        }
+        result[numberOfSegments - 1] = packageName.substring(start);
+        return Optional.of(result);
+    }
+
+    /**
+     * @return All alternatives of this pattern as sequences of {@link Token tokens}, where a package matches the pattern,
+     * if it matches any of the alternatives. Empty, if there would be too many alternatives.
+     */
+    List<List<Token>> getAlternatives() {
+        return alternatives;
+    }
+
+    private List<List<Token>> expandAlternatives() {
+        int numberOfMergeableSeparators = 0;
+        for (int i = 1; i < segments.size(); i++) {
+            if (twoDotsBeforeSegment.get(i)) {
+                if (segments.get(i - 1).equals(CAPTURE_MANY) || segments.get(i).equals(CAPTURE_MANY)) {
+                    return Collections.emptyList();
+                }
+                numberOfMergeableSeparators++;
+            }
+        }
+        if (numberOfMergeableSeparators > MAX_NUMBER_OF_MERGEABLE_SEPARATORS) {
+            return Collections.emptyList();
+        }
+
+        List<Token> prefix = new ArrayList<>();
+        if (leadingTwoDots) {
+            prefix.add(Token.ANY_SEGMENTS);
+        }
+        List<List<Token>> result = new ArrayList<>();
+        expandAlternatives(1, globOf(segments.get(0)), prefix, result);
+        return ImmutableList.copyOf(result);
+    }
+
+    private void expandAlternatives(int nextSegment, String pendingGlob, List<Token> tokens, List<List<Token>> result) {
+        if (nextSegment == segments.size()) {
+            List<Token> alternative = new ArrayList<>(tokens);
+            addSegment(pendingGlob, alternative);
+            if (trailingTwoDots) {
+                alternative.add(Token.ANY_SEGMENTS);
+            }
+            result.add(ImmutableList.copyOf(alternative));
+            return;
+        }
+
+        String nextGlob = globOf(segments.get(nextSegment));
+        List<Token> separated = new ArrayList<>(tokens);
+        addSegment(pendingGlob, separated);
+        if (twoDotsBeforeSegment.get(nextSegment)) {
+            separated.add(Token.ANY_SEGMENTS);
+        }
+        expandAlternatives(nextSegment + 1, nextGlob, separated, result);
+        if (twoDotsBeforeSegment.get(nextSegment)) {
+            expandAlternatives(nextSegment + 1, pendingGlob + nextGlob, tokens, result);
+        }
+    }
+
+    private static void addSegment(String glob, List<Token> tokens) {
+        if (glob.equals(CAPTURE_MANY)) {
+            tokens.add(Token.segment(ANY_SEGMENT));
+            tokens.add(Token.ANY_SEGMENTS);
+        } else {
+            tokens.add(Token.segment(glob));
+        }
+    }
+
+    private static String globOf(String segment) {
+        return segment.equals(CAPTURE_ONE) ? ANY_SEGMENT : segment;
+    }
+
+    /**
+     * @return {@code true}, if {@link #match(String[])} can determine the captured groups, which is the case if there are
+     * no {@code '..'} between two segments (otherwise the precedence of alternatives would be hard to reproduce)
+     */
+    boolean supportsGroups() {
+        return !twoDotsBeforeSegment.contains(true);
+    }
+
+    /**
+     * Matches the package segments with the same precedence as the regular expression, i.e. {@code '..'} at the start
+     * and {@code '(**)'} consume as many segments as possible.
+     *
+     * @return The captured groups, if the package matches, {@link Optional#empty()} otherwise
+     */
+    Optional<List<String>> match(String[] packageSegments) {
+        List<String> groups = new ArrayList<>();
+        int firstSegment = leadingTwoDots ? packageSegments.length : 0;
+        while (firstSegment >= 0) {
+            if (matchFrom(0, packageSegments, firstSegment, groups)) {
+                return Optional.<List<String>>of(ImmutableList.copyOf(groups));
+            }
+            firstSegment = leadingTwoDots ? firstSegment - 1 : -1;
+        }
+        return Optional.empty();
+    }
+
+    private boolean matchFrom(int segmentIndex, String[] packageSegments, int position, List<String> groups) {
+        if (segmentIndex == segments.size()) {
+            return trailingTwoDots || position == packageSegments.length;
+        }
+        if (position >= packageSegments.length) {
+            return false;
+        }
+
+        String segment = segments.get(segmentIndex);
+        if (segment.equals(CAPTURE_MANY)) {
+            for (int end = packageSegments.length; end > position; end--) {
+                groups.add(Joiner.on('.').join(ImmutableList.copyOf(packageSegments).subList(position, end)));
+                if (matchFrom(segmentIndex + 1, packageSegments, end, groups)) {
+                    return true;
+                }
+                groups.remove(groups.size() - 1);
+            }
+            return false;
+        }
+
+        if (!Token.segment(globOf(segment)).matches(packageSegments[position])) {
+            return false;
+        }
+        if (segment.equals(CAPTURE_ONE)) {
+            groups.add(packageSegments[position]);
+        }
+        if (matchFrom(segmentIndex + 1, packageSegments, position + 1, groups)) {
+            return true;
+        }
+        if (segment.equals(CAPTURE_ONE)) {
+            groups.remove(groups.size() - 1);
+        }
+        return false;
+    }
+
+    /**
+     * Either matches exactly one package segment against a glob, where {@code '*'} stands for one or more characters,
+     * or stands for any number of package segments (including zero).
+     */
+    static final class Token {
+        static final Token ANY_SEGMENTS = new Token(null);
+
+        private static final char ONE_CHARACTER = '?';
+        private static final char ANY_CHARACTERS = '*';
+
+        private final String glob;
+        private final boolean literal;
+        /**
+         * The glob, where each {@code '*'} is replaced by {@link #ONE_CHARACTER} followed by {@link #ANY_CHARACTERS}
+         * (zero or more characters), which allows the usual linear wildcard matching.
+         */
+        private final char[] wildcards;
+
+        private Token(String glob) {
+            this.glob = glob;
+            this.literal = glob != null && !glob.contains(ANY_SEGMENT);
+            this.wildcards = glob != null ? glob.replace(ANY_SEGMENT, "" + ONE_CHARACTER + ANY_CHARACTERS).toCharArray() : null;
+        }
+
+        static Token segment(String glob) {
+            return new Token(glob);
+        }
+
+        boolean isAnySegments() {
+            return glob == null;
+        }
+
+        boolean isLiteral() {
+            return literal;
+        }
+
+        String getGlob() {
+            return glob;
+        }
+
+        boolean matches(String packageSegment) {
+            return literal ? glob.equals(packageSegment) : matchesWildcards(packageSegment);
+        }
+
+        private boolean matchesWildcards(String packageSegment) {
+            int wildcardPosition = 0;
+            int segmentPosition = 0;
+            int lastAnyCharactersPosition = -1;
+            int segmentPositionAtLastAnyCharacters = -1;
+            while (segmentPosition < packageSegment.length()) {
+                if (wildcardPosition < wildcards.length
+                        && (wildcards[wildcardPosition] == ONE_CHARACTER || wildcards[wildcardPosition] == packageSegment.charAt(segmentPosition))) {
+                    wildcardPosition++;
+                    segmentPosition++;
+                } else if (wildcardPosition < wildcards.length && wildcards[wildcardPosition] == ANY_CHARACTERS) {
+                    lastAnyCharactersPosition = wildcardPosition++;
+                    segmentPositionAtLastAnyCharacters = segmentPosition;
+                } else if (lastAnyCharactersPosition >= 0) {
+                    wildcardPosition = lastAnyCharactersPosition + 1;
+                    segmentPosition = ++segmentPositionAtLastAnyCharacters;
+                } else {
+                    return false;
+                }
+            }
+            while (wildcardPosition < wildcards.length && wildcards[wildcardPosition] == ANY_CHARACTERS) {
+                wildcardPosition++;
+            }
+            return wildcardPosition == wildcards.length;
+        }
+
+        @Override
+        public String toString() {
+            return isAnySegments() ? ".." : glob;
+        }
+    }
+}
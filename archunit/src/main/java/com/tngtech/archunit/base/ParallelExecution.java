@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.tngtech.archunit.Internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+
+/**
+ * Executes independent tasks on a fixed number of daemon threads, which only live as long as the tasks are executed.
+ * The results are returned in the order of the tasks, so callers can merge them as if all tasks had been executed sequentially.
+ */
+@Internal
+public final class ParallelExecution {
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private ParallelExecution() {
+    }
+
+    /**
+     * @return Consecutive partitions of the given elements, several for each thread, so threads that finish their partitions early
+     *         can take over remaining ones
+     */
+    public static <T> List<List<T>> partition(List<T> elements, int parallelism) {
+        checkParallelism(parallelism);
+        int partitionSize = Math.max(1, IntMath.divide(elements.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING));
+        return Lists.partition(elements, partitionSize);
+    }
+
+    /**
+     * Calls all tasks with at most {@code parallelism} threads named {@code archunit-<name>-<number>}. If only one thread
+     * would be needed, the tasks are called sequentially within the calling thread instead.
+     * An unchecked exception thrown by any task is rethrown as is, checked exceptions are wrapped
+     * into an {@link IllegalStateException}.
+     *
+     * @return The results of all tasks in the order of the tasks
+     */
+    public static <T> List<T> invokeAll(String name, int parallelism, List<? extends Callable<T>> tasks) {
+        checkParallelism(parallelism);
+        if (parallelism == 1 || tasks.size() <= 1) {
+            return invokeSequentially(name, tasks);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()), new DaemonThreadFactory(name));
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(getUninterruptibly(future));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw failure(name, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> List<T> invokeSequentially(String name, List<? extends Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            try {
+                results.add(task.call());
+            } catch (Exception e) {
+                throw failure(name, e);
+            }
+        }
+        return results;
+    }
+
+    private static RuntimeException failure(String name, Throwable cause) {
+        Throwables.throwIfUnchecked(cause);
+        throw new IllegalStateException(String.format("Executing %s tasks failed", name), cause);
+    }
+
+    private static void checkParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "archunit-" + name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -20,7 +20,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ChainableFunction;
@@ -31,7 +30,6 @@ import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
 /**
@@ -52,48 +50,57 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 public class Dependency implements HasDescription, Comparable<Dependency>, HasSourceCodeLocation {
     private final JavaClass originClass;
     private final JavaClass targetClass;
-    private final int lineNumber;
-    private final String description;
+    // The description is only rendered on demand from the following parts, since there are usually vast amounts of dependencies,
+    // but only few of them are ever reported. The origin is either the originating JavaClass, JavaMember or JavaParameter
+    // (or a fixed description for inheritance), the target is either the AccessTarget, a fixed description or null,
+    // if the target description is simply the bracket formatted name of the target class.
+    private final HasDescription origin;
+    private final String dependencyType;
+    private final HasDescription target;
     private final SourceCodeLocation sourceCodeLocation;
     private final int hashCode;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description) {
-        checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
-                "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
-                description, originClass.getSimpleName(), targetClass.getSimpleName());
+    private Dependency(JavaClass originClass, JavaClass targetClass,
+            HasDescription origin, String dependencyType, HasDescription target, SourceCodeLocation sourceCodeLocation) {
 
         this.originClass = originClass;
         this.targetClass = targetClass;
-        this.lineNumber = lineNumber;
-        this.description = description;
-        this.sourceCodeLocation = SourceCodeLocation.of(originClass, lineNumber);
-        hashCode = Objects.hash(originClass, targetClass, lineNumber, description);
+        this.origin = origin;
+        this.dependencyType = dependencyType;
+        this.target = target;
+        this.sourceCodeLocation = sourceCodeLocation;
+        if (originClass.equals(targetClass) && !targetClass.isPrimitive()) {
+            throw new IllegalArgumentException(String.format("Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
+                    getDescription(), originClass.getSimpleName(), targetClass.getSimpleName()));
+        }
+        hashCode = Objects.hash(originClass, targetClass, sourceCodeLocation.getLineNumber(), originHashCode(origin), dependencyType, target);
     }
 
     static Set<Dependency> tryCreateFromAccess(JavaAccess<?> access) {
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
-        dependencies.addAll(tryCreateDependency(originOwner, targetOwner, access.getDescription(), access.getLineNumber()).asSet());
+                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin(), targetOwner, access.getSourceCodeLocation()));
+        dependencies.addAll(tryCreateDependency(
+                originOwner, access.getOrigin(), access.descriptionVerb(), targetOwner, access.getTarget(), access.getSourceCodeLocation()).asSet());
         return dependencies.build();
     }
 
     static Dependency fromInheritance(JavaClass origin, JavaClass targetSupertype) {
         String originType = origin.isInterface() ? "Interface" : "Class";
-        String originDescription = originType + " " + bracketFormat(origin.getName());
+        HasDescription originDescription = new FixedDescription(originType + " " + bracketFormat(origin.getName()));
 
         String dependencyType = !origin.isInterface() && targetSupertype.isInterface() ? "implements" : "extends";
 
         String targetType = targetSupertype.isInterface() ? "interface" : "class";
-        String targetDescription = bracketFormat(targetSupertype.getName());
-
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
+        HasDescription targetDescription = new FixedDescription(targetType + " " + bracketFormat(targetSupertype.getName()));
 
-        String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, 0);
+        Optional<Dependency> result = tryCreateDependency(
+                origin, originDescription, dependencyType, targetSupertype, targetDescription, origin.getSourceCodeLocation());
 
         if (!result.isPresent()) {
+            String description = originDescription.getDescription() + " " + dependencyType + " " + targetDescription.getDescription()
+                    + " in " + origin.getSourceCodeLocation();
             throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
                     description, origin.getSimpleName(), targetSupertype.getSimpleName()));
         }
@@ -171,21 +178,25 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private static Origin findSuitableOrigin(Object dependencyCause, Object originCandidate) {
         if (originCandidate instanceof JavaMember) {
             JavaMember member = (JavaMember) originCandidate;
-            return new Origin(member.getOwner(), member.getDescription());
+            return new Origin(member.getOwner(), member);
         }
         if (originCandidate instanceof JavaClass) {
             JavaClass clazz = (JavaClass) originCandidate;
-            return new Origin(clazz, clazz.getDescription());
+            return new Origin(clazz, clazz);
         }
         if (originCandidate instanceof JavaParameter) {
             JavaParameter parameter = (JavaParameter) originCandidate;
-            return new Origin(parameter.getOwner().getOwner(), parameter.getDescription());
+            return new Origin(parameter.getOwner().getOwner(), parameter);
         }
         throw new IllegalStateException("Could not find suitable dependency origin for " + dependencyCause);
     }
 
     private static Set<Dependency> tryCreateDependency(JavaClass origin, String dependencyType, JavaClass targetClass) {
-        return tryCreateDependency(origin, origin.getDescription(), dependencyType, targetClass, origin.getSourceCodeLocation());
+        return tryCreateDependency(origin, origin, dependencyType, targetClass, origin.getSourceCodeLocation());
+    }
+
+    private static Set<Dependency> tryCreateDependency(Origin origin, String dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin.originClass, origin.originElement, dependencyType, targetClass, origin.originClass.getSourceCodeLocation());
     }
 
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
@@ -197,47 +208,62 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
             T origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, targetClass, sourceCodeLocation);
+        return tryCreateDependency(origin.getOwner(), origin, dependencyType, targetClass, sourceCodeLocation);
     }
 
     private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
-        String targetDescription = bracketFormat(targetClass.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation.getLineNumber()).asSet());
+                .addAll(createComponentTypeDependencies(originClass, origin, targetClass, sourceCodeLocation));
+        dependencies.addAll(tryCreateDependency(originClass, origin, dependencyType, targetClass, null, sourceCodeLocation).asSet());
         return dependencies.build();
     }
 
     private static Set<Dependency> createComponentTypeDependencies(
-            JavaClass originClass, String originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, HasDescription origin, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
         while (componentType.isPresent()) {
-            String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
-            String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
-            String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation.getLineNumber()).asSet());
+            result.addAll(tryCreateDependency(originClass, origin, "depends on component type", componentType.get(), null, sourceCodeLocation).asSet());
             componentType = componentType.get().tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, int lineNumber) {
+    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, HasDescription origin, String dependencyType,
+            JavaClass targetClass, HasDescription target, SourceCodeLocation sourceCodeLocation) {
+
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.empty();
         }
-        return Optional.of(new Dependency(originClass, targetClass, lineNumber, description));
+        return Optional.of(new Dependency(originClass, targetClass, origin, dependencyType, target, sourceCodeLocation));
     }
 
     private static String bracketFormat(String name) {
         return "<" + name + ">";
     }
 
+    // Parameters do not define equality, but two parameters of the same type within the same code unit have the same description
+    private static int originHashCode(HasDescription origin) {
+        if (origin instanceof JavaParameter) {
+            JavaParameter parameter = (JavaParameter) origin;
+            return Objects.hash(parameter.getOwner(), parameter.getRawType());
+        }
+        return origin.hashCode();
+    }
+
+    private static boolean originEquals(HasDescription origin, HasDescription otherOrigin) {
+        if (origin instanceof JavaParameter && otherOrigin instanceof JavaParameter) {
+            JavaParameter parameter = (JavaParameter) origin;
+            JavaParameter otherParameter = (JavaParameter) otherOrigin;
+            return parameter.getOwner().equals(otherParameter.getOwner())
+                    && parameter.getRawType().equals(otherParameter.getRawType());
+        }
+        return origin.equals(otherOrigin);
+    }
+
     @PublicAPI(usage = ACCESS)
     public JavaClass getOriginClass() {
         return originClass;
@@ -251,7 +277,8 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
-        return description;
+        String targetDescription = target != null ? target.getDescription() : bracketFormat(targetClass.getName());
+        return origin.getDescription() + " " + dependencyType + " " + targetDescription + " in " + sourceCodeLocation;
     }
 
     @Override
@@ -263,10 +290,11 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     @Override
     @PublicAPI(usage = ACCESS)
     public int compareTo(Dependency o) {
-        return ComparisonChain.start()
-                .compare(lineNumber, o.lineNumber)
-                .compare(getDescription(), o.getDescription())
-                .result();
+        int result = Integer.compare(sourceCodeLocation.getLineNumber(), o.sourceCodeLocation.getLineNumber());
+        if (result != 0 || equals(o)) {
+            return result;
+        }
+        return getDescription().compareTo(o.getDescription());
     }
 
     @Override
@@ -283,10 +311,13 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
             return false;
         }
         final Dependency other = (Dependency) obj;
-        return Objects.equals(this.originClass, other.originClass)
+        return this.hashCode == other.hashCode
+                && Objects.equals(this.originClass, other.originClass)
                 && Objects.equals(this.targetClass, other.targetClass)
-                && Objects.equals(this.lineNumber, other.lineNumber)
-                && Objects.equals(this.description, other.description);
+                && this.sourceCodeLocation.getLineNumber() == other.sourceCodeLocation.getLineNumber()
+                && Objects.equals(this.dependencyType, other.dependencyType)
+                && Objects.equals(this.target, other.target)
+                && originEquals(this.origin, other.origin);
     }
 
     @Override
@@ -294,8 +325,8 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         return MoreObjects.toStringHelper(this)
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
-                .add("lineNumber", lineNumber)
-                .add("description", description)
+                .add("lineNumber", sourceCodeLocation.getLineNumber())
+                .add("description", getDescription())
                 .toString();
     }
 
@@ -308,23 +339,42 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         return JavaClasses.of(classes);
     }
 
-    private static class Origin implements HasOwner<JavaClass>, HasDescription {
+    private static class Origin {
         private final JavaClass originClass;
-        private final String originDescription;
+        private final HasDescription originElement;
 
-        private Origin(JavaClass originClass, String originDescription) {
+        private Origin(JavaClass originClass, HasDescription originElement) {
             this.originClass = originClass;
-            this.originDescription = originDescription;
+            this.originElement = originElement;
         }
+    }
 
-        @Override
-        public JavaClass getOwner() {
-            return originClass;
+    private static class FixedDescription implements HasDescription {
+        private final String description;
+
+        private FixedDescription(String description) {
+            this.description = description;
         }
 
         @Override
         public String getDescription() {
-            return originDescription;
+            return description;
+        }
+
+        @Override
+        public int hashCode() {
+            return description.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return description.equals(((FixedDescription) obj).description);
         }
     }
 
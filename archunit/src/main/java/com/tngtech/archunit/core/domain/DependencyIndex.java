@@ -0,0 +1,231 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A compact index of all {@link Dependency dependencies} between the classes of one import.
+ * Each class is identified by an int id and all dependencies are stored once within one array, ordered by origin class.
+ * The adjacency in both directions is kept in compressed sparse row format, i.e. the dependencies from (or to) the class
+ * with id {@code i} are referenced by the positions {@code offsets[i]} until {@code offsets[i + 1]}.<br>
+ * Compared to multimaps keyed by {@link JavaClass} this avoids an entry object per dependency, which makes a considerable
+ * difference for imports with hundreds of thousands of dependencies.
+ */
+final class DependencyIndex {
+    static final DependencyIndex EMPTY = new DependencyIndex(Collections.<JavaClassDependencies>emptyList());
+
+    private static final int NO_ID = -1;
+
+    private final Map<JavaClass, Integer> ids;
+    private final JavaClass[] classes;
+    private final Dependency[] dependencies;
+    private final int[] dependenciesFromOffsets;
+    private final int[] dependenciesToOffsets;
+    private final int[] dependenciesTo;
+    private final int[] targetClassOffsets;
+    private final int[] targetClasses;
+
+    DependencyIndex(List<JavaClassDependencies> allDependencies) {
+        int numberOfClasses = allDependencies.size();
+        ids = new IdentityHashMap<>(numberOfClasses);
+        classes = new JavaClass[numberOfClasses];
+        int numberOfDependencies = 0;
+        for (int id = 0; id < numberOfClasses; id++) {
+            classes[id] = allDependencies.get(id).getOrigin();
+            ids.put(classes[id], id);
+            numberOfDependencies += allDependencies.get(id).getDirectDependenciesFromClass().size();
+        }
+
+        dependencies = new Dependency[numberOfDependencies];
+        dependenciesFromOffsets = new int[numberOfClasses + 1];
+        int[] targetIds = new int[numberOfDependencies];
+        int[] numberOfDependenciesTo = new int[numberOfClasses];
+        int position = 0;
+        for (int id = 0; id < numberOfClasses; id++) {
+            dependenciesFromOffsets[id] = position;
+            for (Dependency dependency : allDependencies.get(id).getDirectDependenciesFromClass()) {
+                int targetId = idOf(dependency.getTargetClass());
+                dependencies[position] = dependency;
+                targetIds[position] = targetId;
+                if (targetId != NO_ID) {
+                    numberOfDependenciesTo[targetId]++;
+                }
+                position++;
+            }
+        }
+        dependenciesFromOffsets[numberOfClasses] = position;
+
+        dependenciesToOffsets = cumulativeOffsets(numberOfDependenciesTo);
+        dependenciesTo = new int[dependenciesToOffsets[numberOfClasses]];
+        int[] nextPosition = Arrays.copyOf(dependenciesToOffsets, numberOfClasses);
+        for (int i = 0; i < numberOfDependencies; i++) {
+            if (targetIds[i] != NO_ID) {
+                dependenciesTo[nextPosition[targetIds[i]]++] = i;
+            }
+        }
+
+        targetClassOffsets = new int[numberOfClasses + 1];
+        targetClasses = collectDistinctTargetClasses();
+    }
+
+    private static int[] cumulativeOffsets(int[] counts) {
+        int[] result = new int[counts.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            result[i + 1] = result[i] + counts[i];
+        }
+        return result;
+    }
+
+    // the base component type, since a dependency on an array of a class also makes the class itself reachable
+    private int[] collectDistinctTargetClasses() {
+        int[] result = new int[dependencies.length];
+        BitSet targetsOfCurrentClass = new BitSet(classes.length);
+        int position = 0;
+        for (int id = 0; id < classes.length; id++) {
+            targetClassOffsets[id] = position;
+            for (int i = dependenciesFromOffsets[id]; i < dependenciesFromOffsets[id + 1]; i++) {
+                int targetId = idOf(dependencies[i].getTargetClass().getBaseComponentType());
+                if (targetId != NO_ID && !targetsOfCurrentClass.get(targetId)) {
+                    targetsOfCurrentClass.set(targetId);
+                    result[position++] = targetId;
+                }
+            }
+            targetsOfCurrentClass.clear();
+        }
+        targetClassOffsets[classes.length] = position;
+        return Arrays.copyOf(result, position);
+    }
+
+    private int idOf(JavaClass javaClass) {
+        Integer id = ids.get(javaClass);
+        return id != null ? id : NO_ID;
+    }
+
+    boolean contains(JavaClass javaClass) {
+        return ids.containsKey(javaClass);
+    }
+
+    Set<Dependency> getDirectDependenciesFrom(JavaClass javaClass) {
+        int id = idOf(javaClass);
+        if (id == NO_ID) {
+            return Collections.emptySet();
+        }
+        return new DependencySet(dependenciesFromOffsets[id], dependenciesFromOffsets[id + 1], null);
+    }
+
+    Set<Dependency> getDirectDependenciesTo(JavaClass javaClass) {
+        int id = idOf(javaClass);
+        if (id == NO_ID) {
+            return Collections.emptySet();
+        }
+        return new DependencySet(dependenciesToOffsets[id], dependenciesToOffsets[id + 1], dependenciesTo);
+    }
+
+    /**
+     * @return All dependencies originating from the given class or any class transitively reachable from it
+     *         via dependencies on imported classes
+     */
+    Collection<Dependency> getTransitiveDependenciesFrom(JavaClass javaClass) {
+        int start = idOf(javaClass);
+        if (start == NO_ID) {
+            return Collections.emptySet();
+        }
+        BitSet visited = new BitSet(classes.length);
+        int[] queue = new int[classes.length];
+        int head = 0;
+        int tail = 0;
+        visited.set(start);
+        queue[tail++] = start;
+        int numberOfDependencies = 0;
+        while (head < tail) {
+            int id = queue[head++];
+            numberOfDependencies += dependenciesFromOffsets[id + 1] - dependenciesFromOffsets[id];
+            for (int i = targetClassOffsets[id]; i < targetClassOffsets[id + 1]; i++) {
+                if (!visited.get(targetClasses[i])) {
+                    visited.set(targetClasses[i]);
+                    queue[tail++] = targetClasses[i];
+                }
+            }
+        }
+        Dependency[] result = new Dependency[numberOfDependencies];
+        int position = 0;
+        for (int i = 0; i < tail; i++) {
+            int id = queue[i];
+            int length = dependenciesFromOffsets[id + 1] - dependenciesFromOffsets[id];
+            System.arraycopy(dependencies, dependenciesFromOffsets[id], result, position, length);
+            position += length;
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * A read only view on a range of the dependency array. Since a class never has the same dependency twice and
+     * dependencies of different origin classes are never equal, the elements of such a range are always distinct.
+     */
+    private class DependencySet extends AbstractSet<Dependency> {
+        private final int from;
+        private final int to;
+        private final int[] indirection;
+
+        DependencySet(int from, int to, int[] indirection) {
+            this.from = from;
+            this.to = to;
+            this.indirection = indirection;
+        }
+
+        @Override
+        public Iterator<Dependency> iterator() {
+            return new Iterator<Dependency>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public Dependency next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int position = next++;
+                    return dependencies[indirection != null ? indirection[position] : position];
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
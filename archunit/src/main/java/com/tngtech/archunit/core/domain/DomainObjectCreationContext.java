@@ -57,9 +57,17 @@ import static com.google.common.base.Preconditions.checkArgument;
 @Internal
 public class DomainObjectCreationContext {
     public static JavaClasses createJavaClasses(
-            Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportContext importContext) {
+            Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportDepth importDepth, ImportContext importContext) {
 
-        return JavaClasses.of(selectedClasses, allClasses, importContext);
+        return JavaClasses.of(selectedClasses, allClasses, importDepth, importContext);
+    }
+
+    public static JavaClasses retainImportRecord(JavaClasses classes, RetainedImportRecord importRecord) {
+        return classes.retaining(importRecord);
+    }
+
+    public static Optional<RetainedImportRecord> getRetainedImportRecord(JavaClasses classes) {
+        return classes.getRetainedImportRecord();
     }
 
     public static JavaClass createJavaClass(JavaClassBuilder builder) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Determines how much of each class file is parsed during the import (compare
+ * {@link com.tngtech.archunit.core.importer.ClassFileImporter#withImportDepth(ImportDepth) ClassFileImporter.withImportDepth(..)}).
+ * Skipping parts of the class files makes the import considerably faster, but of course only works for rules that do not
+ * need the skipped information. Imported {@link JavaClasses} report the depth they have been imported with
+ * via {@link JavaClasses#getImportDepth()}.
+ */
+@PublicAPI(usage = ACCESS)
+public enum ImportDepth {
+    /**
+     * Only imports declarations, i.e. classes with their members, signatures and annotations. The bodies of methods,
+     * constructors and static initializers are skipped completely. Thus, there will be no field accesses,
+     * method calls, constructor calls, instanceof checks or referenced class objects.
+     * Like for {@link #DECLARATIONS_AND_ACCESSES} source file names and line numbers will be absent, too.
+     * <br><br>
+     * Note that rules about accesses or dependencies will not see any access of such classes and thus might pass,
+     * even though the code violates them. Therefore, a warning is logged as soon as accesses of such classes are requested.
+     */
+    @PublicAPI(usage = ACCESS)
+    DECLARATIONS_ONLY(false, false),
+
+    /**
+     * Imports declarations and the bodies of code units, but skips all debug information.
+     * I.e. source file names will be absent and all line numbers will be {@code 0}.
+     * <br><br>
+     * Note that accesses only differing by their line number can then not be told apart anymore. I.e. if a code unit
+     * accesses the same target several times, there will only be one such access. Thus, all accessed targets will be imported,
+     * but not each single access to them.
+     */
+    @PublicAPI(usage = ACCESS)
+    DECLARATIONS_AND_ACCESSES(true, false),
+
+    /**
+     * Imports all information ArchUnit makes use of. This is the default.
+     */
+    @PublicAPI(usage = ACCESS)
+    FULL(true, true);
+
+    private final boolean includesCode;
+    private final boolean includesDebugInformation;
+
+    ImportDepth(boolean includesCode, boolean includesDebugInformation) {
+        this.includesCode = includesCode;
+        this.includesDebugInformation = includesDebugInformation;
+    }
+
+    /**
+     * @return {@code true}, if the bodies of code units and thus accesses, instanceof checks and referenced class objects are imported
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean includesCode() {
+        return includesCode;
+    }
+
+    /**
+     * @return {@code true}, if debug information, i.e. source file names and line numbers, is imported
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean includesDebugInformation() {
+        return includesDebugInformation;
+    }
+}
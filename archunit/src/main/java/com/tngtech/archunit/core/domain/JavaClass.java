@@ -35,6 +35,7 @@ import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.ResolvesTypesViaReflection;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
@@ -1385,6 +1386,10 @@ public class JavaClass
         }
     }
 
+    DependencyIndex getDependencyIndex() {
+        return reverseDependencies.getDependencyIndex();
+    }
+
     void setReverseDependencies(ReverseDependencies reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
         members.setReverseDependencies(reverseDependencies);
@@ -2003,11 +2008,7 @@ public class JavaClass
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(final String[] packageIdentifiers, final String description) {
-            final Set<PackageMatcher> packageMatchers = new HashSet<>();
-            for (String identifier : packageIdentifiers) {
-                packageMatchers.add(PackageMatcher.of(identifier));
-            }
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return new PackageMatchesPredicate(PackageMatchers.of(packageIdentifiers), description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2220,21 +2221,27 @@ public class JavaClass
         }
 
         private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+            private final PackageMatchers packageMatchers;
+            // all classes of a package share the result, so it is only evaluated once per package
+            private final DescribedPredicate<JavaPackage> packageMatches;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(final PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
+                this.packageMatches = new DescribedPredicate<JavaPackage>(packageMatchers.getDescription()) {
+                    @Override
+                    public boolean apply(JavaPackage input) {
+                        return packageMatchers.apply(input.getName());
+                    }
+                }.cached();
             }
 
             @Override
             public boolean apply(JavaClass input) {
-                for (PackageMatcher matcher : packageMatchers) {
-                    if (matcher.matches(input.getPackageName())) {
-                        return true;
-                    }
-                }
-                return false;
+                JavaPackage javaPackage = input.getPackage();
+                return javaPackage != null
+                        ? packageMatches.apply(javaPackage)
+                        : packageMatchers.apply(input.getPackageName());
             }
         }
 
@@ -60,6 +60,10 @@ class JavaClassDependencies {
         });
     }
 
+    JavaClass getOrigin() {
+        return javaClass;
+    }
+
     Set<Dependency> getDirectDependenciesFromClass() {
         return directDependenciesFromClass.get();
     }
@@ -25,6 +25,11 @@ class JavaClassTransitiveDependencies {
     }
 
     static Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
+        DependencyIndex dependencyIndex = javaClass.getDependencyIndex();
+        if (dependencyIndex.contains(javaClass)) {
+            return ImmutableSet.copyOf(dependencyIndex.getTransitiveDependenciesFrom(javaClass));
+        }
+
         ImmutableSet.Builder<Dependency> transitiveDependencies = ImmutableSet.builder();
         Set<JavaClass> analyzedClasses = new HashSet<>();  // to avoid infinite recursion for cyclic dependencies
         addTransitiveDependenciesFrom(javaClass, transitiveDependencies, analyzedClasses);
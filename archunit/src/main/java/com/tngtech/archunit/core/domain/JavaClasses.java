@@ -15,11 +15,16 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.tngtech.archunit.PublicAPI;
@@ -27,6 +32,8 @@ import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
 import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.base.ParallelExecution;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -36,16 +43,21 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 public final class JavaClasses extends ForwardingCollection<JavaClass> implements DescribedIterable<JavaClass>, CanOverrideDescription<JavaClasses> {
     private final ImmutableMap<String, JavaClass> classes;
     private final JavaPackage defaultPackage;
+    private final ImportDepth importDepth;
     private final String description;
+    private final Optional<RetainedImportRecord> retainedImportRecord;
 
-    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes) {
-        this(defaultPackage, classes, "classes");
+    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, ImportDepth importDepth) {
+        this(defaultPackage, classes, importDepth, "classes", Optional.<RetainedImportRecord>empty());
     }
 
-    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, String description) {
+    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, ImportDepth importDepth, String description,
+            Optional<RetainedImportRecord> retainedImportRecord) {
         this.classes = ImmutableMap.copyOf(classes);
         this.defaultPackage = checkNotNull(defaultPackage);
+        this.importDepth = checkNotNull(importDepth);
         this.description = checkNotNull(description);
+        this.retainedImportRecord = checkNotNull(retainedImportRecord);
     }
 
     /**
@@ -56,12 +68,20 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     public JavaClasses that(DescribedPredicate<? super JavaClass> predicate) {
         Map<String, JavaClass> matchingElements = Guava.Maps.filterValues(classes, predicate);
         String newDescription = String.format("%s that %s", description, predicate.getDescription());
-        return new JavaClasses(defaultPackage, matchingElements, newDescription);
+        return new JavaClasses(defaultPackage, matchingElements, importDepth, newDescription, Optional.<RetainedImportRecord>empty());
     }
 
     @Override
     public JavaClasses as(String description) {
-        return new JavaClasses(defaultPackage, classes, description);
+        return new JavaClasses(defaultPackage, classes, importDepth, description, retainedImportRecord);
+    }
+
+    JavaClasses retaining(RetainedImportRecord importRecord) {
+        return new JavaClasses(defaultPackage, classes, importDepth, description, Optional.of(importRecord));
+    }
+
+    Optional<RetainedImportRecord> getRetainedImportRecord() {
+        return retainedImportRecord;
     }
 
     @Override
@@ -148,6 +168,74 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         return defaultPackage;
     }
 
+    /**
+     * @return How much of the class files has been parsed to import these classes. E.g. if the {@link ImportDepth}
+     *         does not {@link ImportDepth#includesCode() include code}, these classes will contain no accesses at all.
+     */
+    @PublicAPI(usage = ACCESS)
+    public ImportDepth getImportDepth() {
+        return importDepth;
+    }
+
+    /**
+     * Delegates to {@link #prewarm(int)} with the number of available processors.
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses prewarm() {
+        return prewarm(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Computes all information of these classes that is otherwise computed lazily on first request up front in parallel. E.g. all dependencies and accesses from and to each class and the
+     * class hierarchy. This is never necessary for correctness, since {@link JavaClasses} can always be read concurrently,
+     * but it allows to do this work as fast as possible before several rules are evaluated concurrently against the same classes
+     * (e.g. by JUnit 5 parallel execution). Otherwise, the first rule that needs some information would compute it
+     * while all other rules needing it would have to wait.
+     *
+     * @param parallelism The number of threads to compute the information with
+     * @return these classes, to allow chaining
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses prewarm(int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        List<JavaClass> allClasses = ImmutableList.copyOf(classes.values());
+        // the reverse dependencies are derived from the dependencies from all classes, so those need to be computed first
+        forEachInParallel(allClasses, parallelism, new Function<JavaClass, Object>() {
+            @Override
+            public Object apply(JavaClass javaClass) {
+                javaClass.getAllMembers();
+                javaClass.getAllRawSuperclasses();
+                javaClass.getAllRawInterfaces();
+                javaClass.getAllSubclasses();
+                return javaClass.getDirectDependenciesFromSelf();
+            }
+        });
+        forEachInParallel(allClasses, parallelism, new Function<JavaClass, Object>() {
+            @Override
+            public Object apply(JavaClass javaClass) {
+                javaClass.getAccessesToSelf();
+                return javaClass.getDirectDependenciesToSelf();
+            }
+        });
+        return this;
+    }
+
+    private static void forEachInParallel(List<JavaClass> classes, int parallelism, final Function<JavaClass, Object> action) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (final List<JavaClass> partition : ParallelExecution.partition(classes, parallelism)) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (JavaClass javaClass : partition) {
+                        action.apply(javaClass);
+                    }
+                    return null;
+                }
+            });
+        }
+        ParallelExecution.invokeAll("prewarm", parallelism, tasks);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(classes.keySet(), description);
@@ -179,7 +267,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         JavaPackage defaultPackage = !Iterables.isEmpty(classes)
                 ? getRoot(classes.iterator().next().getPackage())
                 : JavaPackage.from(classes);
-        return new JavaClasses(defaultPackage, mapping);
+        return new JavaClasses(defaultPackage, mapping, ImportDepth.FULL);
     }
 
     private static JavaPackage getRoot(JavaPackage javaPackage) {
@@ -191,7 +279,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     }
 
     static JavaClasses of(
-            Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportContext importContext) {
+            Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportDepth importDepth, ImportContext importContext) {
 
         ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation();
         JavaPackage defaultPackage = JavaPackage.from(allClasses);
@@ -201,7 +289,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
             reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
         }
         reverseDependenciesCreation.finish(allClasses);
-        return new JavaClasses(defaultPackage, selectedClasses);
+        return new JavaClasses(defaultPackage, selectedClasses, importDepth);
     }
 
     private static void setPackage(JavaClass clazz, JavaPackage defaultPackage) {
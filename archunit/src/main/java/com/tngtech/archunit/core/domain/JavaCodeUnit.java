@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
@@ -61,9 +63,7 @@ public abstract class JavaCodeUnit
     private final Set<ReferencedClassObject> referencedClassObjects;
     private final Set<InstanceofCheck> instanceofChecks;
 
-    private Set<JavaFieldAccess> fieldAccesses = Collections.emptySet();
-    private Set<JavaMethodCall> methodCalls = Collections.emptySet();
-    private Set<JavaConstructorCall> constructorCalls = Collections.emptySet();
+    private Supplier<AccessesFromSelf> accessesFromSelf = Suppliers.ofInstance(AccessesFromSelf.EMPTY);
 
     JavaCodeUnit(JavaCodeUnitBuilder<?, ?> builder) {
         super(builder);
@@ -165,17 +165,17 @@ public abstract class JavaCodeUnit
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccesses() {
-        return fieldAccesses;
+        return accessesFromSelf.get().fieldAccesses;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
-        return methodCalls;
+        return accessesFromSelf.get().methodCalls;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
-        return constructorCalls;
+        return accessesFromSelf.get().constructorCalls;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -237,10 +237,18 @@ public abstract class JavaCodeUnit
         return parameters.getAnnotations();
     }
 
-    void completeAccessesFrom(ImportContext context) {
-        fieldAccesses = context.createFieldAccessesFor(this);
-        methodCalls = context.createMethodCallsFor(this);
-        constructorCalls = context.createConstructorCallsFor(this);
+    // the accesses are only created on first request, which allows the import to skip them completely,
+    // if they are never needed (compare ArchConfiguration.importAccessesLazily())
+    void completeAccessesFrom(final ImportContext context) {
+        accessesFromSelf = Suppliers.memoize(new Supplier<AccessesFromSelf>() {
+            @Override
+            public AccessesFromSelf get() {
+                return new AccessesFromSelf(
+                        context.createFieldAccessesFor(JavaCodeUnit.this),
+                        context.createMethodCallsFor(JavaCodeUnit.this),
+                        context.createConstructorCallsFor(JavaCodeUnit.this));
+            }
+        });
     }
 
     @ResolvesTypesViaReflection
@@ -253,6 +261,21 @@ public abstract class JavaCodeUnit
         return result.toArray(new Class<?>[0]);
     }
 
+    private static class AccessesFromSelf {
+        static final AccessesFromSelf EMPTY = new AccessesFromSelf(
+                Collections.<JavaFieldAccess>emptySet(), Collections.<JavaMethodCall>emptySet(), Collections.<JavaConstructorCall>emptySet());
+
+        private final Set<JavaFieldAccess> fieldAccesses;
+        private final Set<JavaMethodCall> methodCalls;
+        private final Set<JavaConstructorCall> constructorCalls;
+
+        AccessesFromSelf(Set<JavaFieldAccess> fieldAccesses, Set<JavaMethodCall> methodCalls, Set<JavaConstructorCall> constructorCalls) {
+            this.fieldAccesses = fieldAccesses;
+            this.methodCalls = methodCalls;
+            this.constructorCalls = constructorCalls;
+        }
+    }
+
     private static class Parameters extends ForwardingList<JavaParameter> {
         private final List<JavaClass> rawParameterTypes;
         private final List<JavaType> parameterTypes;
@@ -43,12 +43,12 @@ final class ReverseDependencies {
     private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationTypeDependencies;
     private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies;
     private final SetMultimap<JavaClass, InstanceofCheck> instanceofCheckDependencies;
-    private final Supplier<SetMultimap<JavaClass, Dependency>> directDependenciesToClass;
+    private final Supplier<DependencyIndex> dependencyIndex;
 
     private ReverseDependencies(ReverseDependencies.Creation creation) {
-        accessToFieldCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.fieldAccessDependencies.build()));
-        callToMethodCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.methodCallDependencies.build()));
-        callToConstructorCache = CacheBuilder.newBuilder().build(new ConstructorCallLoader(creation.constructorCallDependencies.build()));
+        accessToFieldCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(createFieldAccessDependenciesSupplier(creation.allDependencies)));
+        callToMethodCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(createMethodCallDependenciesSupplier(creation.allDependencies)));
+        callToConstructorCache = CacheBuilder.newBuilder().build(new ConstructorCallLoader(createConstructorCallDependenciesSupplier(creation.allDependencies)));
         this.fieldTypeDependencies = creation.fieldTypeDependencies.build();
         this.methodParameterTypeDependencies = creation.methodParameterTypeDependencies.build();
         this.methodReturnTypeDependencies = creation.methodReturnTypeDependencies.build();
@@ -58,17 +58,18 @@ final class ReverseDependencies {
         this.annotationTypeDependencies = creation.annotationTypeDependencies.build();
         this.annotationParameterTypeDependencies = creation.annotationParameterTypeDependencies.build();
         this.instanceofCheckDependencies = creation.instanceofCheckDependencies.build();
-        this.directDependenciesToClass = createDirectDependenciesToClassSupplier(creation.allDependencies);
+        this.dependencyIndex = createDependencyIndexSupplier(creation.allDependencies);
     }
 
-    private static Supplier<SetMultimap<JavaClass, Dependency>> createDirectDependenciesToClassSupplier(final List<JavaClassDependencies> allDependencies) {
-        return Suppliers.memoize(new Supplier<SetMultimap<JavaClass, Dependency>>() {
+    // accesses are only collected on demand, since they are created lazily themselves (compare JavaCodeUnit)
+    private static Supplier<SetMultimap<JavaClass, JavaFieldAccess>> createFieldAccessDependenciesSupplier(final List<JavaClassDependencies> allDependencies) {
+        return Suppliers.memoize(new Supplier<SetMultimap<JavaClass, JavaFieldAccess>>() {
             @Override
-            public SetMultimap<JavaClass, Dependency> get() {
-                ImmutableSetMultimap.Builder<JavaClass, Dependency> result = ImmutableSetMultimap.builder();
+            public SetMultimap<JavaClass, JavaFieldAccess> get() {
+                ImmutableSetMultimap.Builder<JavaClass, JavaFieldAccess> result = ImmutableSetMultimap.builder();
                 for (JavaClassDependencies dependencies : allDependencies) {
-                    for (Dependency dependency : dependencies.getDirectDependenciesFromClass()) {
-                        result.put(dependency.getTargetClass(), dependency);
+                    for (JavaFieldAccess access : dependencies.getOrigin().getFieldAccessesFromSelf()) {
+                        result.put(access.getTargetOwner(), access);
                     }
                 }
                 return result.build();
@@ -76,6 +77,45 @@ final class ReverseDependencies {
         });
     }
 
+    private static Supplier<SetMultimap<JavaClass, JavaMethodCall>> createMethodCallDependenciesSupplier(final List<JavaClassDependencies> allDependencies) {
+        return Suppliers.memoize(new Supplier<SetMultimap<JavaClass, JavaMethodCall>>() {
+            @Override
+            public SetMultimap<JavaClass, JavaMethodCall> get() {
+                ImmutableSetMultimap.Builder<JavaClass, JavaMethodCall> result = ImmutableSetMultimap.builder();
+                for (JavaClassDependencies dependencies : allDependencies) {
+                    for (JavaMethodCall call : dependencies.getOrigin().getMethodCallsFromSelf()) {
+                        result.put(call.getTargetOwner(), call);
+                    }
+                }
+                return result.build();
+            }
+        });
+    }
+
+    private static Supplier<SetMultimap<String, JavaConstructorCall>> createConstructorCallDependenciesSupplier(final List<JavaClassDependencies> allDependencies) {
+        return Suppliers.memoize(new Supplier<SetMultimap<String, JavaConstructorCall>>() {
+            @Override
+            public SetMultimap<String, JavaConstructorCall> get() {
+                ImmutableSetMultimap.Builder<String, JavaConstructorCall> result = ImmutableSetMultimap.builder();
+                for (JavaClassDependencies dependencies : allDependencies) {
+                    for (JavaConstructorCall call : dependencies.getOrigin().getConstructorCallsFromSelf()) {
+                        result.put(call.getTarget().getFullName(), call);
+                    }
+                }
+                return result.build();
+            }
+        });
+    }
+
+    private static Supplier<DependencyIndex> createDependencyIndexSupplier(final List<JavaClassDependencies> allDependencies) {
+        return Suppliers.memoize(new Supplier<DependencyIndex>() {
+            @Override
+            public DependencyIndex get() {
+                return allDependencies.isEmpty() ? DependencyIndex.EMPTY : new DependencyIndex(allDependencies);
+            }
+        });
+    }
+
     Set<JavaFieldAccess> getAccessesTo(JavaField field) {
         return accessToFieldCache.getUnchecked(field);
     }
@@ -125,15 +165,16 @@ final class ReverseDependencies {
     }
 
     Set<Dependency> getDirectDependenciesTo(JavaClass clazz) {
-        return directDependenciesToClass.get().get(clazz);
+        return dependencyIndex.get().getDirectDependenciesTo(clazz);
+    }
+
+    DependencyIndex getDependencyIndex() {
+        return dependencyIndex.get();
     }
 
     static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation());
 
     static class Creation {
-        private final ImmutableSetMultimap.Builder<JavaClass, JavaFieldAccess> fieldAccessDependencies = ImmutableSetMultimap.builder();
-        private final ImmutableSetMultimap.Builder<JavaClass, JavaMethodCall> methodCallDependencies = ImmutableSetMultimap.builder();
-        private final ImmutableSetMultimap.Builder<String, JavaConstructorCall> constructorCallDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaField> fieldTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethod> methodParameterTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethod> methodReturnTypeDependencies = ImmutableSetMultimap.builder();
@@ -146,7 +187,6 @@ final class ReverseDependencies {
         private final List<JavaClassDependencies> allDependencies = new ArrayList<>();
 
         public void registerDependenciesOf(JavaClass clazz, JavaClassDependencies classDependencies) {
-            registerAccesses(clazz);
             registerFields(clazz);
             registerMethods(clazz);
             registerConstructors(clazz);
@@ -155,18 +195,6 @@ final class ReverseDependencies {
             allDependencies.add(classDependencies);
         }
 
-        private void registerAccesses(JavaClass clazz) {
-            for (JavaFieldAccess access : clazz.getFieldAccessesFromSelf()) {
-                fieldAccessDependencies.put(access.getTargetOwner(), access);
-            }
-            for (JavaMethodCall call : clazz.getMethodCallsFromSelf()) {
-                methodCallDependencies.put(call.getTargetOwner(), call);
-            }
-            for (JavaConstructorCall call : clazz.getConstructorCallsFromSelf()) {
-                constructorCallDependencies.put(call.getTarget().getFullName(), call);
-            }
-        }
-
         private void registerFields(JavaClass clazz) {
             for (JavaField field : clazz.getFields()) {
                 fieldTypeDependencies.put(field.getRawType(), field);
@@ -250,9 +278,9 @@ final class ReverseDependencies {
     }
 
     private static class ResolvingAccessLoader<MEMBER extends JavaMember, ACCESS extends JavaAccess<?>> extends CacheLoader<MEMBER, Set<ACCESS>> {
-        private final SetMultimap<JavaClass, ACCESS> accessesToSelf;
+        private final Supplier<SetMultimap<JavaClass, ACCESS>> accessesToSelf;
 
-        private ResolvingAccessLoader(SetMultimap<JavaClass, ACCESS> accessesToSelf) {
+        private ResolvingAccessLoader(Supplier<SetMultimap<JavaClass, ACCESS>> accessesToSelf) {
             this.accessesToSelf = accessesToSelf;
         }
 
@@ -260,7 +288,7 @@ final class ReverseDependencies {
         public Set<ACCESS> load(MEMBER member) {
             ImmutableSet.Builder<ACCESS> result = ImmutableSet.builder();
             for (final JavaClass javaClass : getPossibleTargetClassesForAccess(member.getOwner())) {
-                for (ACCESS access : this.accessesToSelf.get(javaClass)) {
+                for (ACCESS access : this.accessesToSelf.get().get(javaClass)) {
                     if (access.getTarget().resolve().contains(member)) {
                         result.add(access);
                     }
@@ -278,16 +306,16 @@ final class ReverseDependencies {
     }
 
     private static class ConstructorCallLoader extends CacheLoader<JavaConstructor, Set<JavaConstructorCall>> {
-        private final SetMultimap<String, JavaConstructorCall> accessesToSelf;
+        private final Supplier<SetMultimap<String, JavaConstructorCall>> accessesToSelf;
 
-        private ConstructorCallLoader(SetMultimap<String, JavaConstructorCall> accessesToSelf) {
+        private ConstructorCallLoader(Supplier<SetMultimap<String, JavaConstructorCall>> accessesToSelf) {
             this.accessesToSelf = accessesToSelf;
         }
 
         @Override
         public Set<JavaConstructorCall> load(JavaConstructor member) {
             ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
-            result.addAll(accessesToSelf.get(member.getFullName()));
+            result.addAll(accessesToSelf.get().get(member.getFullName()));
             return result.build();
         }
     }
@@ -106,6 +106,7 @@ public class Source {
          */
         static final Md5sum DISABLED = new Md5sum("DISABLED");
 
+        // MessageDigest is not thread safe, this instance only tells if the algorithm is available
         private static final MessageDigest MD5_DIGEST = getMd5Digest();
 
         private final byte[] md5Bytes;
@@ -173,7 +174,7 @@ public class Source {
             }
 
             Optional<byte[]> bytesFromUri = read(uri);
-            return bytesFromUri.isPresent() ? new Md5sum(bytesFromUri.get(), MD5_DIGEST) : UNDETERMINED;
+            return bytesFromUri.isPresent() ? new Md5sum(bytesFromUri.get(), getMd5Digest()) : UNDETERMINED;
         }
 
         private static Optional<byte[]> read(URI uri) {
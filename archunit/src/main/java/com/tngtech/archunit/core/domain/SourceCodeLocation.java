@@ -72,14 +72,12 @@ public final class SourceCodeLocation {
     private final JavaClass sourceClass;
     private final int lineNumber;
     private final String sourceFileName;
-    private final String description;
 
     private SourceCodeLocation(JavaClass sourceClass, int lineNumber) {
         this.sourceClass = checkNotNull(sourceClass);
         this.lineNumber = lineNumber;
         checkArgument(lineNumber >= 0, "Line number must be non-negative but was " + lineNumber);
         this.sourceFileName = resolveSourceFileName(sourceClass);
-        this.description = formatLocation(sourceFileName, lineNumber);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -122,6 +120,6 @@ public final class SourceCodeLocation {
      */
     @Override
     public String toString() {
-        return description;
+        return formatLocation(sourceFileName, lineNumber);
     }
 }
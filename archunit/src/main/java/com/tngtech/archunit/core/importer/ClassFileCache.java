@@ -0,0 +1,406 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.importer.ClassFileSource.InputStreamSupplier;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Persistent cache of the parsed class files contained in JAR archives, e.g. third party libraries that never change
+ * between two test runs. For each JAR file a bundle is stored within the configured cache directory, which contains
+ * a {@link RecordedClassFile} for each class file of the JAR file. Each record is keyed by the name and the CRC-32 checksum
+ * of its entry, as stored within the central directory of the JAR file. Thus, a changed class file will be parsed again,
+ * while the records of all unchanged class files are reused. Class files with a cached record are not parsed at all,
+ * the recorded result of the first parse is replayed instead.
+ * <br><br>
+ * Since the records contain the complete class files, they do not depend on any {@link ImportOptions}
+ * or {@link com.tngtech.archunit.core.domain.ImportDepth ImportDepth}, those are applied when the bundle is read.
+ * The JAR file and the bundle are each opened once per import, the bundle is mapped into memory and only the records
+ * of the imported class files are read.
+ * <br><br>
+ * If a bundle cannot be created or read (e.g. because it is corrupt or truncated), the class files are read
+ * from the JAR file instead.
+ */
+class ClassFileCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassFileCache.class);
+
+    private static final int MAGIC_NUMBER = 0xA4C41F11;
+    private static final int FORMAT_VERSION = 2;
+    private static final String BUNDLE_FILE_EXTENSION = ".classes";
+    private static final long UNKNOWN_CHECKSUM = -1;
+
+    private final Path directory;
+
+    ClassFileCache(Path directory) {
+        this.directory = directory;
+    }
+
+    static Optional<ClassFileCache> fromConfiguration() {
+        Optional<String> directory = ArchConfiguration.get().getImportCacheDirectory();
+        return directory.isPresent()
+                ? Optional.of(new ClassFileCache(Paths.get(directory.get())))
+                : Optional.<ClassFileCache>empty();
+    }
+
+    /**
+     * @return The class files of the JAR file, which will be replayed from their records within the bundle,
+     *         or {@link Optional#empty()}, if the bundle cannot be created or read. In this case the JAR file itself should be read.
+     */
+    Optional<ClassFileSource> getClassFileSource(File jarFile, NormalizedResourceName path, ImportOptions importOptions) {
+        Path bundleFile = directory.resolve(bundleFileNameOf(jarFile));
+        try (JarFile jar = new JarFile(jarFile)) {
+            Map<String, Long> checksums = checksumsOfClassFiles(jar);
+            Optional<Bundle> bundle = readBundle(bundleFile);
+            if (!bundle.isPresent() || !bundle.get().containsAll(checksums)) {
+                writeBundle(jar, checksums, bundle, bundleFile);
+                bundle = readBundle(bundleFile);
+            }
+            return Optional.<ClassFileSource>of(new FromBundle(jarFile, checksums.keySet(), bundle.get(), path, importOptions));
+        } catch (IOException | RuntimeException e) {
+            LOG.warn(String.format("Couldn't use cached class file bundle %s, reading %s instead", bundleFile, jarFile), e);
+            deleteQuietly(bundleFile);
+            return Optional.empty();
+        }
+    }
+
+    // A broken bundle would otherwise never be replaced, if the JAR file doesn't change
+    private static void deleteQuietly(Path bundleFile) {
+        try {
+            Files.deleteIfExists(bundleFile);
+        } catch (IOException e) {
+            LOG.debug("Couldn't delete class file bundle {}", bundleFile, e);
+        }
+    }
+
+    private String bundleFileNameOf(File jarFile) {
+        return jarFile.getName() + "-" + Hashing.sha256().hashString(jarFile.getAbsolutePath(), StandardCharsets.UTF_8) + BUNDLE_FILE_EXTENSION;
+    }
+
+    private Map<String, Long> checksumsOfClassFiles(JarFile jar) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (ClassFileSource.FileToImport.isRelevant(entry.getName())) {
+                result.put(entry.getName(), entry.getCrc());
+            }
+        }
+        return result;
+    }
+
+    private void writeBundle(JarFile jar, Map<String, Long> checksums, Optional<Bundle> previousBundle, Path bundleFile) throws IOException {
+        LOG.debug("Creating cached class file bundle {} for {}", bundleFile, jar.getName());
+        List<byte[]> records = new ArrayList<>();
+        for (Map.Entry<String, Long> checksum : checksums.entrySet()) {
+            Optional<byte[]> record = previousBundle.isPresent()
+                    ? previousBundle.get().tryGetRecord(checksum.getKey(), checksum.getValue())
+                    : Optional.<byte[]>empty();
+            records.add(record.isPresent() ? record.get() : tryRecord(jar, checksum.getKey()));
+        }
+
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, bundleFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(records.size());
+                Iterator<byte[]> recordIterator = records.iterator();
+                for (Map.Entry<String, Long> checksum : checksums.entrySet()) {
+                    byte[] record = recordIterator.next();
+                    byte[] entryName = checksum.getKey().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(entryName.length);
+                    out.write(entryName);
+                    out.writeLong(checksum.getValue());
+                    out.writeInt(record.length);
+                    out.writeLong(checksumOf(record));
+                }
+                for (byte[] record : records) {
+                    out.write(record);
+                }
+            }
+            moveAtomically(tempFile, bundleFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // A class file that can't be parsed gets an empty record, the import will then report it, when it is read from the JAR file
+    private byte[] tryRecord(JarFile jar, String entryName) throws IOException {
+        byte[] classFile;
+        try (InputStream in = jar.getInputStream(jar.getJarEntry(entryName))) {
+            classFile = ByteStreams.toByteArray(in);
+        }
+        try {
+            return RecordedClassFile.record(classFile);
+        } catch (RuntimeException e) {
+            LOG.debug("Couldn't parse {} of {}, it will not be cached", entryName, jar.getName(), e);
+            return new byte[0];
+        }
+    }
+
+    // Several JVMs might create the same bundle concurrently, whoever comes last simply replaces the file
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    // A missing bundle is simply created, while a corrupt one is replaced
+    private Optional<Bundle> readBundle(Path bundleFile) throws IOException {
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(bundleFile, READ)) {
+            checkValidBundle(channel.size() <= Integer.MAX_VALUE, bundleFile);
+            content = channel.map(READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Bundle.from(content, bundleFile));
+        } catch (IOException | BufferUnderflowException e) {
+            LOG.warn(String.format("Replacing corrupt class file bundle %s", bundleFile), e);
+            return Optional.empty();
+        }
+    }
+
+    private static void checkValidBundle(boolean valid, Path bundleFile) throws IOException {
+        if (!valid) {
+            throw new IOException(String.format("File %s is no valid class file bundle", bundleFile));
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static class Bundle {
+        private final Path bundleFile;
+        private final ByteBuffer content;
+        private final Map<String, IndexEntry> index;
+        private volatile boolean readable = true;
+
+        private Bundle(Path bundleFile, ByteBuffer content, Map<String, IndexEntry> index) {
+            this.bundleFile = bundleFile;
+            this.content = content;
+            this.index = index;
+        }
+
+        boolean containsAll(Map<String, Long> checksums) {
+            for (Map.Entry<String, Long> checksum : checksums.entrySet()) {
+                if (!contains(checksum.getKey(), checksum.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean contains(String entryName, long checksum) {
+            IndexEntry indexEntry = index.get(entryName);
+            return checksum != UNKNOWN_CHECKSUM && indexEntry != null && indexEntry.classFileChecksum == checksum;
+        }
+
+        Optional<byte[]> tryGetRecord(String entryName, long checksum) {
+            return contains(entryName, checksum) ? tryGetRecord(entryName) : Optional.<byte[]>empty();
+        }
+
+        /**
+         * @return The record of the class file, or {@link Optional#empty()}, if the class file couldn't be parsed
+         *         when the bundle was created or if the record doesn't match its checksum.
+         *         Since all records are probably affected by the same problem, the bundle isn't read any further then
+         *         and is deleted to be created again by the next import.
+         */
+        Optional<byte[]> tryGetRecord(String entryName) {
+            IndexEntry indexEntry = index.get(entryName);
+            if (!readable || indexEntry == null || indexEntry.length == 0) {
+                return Optional.empty();
+            }
+            byte[] record = new byte[indexEntry.length];
+            ByteBuffer buffer = content.duplicate();
+            buffer.position(indexEntry.position);
+            buffer.get(record);
+            if (checksumOf(record) != indexEntry.recordChecksum) {
+                readable = false;
+                LOG.warn("Cached class file bundle {} is corrupt, reading class files from the JAR file instead", bundleFile);
+                deleteQuietly(bundleFile);
+                return Optional.empty();
+            }
+            return Optional.of(record);
+        }
+
+        static Bundle from(ByteBuffer content, Path bundleFile) throws IOException {
+            ByteBuffer in = content.duplicate();
+            checkValidBundle(in.getInt() == MAGIC_NUMBER && in.getInt() == FORMAT_VERSION, bundleFile);
+            int numberOfEntries = in.getInt();
+            checkValidBundle(numberOfEntries >= 0 && numberOfEntries <= in.remaining(), bundleFile);
+            List<String> entryNames = new ArrayList<>(numberOfEntries);
+            long[] classFileChecksums = new long[numberOfEntries];
+            int[] lengths = new int[numberOfEntries];
+            long[] recordChecksums = new long[numberOfEntries];
+            for (int i = 0; i < numberOfEntries; i++) {
+                entryNames.add(readString(in, bundleFile));
+                classFileChecksums[i] = in.getLong();
+                lengths[i] = in.getInt();
+                recordChecksums[i] = in.getLong();
+                checkValidBundle(lengths[i] >= 0, bundleFile);
+            }
+
+            Map<String, IndexEntry> index = new HashMap<>();
+            long position = in.position();
+            for (int i = 0; i < numberOfEntries; i++) {
+                index.put(entryNames.get(i), new IndexEntry(classFileChecksums[i], (int) position, lengths[i], recordChecksums[i]));
+                position += lengths[i];
+            }
+            if (position != content.limit()) {
+                throw new IOException(String.format("Class file bundle %s is truncated", bundleFile));
+            }
+            return new Bundle(bundleFile, content, index);
+        }
+
+        private static String readString(ByteBuffer in, Path bundleFile) throws IOException {
+            int length = in.getInt();
+            checkValidBundle(length >= 0 && length <= in.remaining(), bundleFile);
+            byte[] encoded = new byte[length];
+            in.get(encoded);
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class IndexEntry {
+        private final long classFileChecksum;
+        private final int position;
+        private final int length;
+        private final long recordChecksum;
+
+        IndexEntry(long classFileChecksum, int position, int length, long recordChecksum) {
+            this.classFileChecksum = classFileChecksum;
+            this.position = position;
+            this.length = length;
+            this.recordChecksum = recordChecksum;
+        }
+    }
+
+    private static class FromBundle implements ClassFileSource {
+        private final List<ClassFileLocation> classFileLocations = new ArrayList<>();
+
+        FromBundle(File jarFile, Iterable<String> entryNames, Bundle bundle, NormalizedResourceName path, ImportOptions importOptions) {
+            Location jarLocation = Location.of(jarFile.toURI());
+            String prefix = path.toEntryName();
+            for (String entryName : entryNames) {
+                if (!entryName.startsWith(prefix)) {
+                    continue;
+                }
+                URI uri = jarLocation.append(entryName).asURI();
+                if (importOptions.include(Location.of(uri))) {
+                    classFileLocations.add(new CachedClassFileLocation(uri, bundle, entryName));
+                }
+            }
+        }
+
+        @Override
+        public Iterator<ClassFileLocation> iterator() {
+            return classFileLocations.iterator();
+        }
+    }
+
+    /**
+     * A class file of a JAR file, which is replayed from its record within the bundle, if it has one.
+     * Otherwise, or if the record turns out to be corrupt, the class file is read from the JAR file and parsed.
+     */
+    static class CachedClassFileLocation implements ClassFileLocation {
+        private final URI uri;
+        private final Bundle bundle;
+        private final String entryName;
+
+        private CachedClassFileLocation(URI uri, Bundle bundle, String entryName) {
+            this.uri = uri;
+            this.bundle = bundle;
+            this.entryName = entryName;
+        }
+
+        void accept(ClassVisitor visitor, int parsingOptions) throws IOException {
+            Optional<byte[]> record = bundle.tryGetRecord(entryName);
+            if (record.isPresent()) {
+                RecordedClassFile.replay(record.get(), visitor, parsingOptions);
+                return;
+            }
+            try (InputStream in = openStream()) {
+                new ClassReader(in).accept(visitor, parsingOptions);
+            }
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new InputStreamSupplier() {
+                @Override
+                InputStream getInputStream() throws IOException {
+                    return uri.toURL().openStream();
+                }
+            }.get();
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaMember;
 import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.RetainedImportRecord;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaCodeUnitBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaMemberBuilder;
@@ -40,11 +41,12 @@ import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
-class ClassFileImportRecord {
+class ClassFileImportRecord implements RetainedImportRecord {
     private static final JavaClassTypeParametersBuilder NO_TYPE_PARAMETERS =
             new JavaClassTypeParametersBuilder(Collections.<JavaTypeParameterBuilder<JavaClass>>emptyList());
 
     private final Map<String, JavaClass> classes = new HashMap<>();
+    private final Map<String, DomainBuilders.JavaClassBuilder> classBuilders = new HashMap<>();
 
     private final Map<String, String> superclassNamesByOwner = new HashMap<>();
     private final SetMultimap<String, String> interfaceNamesByOwner = HashMultimap.create();
@@ -277,10 +279,96 @@ class ClassFileImportRecord {
         }
     }
 
+    void add(DomainBuilders.JavaClassBuilder classBuilder) {
+        JavaClass javaClass = classBuilder.build();
+        classes.put(javaClass.getName(), javaClass);
+        classBuilders.put(javaClass.getName(), classBuilder);
+    }
+
     Map<String, JavaClass> getClasses() {
         return classes;
     }
 
+    /**
+     * Adds all classes of {@code other}, together with all declarations and accesses recorded for them,
+     * as long as no class with the same name has been recorded before. I.e. merging several records in a fixed order
+     * behaves like sequentially importing the respective class files in that order, where the first class file
+     * of a certain name wins.
+     */
+    void addAllNotYetRecorded(ClassFileImportRecord other) {
+        Set<String> newClassNames = new HashSet<>();
+        for (JavaClass javaClass : other.classes.values()) {
+            if (!classes.containsKey(javaClass.getName())) {
+                newClassNames.add(javaClass.getName());
+                classes.put(javaClass.getName(), javaClass);
+                putIfPresent(classBuilders, other.classBuilders, javaClass.getName());
+            }
+        }
+        addDeclarationsAndAccesses(other, newClassNames);
+    }
+
+    /**
+     * Creates a new record with all declarations and accesses of this record, except for the excluded classes.
+     * In contrast to {@link #addAllNotYetRecorded(ClassFileImportRecord)} all classes are built anew from their recorded
+     * {@link DomainBuilders.JavaClassBuilder}, thus the classes of this record stay untouched if the
+     * new record is completed to a class graph. Classes that have not been added via their builder are omitted.
+     * All other builders are shared with the new record, since building domain objects never modifies a builder.
+     */
+    ClassFileImportRecord copyWithNewClassesExcept(Set<String> excludedClassNames) {
+        ClassFileImportRecord result = new ClassFileImportRecord();
+        Set<String> copiedClassNames = new HashSet<>();
+        for (Map.Entry<String, DomainBuilders.JavaClassBuilder> entry : classBuilders.entrySet()) {
+            if (!excludedClassNames.contains(entry.getKey())) {
+                copiedClassNames.add(entry.getKey());
+                result.add(entry.getValue());
+            }
+        }
+        result.addDeclarationsAndAccesses(this, copiedClassNames);
+        return result;
+    }
+
+    private void addDeclarationsAndAccesses(ClassFileImportRecord other, Set<String> newClassNames) {
+        for (String ownerName : newClassNames) {
+            putIfPresent(superclassNamesByOwner, other.superclassNamesByOwner, ownerName);
+            interfaceNamesByOwner.putAll(ownerName, other.interfaceNamesByOwner.get(ownerName));
+            putIfPresent(typeParametersBuilderByOwner, other.typeParametersBuilderByOwner, ownerName);
+            putIfPresent(genericSuperclassBuilderByOwner, other.genericSuperclassBuilderByOwner, ownerName);
+            putIfPresent(genericInterfaceBuildersByOwner, other.genericInterfaceBuildersByOwner, ownerName);
+            fieldBuildersByOwner.putAll(ownerName, other.fieldBuildersByOwner.get(ownerName));
+            methodBuildersByOwner.putAll(ownerName, other.methodBuildersByOwner.get(ownerName));
+            constructorBuildersByOwner.putAll(ownerName, other.constructorBuildersByOwner.get(ownerName));
+            putIfPresent(staticInitializerBuildersByOwner, other.staticInitializerBuildersByOwner, ownerName);
+            enclosingDeclarationsByOwner.addAll(other.enclosingDeclarationsByOwner, ownerName);
+        }
+        for (Map.Entry<String, DomainBuilders.JavaAnnotationBuilder> entry : other.annotationsByOwner.entries()) {
+            if (newClassNames.contains(getOwnerName(entry.getKey()))) {
+                annotationsByOwner.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<String, DomainBuilders.JavaAnnotationBuilder.ValueBuilder> entry : other.annotationDefaultValuesByOwner.entrySet()) {
+            if (newClassNames.contains(getOwnerName(entry.getKey()))) {
+                annotationDefaultValuesByOwner.put(entry.getKey(), entry.getValue());
+            }
+        }
+        addAccessRecordsOfCallers(rawFieldAccessRecords, other.rawFieldAccessRecords, newClassNames);
+        addAccessRecordsOfCallers(rawMethodCallRecords, other.rawMethodCallRecords, newClassNames);
+        addAccessRecordsOfCallers(rawConstructorCallRecords, other.rawConstructorCallRecords, newClassNames);
+    }
+
+    private static <V> void putIfPresent(Map<String, V> target, Map<String, V> source, String ownerName) {
+        if (source.containsKey(ownerName)) {
+            target.put(ownerName, source.get(ownerName));
+        }
+    }
+
+    private static <RECORD extends RawAccessRecord> void addAccessRecordsOfCallers(Set<RECORD> target, Set<RECORD> source, Set<String> callerClassNames) {
+        for (RECORD record : source) {
+            if (callerClassNames.contains(record.caller.getDeclaringClassName())) {
+                target.add(record);
+            }
+        }
+    }
+
     Set<RawAccessRecord> getAccessRecords() {
         return ImmutableSet.<RawAccessRecord>builder()
                 .addAll(rawFieldAccessRecords)
@@ -305,6 +393,11 @@ class ClassFileImportRecord {
         return declaringClassName + "|" + methodName + "|" + descriptor;
     }
 
+    private static String getOwnerName(String ownerOrMemberKey) {
+        int endOfOwnerName = ownerOrMemberKey.indexOf('|');
+        return endOfOwnerName >= 0 ? ownerOrMemberKey.substring(0, endOfOwnerName) : ownerOrMemberKey;
+    }
+
     private static class EnclosingDeclarationsByInnerClasses {
         private final Map<String, String> innerClassNameToEnclosingClassName = new HashMap<>();
         private final Map<String, CodeUnit> innerClassNameToEnclosingCodeUnit = new HashMap<>();
@@ -325,6 +418,11 @@ class ClassFileImportRecord {
             innerClassNameToEnclosingCodeUnit.put(innerName, codeUnit);
         }
 
+        void addAll(EnclosingDeclarationsByInnerClasses other, String innerName) {
+            putIfPresent(innerClassNameToEnclosingClassName, other.innerClassNameToEnclosingClassName, innerName);
+            putIfPresent(innerClassNameToEnclosingCodeUnit, other.innerClassNameToEnclosingCodeUnit, innerName);
+        }
+
         Optional<String> getEnclosingClassName(String ownerName) {
             return Optional.ofNullable(innerClassNameToEnclosingClassName.get(ownerName));
         }
@@ -32,6 +32,8 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.ImportDepth;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
@@ -39,6 +41,8 @@ import com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.Collections.singletonList;
@@ -81,6 +85,9 @@ public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
     private final ImportOptions importOptions;
+    private final Optional<Integer> parallelism;
+    private final Optional<ImportDepth> importDepth;
+    private final boolean incrementalReimportEnabled;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -89,7 +96,15 @@ public final class ClassFileImporter {
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, Optional.<Integer>empty(), Optional.<ImportDepth>empty(), false);
+    }
+
+    private ClassFileImporter(ImportOptions importOptions, Optional<Integer> parallelism, Optional<ImportDepth> importDepth,
+            boolean incrementalReimportEnabled) {
         this.importOptions = importOptions;
+        this.parallelism = parallelism;
+        this.importDepth = importDepth;
+        this.incrementalReimportEnabled = incrementalReimportEnabled;
     }
 
     /**
@@ -101,7 +116,55 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), parallelism, importDepth, incrementalReimportEnabled);
+    }
+
+    /**
+     * Configures the number of threads used to parse the imported class files. The resulting {@link JavaClasses}
+     * are the same, no matter how many threads are used. Note that this object will not be modified,
+     * but instead a copy with adjusted behavior will be returned.
+     * <br><br>
+     * If not set explicitly, the parallelism is taken from the property
+     * <pre><code>{@value ArchConfiguration#IMPORT_PARALLELISM}</code></pre>
+     * within {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME} (default {@code 1}, i.e. sequential import).
+     *
+     * @param parallelism The number of threads to parse class files with
+     * @return A {@link ClassFileImporter} which parses class files with the given number of threads
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        return new ClassFileImporter(importOptions, Optional.of(parallelism), importDepth, incrementalReimportEnabled);
+    }
+
+    /**
+     * Configures how much of each class file is parsed. Skipping for example the bodies of methods makes the import
+     * a lot faster, if the rules only look at declarations (compare {@link ImportDepth}). Note that this object
+     * will not be modified, but instead a copy with adjusted behavior will be returned.
+     * <br><br>
+     * If not set explicitly, the import depth is taken from the property
+     * <pre><code>{@value ArchConfiguration#IMPORT_DEPTH}</code></pre>
+     * within {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME} (default {@link ImportDepth#FULL}).
+     *
+     * @param importDepth How much of each class file to parse
+     * @return A {@link ClassFileImporter} which parses class files up to the given depth
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withImportDepth(ImportDepth importDepth) {
+        return new ClassFileImporter(importOptions, parallelism, Optional.of(checkNotNull(importDepth)), incrementalReimportEnabled);
+    }
+
+    /**
+     * Makes all {@link JavaClasses} imported by the returned {@link ClassFileImporter} keep the information parsed from
+     * the class files, so they can be passed to {@link #reimport(JavaClasses, Collection)} later on.
+     * Note that this increases the memory consumption for as long as the imported {@link JavaClasses} are in use.
+     * This object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @return A {@link ClassFileImporter} that supports incremental re-imports of the {@link JavaClasses} it imports
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withIncrementalReimport() {
+        return new ClassFileImporter(importOptions, parallelism, importDepth, true);
     }
 
     /**
@@ -261,7 +324,17 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importClasspath(ImportOptions options) {
-        return new ClassFileImporter(options).importLocations(Locations.inClassPath());
+        return new ClassFileImporter(options, parallelism, importDepth, incrementalReimportEnabled).importLocations(Locations.inClassPath());
+    }
+
+    /**
+     * Like {@link #importClasspath(ImportOptions)}, but imports the classes in consecutive batches
+     * (compare {@link #importLocationsInBatches(Collection, int)}).
+     */
+    @PublicAPI(usage = ACCESS)
+    public Iterable<JavaClasses> importClasspathInBatches(ImportOptions options, int batchSize) {
+        return new ClassFileImporter(options, parallelism, importDepth, incrementalReimportEnabled)
+                .importLocationsInBatches(Locations.inClassPath(), batchSize);
     }
 
     /**
@@ -329,16 +402,96 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
+        ClassFileSource source = createClassFileSource(locations);
+        return incrementalReimportEnabled
+                ? createProcessor().processRetainingParsedClassFiles(source)
+                : createProcessor().process(source);
+    }
+
+    /**
+     * Imports all class files at the given {@link Location locations} (compare {@link #importLocations(Collection)})
+     * in consecutive batches of about {@code batchSize} class files. Each batch is only imported while iterating,
+     * once the previous one has been consumed. Thus, the class files of all locations never have to be held in memory
+     * at the same time, which allows to check simple rules (e.g. about names or annotations of classes)
+     * against huge classpaths, for example via {@link com.tngtech.archunit.lang.RuleBatch#evaluateInBatches(Iterable)}.
+     * Nested classes are always imported in the same batch as their top level class, so a batch
+     * can contain more than {@code batchSize} class files.
+     * <br><br>
+     * Note that each batch is a {@link JavaClasses} on its own. Any class outside of a batch, be it a class of another batch
+     * or a class missing from the import, is created as a stub containing not much more than its name.
+     * The configured {@link ClassResolver} is never used, since it would import referenced classes
+     * together with their class hierarchies again for every batch. There is also no table of the names of all classes,
+     * so stubs do not know whether their class is part of another batch. Thus, rules that need to see the members
+     * or the class hierarchy of other classes (e.g. rules about the supertypes of a class)
+     * or all classes at once (like rules about cycles or transitive dependencies) can not be checked batch by batch.
+     * Batches are never retained for {@link #reimport(JavaClasses, Collection) incremental re-imports}.
+     *
+     * @param locations The {@link Location locations} to import
+     * @param batchSize The number of class files to import per batch, unless nested classes need to be added to a batch
+     * @return The imported classes as consecutive batches. If there are no class files to import, there is a single empty batch.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Iterable<JavaClasses> importLocationsInBatches(Collection<Location> locations, int batchSize) {
+        return createProcessor().processInBatches(createClassFileSource(locations), batchSize);
+    }
+
+    /**
+     * Imports the classes of {@code previous} again, where all class files within the given {@link Location locations}
+     * are considered to be changed. I.e. the result will contain
+     * <ul>
+     *     <li>all classes of {@code previous} that do not originate from any of the given {@link Location locations}</li>
+     *     <li>all classes currently found within the given {@link Location locations}, even if those have not been part of {@code previous}</li>
+     * </ul>
+     * Classes of {@code previous} originating from any of the given {@link Location locations}, but whose class files
+     * do not exist anymore, will not be part of the result. The result is the same as if all those class files
+     * had been imported anew.
+     * <br><br>
+     * If {@code previous} has been imported by a {@link ClassFileImporter} configured via {@link #withIncrementalReimport()},
+     * only the class files within the given {@link Location locations} will be parsed again, otherwise all class files
+     * will be parsed again. In any case the returned {@link JavaClasses} are a new and complete graph of classes and
+     * {@code previous} is not modified. The returned {@link JavaClasses} can again be re-imported incrementally.
+     *
+     * @param previous Classes that have been imported before
+     * @param changed {@link Location Locations} containing all changed, new or deleted class files (e.g. the class files themselves)
+     * @return The re-imported classes
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses reimport(JavaClasses previous, Collection<Location> changed) {
+        ClassFileImporter incrementalImporter = withIncrementalReimport();
+        Optional<JavaClasses> result = incrementalImporter.createProcessor()
+                .reprocess(previous, changed, createClassFileSource(changed));
+        return result.isPresent() ? result.get() : incrementalImporter.importLocations(allLocationsOf(previous, changed));
+    }
+
+    private Set<Location> allLocationsOf(JavaClasses previous, Collection<Location> changed) {
+        Set<Location> result = new HashSet<>(changed);
+        for (JavaClass javaClass : previous) {
+            if (javaClass.getSource().isPresent()) {
+                result.add(Location.of(javaClass.getSource().get().getUri()));
+            }
+        }
+        return result;
+    }
+
+    private ClassFileProcessor createProcessor() {
+        ArchConfiguration configuration = ArchConfiguration.get();
+        return new ClassFileProcessor(
+                parallelism.isPresent() ? parallelism.get() : configuration.getImportParallelism(),
+                importDepth.isPresent() ? importDepth.get() : ClassFileProcessor.getConfiguredImportDepth());
+    }
+
+    private ClassFileSource createClassFileSource(Collection<Location> locations) {
         List<ClassFileSource> sources = new ArrayList<>();
+        Optional<ClassFileCache> cache = ClassFileCache.fromConfiguration();
         for (Location location : locations) {
-            tryAdd(sources, location);
+            tryAdd(sources, location, cache);
         }
-        return new ClassFileProcessor().process(unify(sources));
+        return unify(sources);
     }
 
-    private void tryAdd(List<ClassFileSource> sources, Location location) {
+    private void tryAdd(List<ClassFileSource> sources, Location location, Optional<ClassFileCache> cache) {
         try {
-            sources.add(location.asClassFileSource(importOptions));
+            sources.add(location.asClassFileSource(importOptions, cache));
         } catch (Exception e) {
             LOG.warn(String.format("Couldn't derive %s from %s",
                     ClassFileSource.class.getSimpleName(), location), e);
@@ -15,15 +15,32 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.ArchUnitException;
 import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.base.ParallelExecution;
+import com.tngtech.archunit.core.domain.ImportDepth;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.RetainedImportRecord;
+import com.tngtech.archunit.core.importer.ClassFileCache.CachedClassFileLocation;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.AccessHandler;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.DeclarationHandler;
@@ -32,9 +49,14 @@ import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.getRetainedImportRecord;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.retainImportRecord;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static org.objectweb.asm.Opcodes.ASM9;
 
@@ -45,22 +67,251 @@ class ClassFileProcessor {
 
     private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final int parallelism;
+    private final ImportDepth importDepth;
+
+    ClassFileProcessor() {
+        this(ArchConfiguration.get().getImportParallelism(), getConfiguredImportDepth());
+    }
+
+    ClassFileProcessor(int parallelism, ImportDepth importDepth) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        this.parallelism = parallelism;
+        this.importDepth = checkNotNull(importDepth);
+    }
+
+    static ImportDepth getConfiguredImportDepth() {
+        return ImportDepth.valueOf(ArchConfiguration.get().getImportDepth());
+    }
+
+    // stack map frames are never used by ArchUnit, so they can be skipped for every depth
+    private static int parsingOptionsOf(ImportDepth importDepth) {
+        int result = ClassReader.SKIP_FRAMES;
+        if (!importDepth.includesCode()) {
+            result |= ClassReader.SKIP_CODE;
+        }
+        if (!importDepth.includesDebugInformation()) {
+            result |= ClassReader.SKIP_DEBUG;
+        }
+        return result;
+    }
 
     JavaClasses process(ClassFileSource source) {
+        return complete(parse(source));
+    }
+
+    /**
+     * Processes the class files of the given source in consecutive batches of about {@code batchSize} class files,
+     * where each batch is only parsed once the previous one has been consumed. The class files of nested classes always
+     * end up in the same batch as the class file of their top level class, even if this exceeds {@code batchSize}.
+     * Any class outside of a batch is created as a stub from its name, no matter which {@link ClassResolver}
+     * is configured. Thus, only the classes of one batch are held at any time, besides the locations of all class files.
+     * If the source contains no class files at all, there will be a single empty batch.
+     */
+    Iterable<JavaClasses> processInBatches(final ClassFileSource source, final int batchSize) {
+        checkArgument(batchSize > 0, "Batch size must be positive, but was %s", batchSize);
+        return new Iterable<JavaClasses>() {
+            @Override
+            public Iterator<JavaClasses> iterator() {
+                return new BatchIterator(partitionByTopLevelClass(source, batchSize).iterator());
+            }
+        };
+    }
+
+    private static List<List<ClassFileLocation>> partitionByTopLevelClass(Iterable<ClassFileLocation> source, int batchSize) {
+        Map<String, List<ClassFileLocation>> locationsByTopLevelClass = new LinkedHashMap<>();
+        for (ClassFileLocation location : source) {
+            String topLevelClass = topLevelClassOf(location.getUri());
+            if (!locationsByTopLevelClass.containsKey(topLevelClass)) {
+                locationsByTopLevelClass.put(topLevelClass, new ArrayList<ClassFileLocation>());
+            }
+            locationsByTopLevelClass.get(topLevelClass).add(location);
+        }
+
+        List<List<ClassFileLocation>> result = new ArrayList<>();
+        List<ClassFileLocation> batch = new ArrayList<>();
+        for (List<ClassFileLocation> locationsOfTopLevelClass : locationsByTopLevelClass.values()) {
+            if (!batch.isEmpty() && batch.size() + locationsOfTopLevelClass.size() > batchSize) {
+                result.add(batch);
+                batch = new ArrayList<>();
+            }
+            batch.addAll(locationsOfTopLevelClass);
+        }
+        if (!batch.isEmpty()) {
+            result.add(batch);
+        }
+        return result;
+    }
+
+    // nested classes are compiled to class files named like 'Outer$Inner.class' next to 'Outer.class'
+    private static String topLevelClassOf(URI classFileUri) {
+        String uri = classFileUri.toString();
+        int nestedClassSeparator = uri.indexOf('$', uri.lastIndexOf('/') + 1);
+        return nestedClassSeparator >= 0 ? uri.substring(0, nestedClassSeparator) : uri.replaceFirst("\\.class$", "");
+    }
+
+    /**
+     * Like {@link #process(ClassFileSource)}, but keeps the parsed class files of the result, so it can later be passed to
+     * {@link #reprocess(JavaClasses, Collection, ClassFileSource)} without parsing unchanged class files again.
+     */
+    JavaClasses processRetainingParsedClassFiles(ClassFileSource source) {
+        return completeRetainingParsedClassFiles(parse(source));
+    }
+
+    /**
+     * @param previous {@link JavaClasses} previously created by {@link #processRetainingParsedClassFiles(ClassFileSource)}
+     * @param changedLocations All {@link Location locations} that might contain changed, new or deleted class files
+     * @param changedSource The class files currently found within {@code changedLocations}
+     * @return {@link JavaClasses} as if all class files of {@code previous} outside of {@code changedLocations},
+     *         together with all class files of {@code changedSource} had been processed. Absent, if the parsed class files of
+     *         {@code previous} have not been retained.
+     */
+    Optional<JavaClasses> reprocess(JavaClasses previous, Collection<Location> changedLocations, ClassFileSource changedSource) {
+        Optional<RetainedImportRecord> previousRecord = getRetainedImportRecord(previous);
+        if (!previousRecord.isPresent()) {
+            return Optional.empty();
+        }
+
+        ClassFileImportRecord importRecord = parse(changedSource);
+        importRecord.addAllNotYetRecorded(((ClassFileImportRecord) previousRecord.get()).copyWithNewClassesExcept(namesOfClassesWithin(previous, changedLocations)));
+        return Optional.of(completeRetainingParsedClassFiles(importRecord));
+    }
+
+    private Set<String> namesOfClassesWithin(JavaClasses classes, Collection<Location> locations) {
+        Set<String> result = new HashSet<>();
+        for (JavaClass javaClass : classes) {
+            if (javaClass.getSource().isPresent() && isWithinAny(locations, javaClass.getSource().get().getUri())) {
+                result.add(javaClass.getName());
+            }
+        }
+        return result;
+    }
+
+    private boolean isWithinAny(Collection<Location> locations, URI uri) {
+        String uriString = uri.toString();
+        for (Location location : locations) {
+            String locationString = location.asURI().toString();
+            if (uriString.equals(locationString)
+                    || (uriString.startsWith(locationString) && (locationString.endsWith("/") || uriString.startsWith(locationString + "/")))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ClassFileImportRecord parse(Iterable<ClassFileLocation> source) {
+        return parallelism > 1
+                ? processInParallel(ImmutableList.copyOf(source))
+                : processSequentially(source);
+    }
+
+    // The classes of a record are completed in place, thus we need to keep a pristine copy to process them again later
+    private JavaClasses completeRetainingParsedClassFiles(ClassFileImportRecord parsedClassFiles) {
+        JavaClasses result = complete(parsedClassFiles.copyWithNewClassesExcept(Collections.<String>emptySet()));
+        return retainImportRecord(result, parsedClassFiles);
+    }
+
+    private JavaClasses complete(ClassFileImportRecord importRecord) {
+        return new ClassGraphCreator(importRecord, getClassResolver(new ClassDetailsRecorder(importRecord)), importDepth).complete();
+    }
+
+    // resolving missing classes would let every batch import an arbitrary part of the classpath again
+    private JavaClasses completeBatch(ClassFileImportRecord importRecord) {
+        return new ClassGraphCreator(importRecord, new StubbingClassResolver(), importDepth).complete();
+    }
+
+    private ClassFileImportRecord processSequentially(Iterable<ClassFileLocation> locations) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
         RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
-        for (ClassFileLocation location : source) {
-            try (InputStream s = location.openStream()) {
+        for (ClassFileLocation location : locations) {
+            try {
                 JavaClassProcessor javaClassProcessor =
                         new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
-                importRecord.addAll(javaClassProcessor.createJavaClass().asSet());
+                parse(location, javaClassProcessor, parsingOptionsOf(importDepth));
+                Optional<DomainBuilders.JavaClassBuilder> classBuilder = javaClassProcessor.getJavaClassBuilder();
+                if (classBuilder.isPresent()) {
+                    importRecord.add(classBuilder.get());
+                }
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, getClassResolver(classDetailsRecorder)).complete();
+        return importRecord;
+    }
+
+    // class files from the persistent cache have already been parsed before, so their records can simply be replayed
+    private static void parse(ClassFileLocation location, ClassVisitor visitor, int parsingOptions) throws IOException {
+        if (location instanceof CachedClassFileLocation) {
+            ((CachedClassFileLocation) location).accept(visitor, parsingOptions);
+            return;
+        }
+        try (InputStream s = location.openStream()) {
+            new ClassReader(s).accept(visitor, parsingOptions);
+        }
+    }
+
+    /**
+     * Parses consecutive batches of class files concurrently, each into its own {@link ClassFileImportRecord}.
+     * The records are then merged in the original order of the class files, so the result is the same
+     * as if all class files had been processed sequentially (in particular the first class file of a certain name wins).
+     */
+    private ClassFileImportRecord processInParallel(List<ClassFileLocation> locations) {
+        List<Callable<ClassFileImportRecord>> tasks = new ArrayList<>();
+        for (final List<ClassFileLocation> batch : ParallelExecution.partition(locations, parallelism)) {
+            tasks.add(new Callable<ClassFileImportRecord>() {
+                @Override
+                public ClassFileImportRecord call() {
+                    return processSequentially(batch);
+                }
+            });
+        }
+
+        List<ClassFileImportRecord> batchRecords;
+        try {
+            batchRecords = ParallelExecution.invokeAll("import", parallelism, tasks);
+        } catch (RuntimeException e) {
+            throw new ArchUnitException.ClassFileImportException("Parallel import of class files failed", e);
+        }
+
+        ClassFileImportRecord result = new ClassFileImportRecord();
+        for (ClassFileImportRecord batchRecord : batchRecords) {
+            result.addAllNotYetRecorded(batchRecord);
+        }
+        return result;
+    }
+
+    private class BatchIterator extends AbstractIterator<JavaClasses> {
+        private final Iterator<List<ClassFileLocation>> batches;
+        private boolean anyBatchProcessed = false;
+
+        BatchIterator(Iterator<List<ClassFileLocation>> batches) {
+            this.batches = batches;
+        }
+
+        @Override
+        protected JavaClasses computeNext() {
+            if (batches.hasNext()) {
+                anyBatchProcessed = true;
+                return completeBatch(parse(batches.next()));
+            }
+            if (!anyBatchProcessed) {
+                anyBatchProcessed = true;
+                return completeBatch(new ClassFileImportRecord());
+            }
+            return endOfData();
+        }
+    }
+
+    private static class StubbingClassResolver implements ClassResolver {
+        @Override
+        public void setClassUriImporter(ClassUriImporter classUriImporter) {
+        }
+
+        @Override
+        public Optional<JavaClass> tryResolve(String typeName) {
+            return Optional.empty();
+        }
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -199,24 +450,26 @@ class ClassFileProcessor {
 
     private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled, importDepth));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
         private final boolean md5InClassSourcesEnabled;
+        private final ImportDepth importDepth;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled, ImportDepth importDepth) {
             this.declarationHandler = declarationHandler;
             this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.importDepth = importDepth;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
             try (InputStream inputStream = uri.toURL().openStream()) {
                 JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+                new ClassReader(inputStream).accept(classProcessor, parsingOptionsOf(importDepth));
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
@@ -25,9 +25,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
 
@@ -182,6 +184,38 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         }
     }
 
+    /**
+     * Like {@link FromJar}, but reads the class files from a {@link RandomAccessJarFile}.
+     */
+    @Internal
+    class FromRandomAccessJar implements ClassFileSource {
+        private final List<ClassFileLocation> classFileLocations = new ArrayList<>();
+
+        FromRandomAccessJar(final RandomAccessJarFile jarFile, Location jarLocation, NormalizedResourceName path,
+                ImportOptions importOptions) {
+            String prefix = path.toEntryName();
+            for (final RandomAccessJarFile.Entry entry : jarFile.getEntries()) {
+                if (!entry.getName().startsWith(prefix) || !FileToImport.isRelevant(entry.getName())) {
+                    continue;
+                }
+                final URI uri = jarLocation.append(entry.getName()).asURI();
+                if (importOptions.include(Location.of(uri))) {
+                    classFileLocations.add(new InputStreamSupplierClassFileLocation(uri, new InputStreamSupplier() {
+                        @Override
+                        InputStream getInputStream() throws IOException {
+                            return jarFile.openStream(entry, uri);
+                        }
+                    }));
+                }
+            }
+        }
+
+        @Override
+        public Iterator<ClassFileLocation> iterator() {
+            return classFileLocations.iterator();
+        }
+    }
+
     @Internal
     class InputStreamSupplierClassFileLocation implements ClassFileLocation {
         private final URI uri;
@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,6 +25,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.base.Optional;
@@ -31,8 +33,10 @@ import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.ImportContext;
+import com.tngtech.archunit.core.domain.ImportDepth;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaCodeUnit;
 import com.tngtech.archunit.core.domain.JavaConstructor;
@@ -55,6 +59,8 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBu
 import com.tngtech.archunit.core.importer.ImportedClasses.MethodReturnTypeGetter;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeAnnotations;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeClassHierarchy;
@@ -66,20 +72,37 @@ import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.compl
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClasses;
 import static com.tngtech.archunit.core.importer.DomainBuilders.BuilderWithBuildParameter.BuildFinisher.build;
 import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
+import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.importAsmMethodArgumentTypes;
+import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.importAsmMethodReturnType;
+import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.importAsmTypeFromDescriptor;
 
 class ClassGraphCreator implements ImportContext {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassGraphCreator.class);
+
     private final ImportedClasses classes;
 
     private final ClassFileImportRecord importRecord;
 
+    private final ImportDepth importDepth;
+    private final boolean importAccessesLazily;
+    private boolean missingAccessesReported = false;
+    private final SetMultimap<String, RawAccessRecord.ForField> rawFieldAccessRecordsByCallerClass = HashMultimap.create();
+    private final SetMultimap<String, RawAccessRecord> rawMethodCallRecordsByCallerClass = HashMultimap.create();
+    private final SetMultimap<String, RawAccessRecord> rawConstructorCallRecordsByCallerClass = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<ConstructorCallTarget>> processedConstructorCallRecords = HashMultimap.create();
     private final Function<JavaClass, Set<String>> superclassStrategy;
     private final Function<JavaClass, Set<String>> interfaceStrategy;
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver, ImportDepth importDepth) {
+        this(importRecord, classResolver, importDepth, ArchConfiguration.get().importAccessesLazily());
+    }
+
+    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver, ImportDepth importDepth, boolean importAccessesLazily) {
         this.importRecord = importRecord;
+        this.importDepth = importDepth;
+        this.importAccessesLazily = importAccessesLazily;
         classes = new ImportedClasses(importRecord.getClasses(), classResolver, new MethodReturnTypeGetter() {
             @Override
             public Optional<JavaClass> getReturnType(String declaringClassName, String methodName) {
@@ -111,11 +134,20 @@ class ClassGraphCreator implements ImportContext {
     JavaClasses complete() {
         ensureMemberTypesArePresent();
         ensureCallTargetsArePresent();
+        ensureTypesOfAccessTargetsArePresent();
         ensureClassesOfInheritanceHierarchiesArePresent();
         ensureMetaAnnotationsArePresent();
         completeClasses();
+        if (importAccessesLazily || !importDepth.includesCode()) {
+            recordAccessesToCompleteLazily();
+            return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), importDepth, this);
+        }
+
         completeAccesses();
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        Collection<JavaClass> allClasses = classes.getAllWithOuterClassesSortedBeforeInnerClasses();
+        JavaClasses result = createJavaClasses(classes.getDirectlyImported(), allClasses, importDepth, this);
+        createAllAccesses(allClasses);
+        return result;
     }
 
     private void ensureMemberTypesArePresent() {
@@ -130,6 +162,28 @@ class ClassGraphCreator implements ImportContext {
         }
     }
 
+    // accesses might be created after the JavaClasses have been completed (e.g. if accesses are imported lazily),
+    // so all types the access targets refer to must have been resolved beforehand
+    private void ensureTypesOfAccessTargetsArePresent() {
+        for (RawAccessRecord.ForField record : importRecord.getRawFieldAccessRecords()) {
+            classes.ensurePresent(importAsmTypeFromDescriptor(record.target.desc).getFullyQualifiedClassName());
+        }
+        for (RawAccessRecord record : importRecord.getRawMethodCallRecords()) {
+            classes.ensurePresent(importAsmMethodReturnType(record.target.desc).getFullyQualifiedClassName());
+            ensureArgumentTypesArePresent(record.target.desc);
+        }
+        for (RawAccessRecord record : importRecord.getRawConstructorCallRecords()) {
+            classes.ensurePresent(void.class.getName());
+            ensureArgumentTypesArePresent(record.target.desc);
+        }
+    }
+
+    private void ensureArgumentTypesArePresent(String methodDescriptor) {
+        for (JavaClassDescriptor argumentType : importAsmMethodArgumentTypes(methodDescriptor)) {
+            classes.ensurePresent(argumentType.getFullyQualifiedClassName());
+        }
+    }
+
     private void ensureClassesOfInheritanceHierarchiesArePresent() {
         for (String superclassName : importRecord.getAllSuperclassNames()) {
             resolveInheritance(superclassName, superclassStrategy);
@@ -170,6 +224,53 @@ class ClassGraphCreator implements ImportContext {
         }
     }
 
+    // the code units will only ask for their accesses on first request, so within the regular import we trigger this right away
+    private void createAllAccesses(Collection<JavaClass> allClasses) {
+        for (JavaClass javaClass : allClasses) {
+            for (JavaCodeUnit codeUnit : javaClass.getCodeUnits()) {
+                codeUnit.getFieldAccesses();
+            }
+        }
+    }
+
+    private void recordAccessesToCompleteLazily() {
+        for (RawAccessRecord.ForField fieldAccessRecord : importRecord.getRawFieldAccessRecords()) {
+            rawFieldAccessRecordsByCallerClass.put(fieldAccessRecord.caller.getDeclaringClassName(), fieldAccessRecord);
+        }
+        for (RawAccessRecord methodCallRecord : importRecord.getRawMethodCallRecords()) {
+            rawMethodCallRecordsByCallerClass.put(methodCallRecord.caller.getDeclaringClassName(), methodCallRecord);
+        }
+        for (RawAccessRecord constructorCallRecord : importRecord.getRawConstructorCallRecords()) {
+            rawConstructorCallRecordsByCallerClass.put(constructorCallRecord.caller.getDeclaringClassName(), constructorCallRecord);
+        }
+    }
+
+    // If accesses are imported lazily, the raw records of the owner of the code unit are only processed on the first request for any of its code units.
+    // Since this might happen concurrently, the creation of accesses as a whole is synchronized on this ClassGraphCreator.
+    private void completeAccessesOfOwner(JavaCodeUnit codeUnit) {
+        String ownerName = codeUnit.getOwner().getName();
+        for (RawAccessRecord.ForField fieldAccessRecord : rawFieldAccessRecordsByCallerClass.removeAll(ownerName)) {
+            tryProcess(fieldAccessRecord, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords);
+        }
+        for (RawAccessRecord methodCallRecord : rawMethodCallRecordsByCallerClass.removeAll(ownerName)) {
+            tryProcess(methodCallRecord, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords);
+        }
+        for (RawAccessRecord constructorCallRecord : rawConstructorCallRecordsByCallerClass.removeAll(ownerName)) {
+            tryProcess(constructorCallRecord, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords);
+        }
+    }
+
+    // Without code there cannot be any accesses, which lets rules about accesses or dependencies pass without checking anything.
+    // Since the import itself never asks for accesses in this case, this is only reported once some rule actually requests them.
+    private void warnIfAccessesHaveNotBeenImported(JavaCodeUnit codeUnit) {
+        if (!importDepth.includesCode() && !missingAccessesReported) {
+            missingAccessesReported = true;
+            LOG.warn("Accesses of {} have been requested, but the classes have been imported with {}.{}, which does not import any accesses. "
+                            + "Rules about accesses or dependencies will thus not detect any violation caused by code.",
+                    codeUnit.getFullName(), ImportDepth.class.getSimpleName(), importDepth);
+        }
+    }
+
     private void ensureMetaAnnotationsArePresent() {
         for (JavaClass javaClass : classes.getAllWithOuterClassesSortedBeforeInnerClasses()) {
             resolveAnnotationHierarchy(javaClass);
@@ -205,9 +306,11 @@ class ClassGraphCreator implements ImportContext {
     }
 
     @Override
-    public Set<JavaFieldAccess> createFieldAccessesFor(JavaCodeUnit codeUnit) {
+    public synchronized Set<JavaFieldAccess> createFieldAccessesFor(JavaCodeUnit codeUnit) {
+        warnIfAccessesHaveNotBeenImported(codeUnit);
+        completeAccessesOfOwner(codeUnit);
         ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
-        for (FieldAccessRecord record : processedFieldAccessRecords.get(codeUnit)) {
+        for (FieldAccessRecord record : processedFieldAccessRecords.removeAll(codeUnit)) {
             result.add(accessBuilderFrom(new JavaFieldAccessBuilder(), record)
                     .withAccessType(record.getAccessType())
                     .build());
@@ -216,18 +319,22 @@ class ClassGraphCreator implements ImportContext {
     }
 
     @Override
-    public Set<JavaMethodCall> createMethodCallsFor(JavaCodeUnit codeUnit) {
+    public synchronized Set<JavaMethodCall> createMethodCallsFor(JavaCodeUnit codeUnit) {
+        warnIfAccessesHaveNotBeenImported(codeUnit);
+        completeAccessesOfOwner(codeUnit);
         ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
-        for (AccessRecord<MethodCallTarget> record : processedMethodCallRecords.get(codeUnit)) {
+        for (AccessRecord<MethodCallTarget> record : processedMethodCallRecords.removeAll(codeUnit)) {
             result.add(accessBuilderFrom(new JavaMethodCallBuilder(), record).build());
         }
         return result.build();
     }
 
     @Override
-    public Set<JavaConstructorCall> createConstructorCallsFor(JavaCodeUnit codeUnit) {
+    public synchronized Set<JavaConstructorCall> createConstructorCallsFor(JavaCodeUnit codeUnit) {
+        warnIfAccessesHaveNotBeenImported(codeUnit);
+        completeAccessesOfOwner(codeUnit);
         ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
-        for (AccessRecord<ConstructorCallTarget> record : processedConstructorCallRecords.get(codeUnit)) {
+        for (AccessRecord<ConstructorCallTarget> record : processedConstructorCallRecords.removeAll(codeUnit)) {
             result.add(accessBuilderFrom(new JavaConstructorCallBuilder(), record).build());
         }
         return result.build();
@@ -303,18 +410,22 @@ class ClassGraphCreator implements ImportContext {
     @Override
     public Set<JavaMethod> createMethods(JavaClass owner) {
         Set<DomainBuilders.JavaMethodBuilder> methodBuilders = importRecord.getMethodBuildersFor(owner.getName());
-        if (owner.isAnnotation()) {
-            for (DomainBuilders.JavaMethodBuilder methodBuilder : methodBuilders) {
-                methodBuilder.withAnnotationDefaultValue(new Function<JavaMethod, Optional<Object>>() {
-                    @Override
-                    public Optional<Object> apply(JavaMethod method) {
-                        Optional<ValueBuilder> defaultValueBuilder = importRecord.getAnnotationDefaultValueBuilderFor(method);
-                        return defaultValueBuilder.isPresent() ? defaultValueBuilder.get().build(method, classes) : Optional.empty();
-                    }
-                });
+        if (!owner.isAnnotation()) {
+            return build(methodBuilders, owner, classes);
+        }
+
+        Function<JavaMethod, Optional<Object>> createAnnotationDefaultValue = new Function<JavaMethod, Optional<Object>>() {
+            @Override
+            public Optional<Object> apply(JavaMethod method) {
+                Optional<ValueBuilder> defaultValueBuilder = importRecord.getAnnotationDefaultValueBuilderFor(method);
+                return defaultValueBuilder.isPresent() ? defaultValueBuilder.get().build(method, classes) : Optional.empty();
             }
+        };
+        ImmutableSet.Builder<DomainBuilders.JavaMethodBuilder> methodBuildersWithDefaultValues = ImmutableSet.builder();
+        for (DomainBuilders.JavaMethodBuilder methodBuilder : methodBuilders) {
+            methodBuildersWithDefaultValues.add(methodBuilder.withAnnotationDefaultValue(createAnnotationDefaultValue));
         }
-        return build(methodBuilders, owner, classes);
+        return build(methodBuildersWithDefaultValues.build(), owner, classes);
     }
 
     @Override
@@ -139,6 +139,13 @@ public final class DomainBuilders {
         private JavaMemberBuilder() {
         }
 
+        private JavaMemberBuilder(JavaMemberBuilder<OUTPUT, SELF> toCopy) {
+            this.name = toCopy.name;
+            this.descriptor = toCopy.descriptor;
+            this.modifiers = toCopy.modifiers;
+            this.firstLineNumber = toCopy.firstLineNumber;
+        }
+
         SELF withName(String name) {
             this.name = name;
             return self();
@@ -163,6 +170,8 @@ public final class DomainBuilders {
             return (SELF) this;
         }
 
+        abstract SELF copy();
+
         abstract OUTPUT construct(SELF self, ImportedClasses importedClasses);
 
         JavaClass get(String typeName) {
@@ -191,9 +200,11 @@ public final class DomainBuilders {
 
         @Override
         public final OUTPUT build(JavaClass owner, ImportedClasses importedClasses) {
-            this.owner = owner;
-            this.importedClasses = importedClasses;
-            return construct(self(), importedClasses);
+            // the builders of a retained import record are built again by every re-import, so the state of a build must not leak into them
+            JavaMemberBuilder<OUTPUT, SELF> builder = copy();
+            builder.owner = owner;
+            builder.importedClasses = importedClasses;
+            return construct(builder.self(), importedClasses);
         }
     }
 
@@ -205,6 +216,12 @@ public final class DomainBuilders {
         JavaFieldBuilder() {
         }
 
+        private JavaFieldBuilder(JavaFieldBuilder toCopy) {
+            super(toCopy);
+            this.genericType = toCopy.genericType;
+            this.rawType = toCopy.rawType;
+        }
+
         JavaFieldBuilder withType(Optional<JavaTypeCreationProcess<JavaField>> genericTypeBuilder, JavaClassDescriptor rawType) {
             this.genericType = checkNotNull(genericTypeBuilder);
             this.rawType = checkNotNull(rawType);
@@ -225,6 +242,11 @@ public final class DomainBuilders {
             return FluentIterable.from(getTypeParametersOf(javaClass)).append(allTypeParametersInEnclosingContextOf(javaClass));
         }
 
+        @Override
+        JavaFieldBuilder copy() {
+            return new JavaFieldBuilder(this);
+        }
+
         @Override
         JavaField construct(JavaFieldBuilder builder, ImportedClasses importedClasses) {
             return DomainObjectCreationContext.createJavaField(builder);
@@ -240,10 +262,25 @@ public final class DomainBuilders {
         private SetMultimap<Integer, JavaAnnotationBuilder> parameterAnnotationsByIndex;
         private JavaCodeUnitTypeParametersBuilder typeParametersBuilder;
         private List<JavaClassDescriptor> throwsDeclarations;
-        private final Set<RawReferencedClassObject> rawReferencedClassObjects = new HashSet<>();
-        private final List<RawInstanceofCheck> instanceOfChecks = new ArrayList<>();
+        private final Set<RawReferencedClassObject> rawReferencedClassObjects;
+        private final List<RawInstanceofCheck> instanceOfChecks;
 
         private JavaCodeUnitBuilder() {
+            rawReferencedClassObjects = new HashSet<>();
+            instanceOfChecks = new ArrayList<>();
+        }
+
+        private JavaCodeUnitBuilder(JavaCodeUnitBuilder<OUTPUT, SELF> toCopy) {
+            super(toCopy);
+            this.genericReturnType = toCopy.genericReturnType;
+            this.rawReturnType = toCopy.rawReturnType;
+            this.genericParameterTypes = toCopy.genericParameterTypes;
+            this.rawParameterTypes = toCopy.rawParameterTypes;
+            this.parameterAnnotationsByIndex = toCopy.parameterAnnotationsByIndex;
+            this.typeParametersBuilder = toCopy.typeParametersBuilder;
+            this.throwsDeclarations = toCopy.throwsDeclarations;
+            this.rawReferencedClassObjects = toCopy.rawReferencedClassObjects;
+            this.instanceOfChecks = toCopy.instanceOfChecks;
         }
 
         SELF withReturnType(Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType, JavaClassDescriptor rawReturnType) {
@@ -402,8 +439,20 @@ public final class DomainBuilders {
         JavaMethodBuilder() {
         }
 
-        void withAnnotationDefaultValue(Function<JavaMethod, Optional<Object>> createAnnotationDefaultValue) {
-            this.createAnnotationDefaultValue = createAnnotationDefaultValue;
+        private JavaMethodBuilder(JavaMethodBuilder toCopy) {
+            super(toCopy);
+            this.createAnnotationDefaultValue = toCopy.createAnnotationDefaultValue;
+        }
+
+        JavaMethodBuilder withAnnotationDefaultValue(Function<JavaMethod, Optional<Object>> createAnnotationDefaultValue) {
+            JavaMethodBuilder result = copy();
+            result.createAnnotationDefaultValue = createAnnotationDefaultValue;
+            return result;
+        }
+
+        @Override
+        JavaMethodBuilder copy() {
+            return new JavaMethodBuilder(this);
         }
 
         @Override
@@ -417,6 +466,15 @@ public final class DomainBuilders {
         JavaConstructorBuilder() {
         }
 
+        private JavaConstructorBuilder(JavaConstructorBuilder toCopy) {
+            super(toCopy);
+        }
+
+        @Override
+        JavaConstructorBuilder copy() {
+            return new JavaConstructorBuilder(this);
+        }
+
         @Override
         JavaConstructor construct(JavaConstructorBuilder builder, ImportedClasses importedClasses) {
             return DomainObjectCreationContext.createJavaConstructor(builder);
@@ -540,10 +598,17 @@ public final class DomainBuilders {
     @Internal
     public static final class JavaAnnotationBuilder {
         private JavaClassDescriptor type;
-        private final Map<String, ValueBuilder> values = new LinkedHashMap<>();
+        private final Map<String, ValueBuilder> values;
         private ImportedClasses importedClasses;
 
         JavaAnnotationBuilder() {
+            values = new LinkedHashMap<>();
+        }
+
+        private JavaAnnotationBuilder(JavaAnnotationBuilder toCopy, ImportedClasses importedClasses) {
+            this.type = toCopy.type;
+            this.values = toCopy.values;
+            this.importedClasses = importedClasses;
         }
 
         JavaAnnotationBuilder withType(JavaClassDescriptor type) {
@@ -576,8 +641,7 @@ public final class DomainBuilders {
         }
 
         public <T extends HasDescription> JavaAnnotation<T> build(T owner, ImportedClasses importedClasses) {
-            this.importedClasses = importedClasses;
-            return DomainObjectCreationContext.createJavaAnnotation(owner, this);
+            return DomainObjectCreationContext.createJavaAnnotation(owner, new JavaAnnotationBuilder(this, importedClasses));
         }
 
         abstract static class ValueBuilder {
@@ -614,6 +678,15 @@ public final class DomainBuilders {
             withThrowsClause(Collections.<JavaClassDescriptor>emptyList());
         }
 
+        private JavaStaticInitializerBuilder(JavaStaticInitializerBuilder toCopy) {
+            super(toCopy);
+        }
+
+        @Override
+        JavaStaticInitializerBuilder copy() {
+            return new JavaStaticInitializerBuilder(this);
+        }
+
         @Override
         JavaStaticInitializer construct(JavaStaticInitializerBuilder builder, ImportedClasses importedClasses) {
             return DomainObjectCreationContext.createJavaStaticInitializer(builder);
@@ -681,8 +754,6 @@ public final class DomainBuilders {
     public static final class JavaTypeParameterBuilder<OWNER extends HasDescription> {
         private final String name;
         private final List<JavaTypeCreationProcess<OWNER>> upperBounds = new ArrayList<>();
-        private OWNER owner;
-        private ImportedClasses importedClasses;
 
         JavaTypeParameterBuilder(String name) {
             this.name = checkNotNull(name);
@@ -693,9 +764,7 @@ public final class DomainBuilders {
         }
 
         public JavaTypeVariable<OWNER> build(OWNER owner, ImportedClasses importedClasses) {
-            this.owner = owner;
-            this.importedClasses = importedClasses;
-            return createTypeVariable(name, owner, this.importedClasses.getOrResolve(Object.class.getName()));
+            return createTypeVariable(name, owner, importedClasses.getOrResolve(Object.class.getName()));
         }
 
         String getName() {
@@ -703,7 +772,8 @@ public final class DomainBuilders {
         }
 
         @SuppressWarnings("unchecked") // Iterable is covariant
-        public List<JavaType> getUpperBounds(Iterable<? extends JavaTypeVariable<?>> allGenericParametersInContext) {
+        public List<JavaType> getUpperBounds(
+                OWNER owner, Iterable<? extends JavaTypeVariable<?>> allGenericParametersInContext, ImportedClasses importedClasses) {
             return buildJavaTypes(upperBounds, owner, (Iterable<JavaTypeVariable<?>>) allGenericParametersInContext, importedClasses);
         }
     }
@@ -726,7 +796,7 @@ public final class DomainBuilders {
             }
             Set<JavaTypeVariable<?>> allGenericParametersInContext = union(typeParametersFromEnclosingContextOf(owner), typeArgumentsToBuilders.keySet());
             for (Map.Entry<JavaTypeVariable<OWNER>, JavaTypeParameterBuilder<OWNER>> typeParameterToBuilder : typeArgumentsToBuilders.entrySet()) {
-                List<JavaType> upperBounds = typeParameterToBuilder.getValue().getUpperBounds(allGenericParametersInContext);
+                List<JavaType> upperBounds = typeParameterToBuilder.getValue().getUpperBounds(owner, allGenericParametersInContext, ImportedClasses);
                 completeTypeVariable(typeParameterToBuilder.getKey(), upperBounds);
             }
             return ImmutableList.copyOf(typeArgumentsToBuilders.keySet());
@@ -790,13 +860,24 @@ public final class DomainBuilders {
 
     @Internal
     public static final class JavaWildcardTypeBuilder<OWNER extends HasDescription> implements JavaTypeBuilder<OWNER> {
-        private final List<JavaTypeCreationProcess<OWNER>> lowerBoundCreationProcesses = new ArrayList<>();
-        private final List<JavaTypeCreationProcess<OWNER>> upperBoundCreationProcesses = new ArrayList<>();
+        private final List<JavaTypeCreationProcess<OWNER>> lowerBoundCreationProcesses;
+        private final List<JavaTypeCreationProcess<OWNER>> upperBoundCreationProcesses;
         private OWNER owner;
         private Iterable<JavaTypeVariable<?>> allTypeParametersInContext;
         private ImportedClasses importedClasses;
 
         JavaWildcardTypeBuilder() {
+            lowerBoundCreationProcesses = new ArrayList<>();
+            upperBoundCreationProcesses = new ArrayList<>();
+        }
+
+        private JavaWildcardTypeBuilder(JavaWildcardTypeBuilder<OWNER> toCopy,
+                OWNER owner, Iterable<JavaTypeVariable<?>> allTypeParametersInContext, ImportedClasses importedClasses) {
+            this.lowerBoundCreationProcesses = toCopy.lowerBoundCreationProcesses;
+            this.upperBoundCreationProcesses = toCopy.upperBoundCreationProcesses;
+            this.owner = owner;
+            this.allTypeParametersInContext = allTypeParametersInContext;
+            this.importedClasses = importedClasses;
         }
 
         public JavaWildcardTypeBuilder<OWNER> addLowerBound(JavaTypeCreationProcess<OWNER> boundCreationProcess) {
@@ -811,10 +892,7 @@ public final class DomainBuilders {
 
         @Override
         public JavaWildcardType build(OWNER owner, Iterable<JavaTypeVariable<?>> allTypeParametersInContext, ImportedClasses importedClasses) {
-            this.owner = owner;
-            this.allTypeParametersInContext = allTypeParametersInContext;
-            this.importedClasses = importedClasses;
-            return createWildcardType(this);
+            return createWildcardType(new JavaWildcardTypeBuilder<>(this, owner, allTypeParametersInContext, importedClasses));
         }
 
         public List<JavaType> getUpperBounds() {
@@ -92,6 +92,10 @@ class JavaClassProcessor extends ClassVisitor {
         return javaClassBuilder != null ? Optional.of(javaClassBuilder.build()) : Optional.<JavaClass>empty();
     }
 
+    Optional<DomainBuilders.JavaClassBuilder> getJavaClassBuilder() {
+        return Optional.ofNullable(javaClassBuilder);
+    }
+
     @Override
     public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
         LOG.debug("Processing class '{}'", name);
@@ -27,6 +27,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Objects;
@@ -40,9 +41,12 @@ import java.util.regex.Pattern;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.LocationException;
 import com.tngtech.archunit.base.ArchUnitException.UnsupportedUriSchemeException;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.base.ParallelExecution;
 import com.tngtech.archunit.core.InitialConfiguration;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -67,11 +71,12 @@ public abstract class Location {
         ImportPlugin.Loader.loadForCurrentPlatform().plugInLocationFactories(factories);
     }
 
-    private static final Cache<NormalizedUri, Iterable<NormalizedResourceName>> ENTRY_CACHE = CacheBuilder.newBuilder().build();
-    private final Callable<Iterable<NormalizedResourceName>> readResourceEntries = new Callable<Iterable<NormalizedResourceName>>() {
+    // shared by all threads and all imports, outdated entries are replaced on access (compare LocationEntries.Version)
+    private static final Cache<NormalizedUri, LocationEntries> ENTRY_CACHE = CacheBuilder.newBuilder().build();
+    private final Callable<LocationEntries> readResourceEntries = new Callable<LocationEntries>() {
         @Override
-        public Iterable<NormalizedResourceName> call() {
-            return iterateEntriesInternal();
+        public LocationEntries call() {
+            return readEntries();
         }
     };
 
@@ -88,6 +93,14 @@ public abstract class Location {
 
     abstract ClassFileSource asClassFileSource(ImportOptions importOptions);
 
+    /**
+     * Like {@link #asClassFileSource(ImportOptions)}, but uses the given persistent {@link ClassFileCache}
+     * resolved once for the whole import. Only JAR files are cached, all other locations ignore the cache.
+     */
+    ClassFileSource asClassFileSource(ImportOptions importOptions, Optional<ClassFileCache> cache) {
+        return asClassFileSource(importOptions);
+    }
+
     /**
      * @param part A part to check the respective location {@link URI} for
      * @return {@code true}, if the respective {@link URI} contains the given part, {@code false} otherwise
@@ -150,15 +163,76 @@ public abstract class Location {
      * @return An iterable containing all class file names under this location, e.g. relative file names, Jar entry names, ...
      */
     final Iterable<NormalizedResourceName> iterateEntries() {
+        return getEntries().getEntries();
+    }
+
+    /**
+     * @return {@code true}, if any class file name under this location {@link NormalizedResourceName#startsWith(NormalizedResourceName) starts with}
+     *         the given prefix
+     */
+    final boolean containsEntryWithPrefix(NormalizedResourceName prefix) {
+        return getEntries().containsEntryWithPrefix(prefix);
+    }
+
+    private LocationEntries getEntries() {
         try {
-            return ENTRY_CACHE.get(uri, readResourceEntries);
+            LocationEntries entries = ENTRY_CACHE.get(uri, readResourceEntries);
+            if (entries.getVersion().equals(currentVersion())) {
+                return entries;
+            }
+            LocationEntries updatedEntries = readEntries();
+            ENTRY_CACHE.put(uri, updatedEntries);
+            return updatedEntries;
         } catch (ExecutionException e) {
             throw new LocationException(e);
         }
     }
 
+    // the version must be determined before reading, so concurrent modifications can at worst cause another read later on
+    private LocationEntries readEntries() {
+        LocationEntries.Version version = currentVersion();
+        return new LocationEntries(version, iterateEntriesInternal());
+    }
+
+    /**
+     * @return The current {@link LocationEntries.Version version} of the files behind this location. Whenever the version changes,
+     *         the entries of this location are read again.
+     */
+    LocationEntries.Version currentVersion() {
+        return LocationEntries.Version.UNVERSIONED;
+    }
+
     abstract Iterable<NormalizedResourceName> iterateEntriesInternal();
 
+    /**
+     * Reads the entries of all given locations that have not been read before, using the given number of threads.
+     * Afterwards {@link #iterateEntries()} and {@link #containsEntryWithPrefix(NormalizedResourceName)} can be answered
+     * from the cache for these locations.
+     */
+    static void readEntriesOf(Collection<Location> locations, int parallelism) {
+        List<Location> unreadLocations = new ArrayList<>();
+        for (Location location : locations) {
+            if (ENTRY_CACHE.getIfPresent(location.uri) == null) {
+                unreadLocations.add(location);
+            }
+        }
+        if (parallelism <= 1 || unreadLocations.size() <= 1) {
+            return;
+        }
+
+        List<Callable<Void>> reads = new ArrayList<>();
+        for (final Location location : unreadLocations) {
+            reads.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    location.getEntries();
+                    return null;
+                }
+            });
+        }
+        ParallelExecution.invokeAll("location-entries", parallelism, reads);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(uri);
@@ -272,8 +346,28 @@ public abstract class Location {
 
         @Override
         ClassFileSource asClassFileSource(ImportOptions importOptions) {
+            return asClassFileSource(importOptions, ClassFileCache.fromConfiguration());
+        }
+
+        @Override
+        ClassFileSource asClassFileSource(ImportOptions importOptions, Optional<ClassFileCache> cache) {
             try {
                 String[] parts = uri.toString().split("!/", 2);
+                NormalizedResourceName path = NormalizedResourceName.from(parts[1]);
+                File jarFile = getFileOfJar();
+                if (cache.isPresent() && jarFile.isFile()) {
+                    Optional<ClassFileSource> cachedSource = cache.get().getClassFileSource(jarFile, path, importOptions);
+                    if (cachedSource.isPresent()) {
+                        return cachedSource.get();
+                    }
+                }
+                Optional<RandomAccessJarFile> randomAccessJarFile = jarFile.isFile() && ArchConfiguration.get().importJarFilesDirectly()
+                        ? RandomAccessJarFile.tryOpen(jarFile)
+                        : Optional.<RandomAccessJarFile>empty();
+                if (randomAccessJarFile.isPresent()) {
+                    return new ClassFileSource.FromRandomAccessJar(
+                            randomAccessJarFile.get(), Location.of(jarFile.toURI()), path, importOptions);
+                }
                 return new ClassFileSource.FromJar(new URL(parts[0] + "!/"), parts[1], importOptions);
             } catch (IOException e) {
                 throw new LocationException(e);
@@ -300,6 +394,11 @@ public abstract class Location {
             return iterateJarFile(file);
         }
 
+        @Override
+        LocationEntries.Version currentVersion() {
+            return LocationEntries.Version.of(getFileOfJar());
+        }
+
         private File getFileOfJar() {
             return new File(URI.create(uri.toString()
                     .replaceAll("^" + SCHEME + ":", "")
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The class file entries of one {@link Location}, together with a trie of all path segments of these entries.
+ * The trie allows to answer, if the location contains any entry beneath a certain resource name (e.g. a package),
+ * by looking at the segments of the resource name only, instead of comparing the resource name with all entries.
+ */
+class LocationEntries {
+    private final Version version;
+    private final ImmutableList<NormalizedResourceName> entries;
+    private final Node root = new Node();
+
+    LocationEntries(Version version, Iterable<NormalizedResourceName> entries) {
+        this.version = version;
+        this.entries = ImmutableList.copyOf(entries);
+        for (NormalizedResourceName entry : this.entries) {
+            root.add(segmentsOf(entry));
+        }
+    }
+
+    private static String[] segmentsOf(NormalizedResourceName resourceName) {
+        return resourceName.toString().split("/");
+    }
+
+    Version getVersion() {
+        return version;
+    }
+
+    Iterable<NormalizedResourceName> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return {@code true}, if any entry {@link NormalizedResourceName#startsWith(NormalizedResourceName) starts with} the given prefix
+     */
+    boolean containsEntryWithPrefix(NormalizedResourceName prefix) {
+        Node node = root;
+        for (String segment : segmentsOf(prefix)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+
+        void add(String[] segments) {
+            Node node = this;
+            for (String segment : segments) {
+                Node child = node.children.get(segment);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(segment, child);
+                }
+                node = child;
+            }
+        }
+    }
+
+    /**
+     * Identifies the state of the files behind a {@link Location}, so entries read before can be detected to be outdated.
+     */
+    static final class Version {
+        /**
+         * For locations that can't cheaply detect changes, the entries are read once and then considered to be up to date.
+         */
+        static final Version UNVERSIONED = new Version(0, 0);
+
+        private final long lastModified;
+        private final long length;
+
+        private Version(long lastModified, long length) {
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        static Version of(File file) {
+            return new Version(file.lastModified(), file.length());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, length);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Version other = (Version) obj;
+            return this.lastModified == other.lastModified
+                    && this.length == other.length;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.LocationException;
 import com.tngtech.archunit.core.InitialConfiguration;
@@ -124,8 +125,10 @@ public final class Locations {
      */
     private static Collection<Location> getResourceLocations(ClassLoader loader, NormalizedResourceName resourceName, Iterable<URL> classpath) {
         Set<Location> result = newHashSet(Locations.of(getResources(loader, resourceName)));
-        for (Location location : Locations.of(classpath)) {
-            if (containsEntryWithPrefix(location, resourceName)) {
+        Set<Location> classpathLocations = Locations.of(classpath);
+        Location.readEntriesOf(classpathLocations, ArchConfiguration.get().getImportParallelism());
+        for (Location location : classpathLocations) {
+            if (location.containsEntryWithPrefix(resourceName)) {
                 result.add(location.append(resourceName.toString()));
             }
         }
@@ -139,13 +142,4 @@ public final class Locations {
             throw new LocationException(e);
         }
     }
-
-    private static boolean containsEntryWithPrefix(Location location, NormalizedResourceName searchedJarEntryPrefix) {
-        for (NormalizedResourceName name : location.iterateEntries()) {
-            if (name.startsWith(searchedJarEntryPrefix)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.tngtech.archunit.base.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the entries of a JAR file via positional reads of the archive. The entries are located via the
+ * central directory of the archive and inflated directly into a byte array of the exact size of the entry,
+ * bypassing the URL handling and caches of the JDK for JAR URLs.
+ * <br><br>
+ * The file is only opened while the central directory or a single entry is read, so no file handle (or memory mapping)
+ * outlives the read and the JAR file is never locked (e.g. on Windows) after the import.
+ * <br><br>
+ * ZIP64 extensions are supported for the central directory as well as for single entries. If the central directory
+ * can't be read, {@link #tryOpen(File)} returns {@link Optional#empty()}, so the caller can fall back to the regular way
+ * to read JAR files. If a single entry can't be read, {@link #openStream(Entry, URI)} falls back to the
+ * regular way to read this entry.
+ */
+class RandomAccessJarFile {
+    private static final Logger LOG = LoggerFactory.getLogger(RandomAccessJarFile.class);
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int UNSIGNED_SHORT_MAX = 0xFFFF;
+    private static final long UNSIGNED_INT_MAX = 0xFFFFFFFFL;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    // Inflaters hold native memory, thus they are reused instead of being created for each entry
+    private static final Queue<Inflater> inflaterPool = new ConcurrentLinkedQueue<>();
+
+    private final File file;
+    private final List<Entry> entries;
+
+    private RandomAccessJarFile(File file, List<Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * @return The JAR file with its entries or {@link Optional#empty()}, if the file can't be read or is no plain ZIP archive
+     */
+    static Optional<RandomAccessJarFile> tryOpen(File file) {
+        try (FileChannel channel = open(file)) {
+            return Optional.of(new RandomAccessJarFile(file, readCentralDirectory(channel)));
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Couldn't read central directory of JAR file {}, falling back to regular reading", file, e);
+            return Optional.empty();
+        }
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    private static List<Entry> readCentralDirectory(FileChannel channel) throws IOException {
+        CentralDirectoryLocation location = locateCentralDirectory(channel);
+        ByteBuffer centralDirectory = littleEndian(read(channel, location.offset, toIntExact(location.size)));
+        int numberOfEntries = toIntExact(location.numberOfEntries);
+        List<Entry> result = new ArrayList<>(numberOfEntries);
+        int position = 0;
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (centralDirectory.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                throw new IOException("Invalid central directory header at position " + (location.offset + position));
+            }
+            int nameLength = unsignedShortAt(centralDirectory, position + 28);
+            int extraFieldLength = unsignedShortAt(centralDirectory, position + 30);
+            int extraFieldStart = position + CENTRAL_DIRECTORY_HEADER_SIZE + nameLength;
+            long compressedSize = unsignedIntAt(centralDirectory, position + 20);
+            long uncompressedSize = unsignedIntAt(centralDirectory, position + 24);
+            long localHeaderOffset = unsignedIntAt(centralDirectory, position + 42);
+            if (compressedSize == UNSIGNED_INT_MAX || uncompressedSize == UNSIGNED_INT_MAX || localHeaderOffset == UNSIGNED_INT_MAX) {
+                // the ZIP64 extra field only contains the values that don't fit into the header, in this order
+                ByteBuffer zip64Values = zip64ExtraFieldOf(centralDirectory, extraFieldStart, extraFieldLength);
+                uncompressedSize = uncompressedSize == UNSIGNED_INT_MAX ? zip64Values.getLong() : uncompressedSize;
+                compressedSize = compressedSize == UNSIGNED_INT_MAX ? zip64Values.getLong() : compressedSize;
+                localHeaderOffset = localHeaderOffset == UNSIGNED_INT_MAX ? zip64Values.getLong() : localHeaderOffset;
+            }
+            result.add(new Entry(
+                    nameAt(centralDirectory, position + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength),
+                    unsignedShortAt(centralDirectory, position + 10),
+                    compressedSize,
+                    uncompressedSize,
+                    localHeaderOffset));
+            position = extraFieldStart + extraFieldLength + unsignedShortAt(centralDirectory, position + 32);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static ByteBuffer zip64ExtraFieldOf(ByteBuffer centralDirectory, int extraFieldStart, int extraFieldLength) throws IOException {
+        int position = extraFieldStart;
+        while (position + 4 <= extraFieldStart + extraFieldLength) {
+            int dataSize = unsignedShortAt(centralDirectory, position + 2);
+            if (unsignedShortAt(centralDirectory, position) == ZIP64_EXTRA_FIELD_ID) {
+                return littleEndian(Arrays.copyOfRange(centralDirectory.array(), position + 4, position + 4 + dataSize));
+            }
+            position += 4 + dataSize;
+        }
+        throw new IOException("Missing ZIP64 extra field of central directory header at position " + extraFieldStart);
+    }
+
+    private static CentralDirectoryLocation locateCentralDirectory(FileChannel channel) throws IOException {
+        long endOfCentralDirectoryPosition = findEndOfCentralDirectory(channel);
+        ByteBuffer endOfCentralDirectory = littleEndian(read(channel, endOfCentralDirectoryPosition, END_OF_CENTRAL_DIRECTORY_SIZE));
+        long numberOfEntries = unsignedShortAt(endOfCentralDirectory, 10);
+        long centralDirectorySize = unsignedIntAt(endOfCentralDirectory, 12);
+        long centralDirectoryOffset = unsignedIntAt(endOfCentralDirectory, 16);
+        if (numberOfEntries == UNSIGNED_SHORT_MAX || centralDirectorySize == UNSIGNED_INT_MAX || centralDirectoryOffset == UNSIGNED_INT_MAX) {
+            return locateZip64CentralDirectory(channel, endOfCentralDirectoryPosition);
+        }
+        return new CentralDirectoryLocation(numberOfEntries, centralDirectorySize, centralDirectoryOffset);
+    }
+
+    // values that don't fit into the end of central directory record are stored in the ZIP64 end of central directory record,
+    // which is referenced by a locator directly preceding the end of central directory record
+    private static CentralDirectoryLocation locateZip64CentralDirectory(FileChannel channel, long endOfCentralDirectoryPosition)
+            throws IOException {
+        long locatorPosition = endOfCentralDirectoryPosition - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+        if (locatorPosition < 0) {
+            throw new IOException("No ZIP64 end of central directory locator found");
+        }
+        ByteBuffer locator = littleEndian(read(channel, locatorPosition, ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE));
+        if (locator.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+            throw new IOException("No ZIP64 end of central directory locator found");
+        }
+        long recordPosition = locator.getLong(8);
+        ByteBuffer record = littleEndian(read(channel, recordPosition, ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE));
+        if (record.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+            throw new IOException("Invalid ZIP64 end of central directory record at position " + recordPosition);
+        }
+        return new CentralDirectoryLocation(record.getLong(32), record.getLong(40), record.getLong(48));
+    }
+
+    private static long findEndOfCentralDirectory(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tailLength = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_LENGTH);
+        ByteBuffer tail = littleEndian(read(channel, size - tailLength, tailLength));
+        for (int position = tailLength - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return size - tailLength + position;
+            }
+        }
+        throw new IOException("No end of central directory found");
+    }
+
+    private static String nameAt(ByteBuffer buffer, int position, int length) {
+        return new String(buffer.array(), position, length, StandardCharsets.UTF_8);
+    }
+
+    private static int unsignedShortAt(ByteBuffer buffer, int position) {
+        return buffer.getShort(position) & UNSIGNED_SHORT_MAX;
+    }
+
+    private static long unsignedIntAt(ByteBuffer buffer, int position) {
+        return buffer.getInt(position) & UNSIGNED_INT_MAX;
+    }
+
+    private static int toIntExact(long value) throws IOException {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Value " + value + " exceeds the supported size");
+        }
+        return (int) value;
+    }
+
+    /**
+     * @param entry An entry of this JAR file
+     * @param entryUri The URI of the entry, to read it via the JDK, if it can't be read directly
+     * @return A stream of the uncompressed content of the given entry. Safe to be called concurrently.
+     */
+    InputStream openStream(Entry entry, URI entryUri) throws IOException {
+        try {
+            return new ByteArrayInputStream(read(entry));
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Couldn't read entry {} of JAR file {} directly, falling back to regular reading", entry.name, file, e);
+            return entryUri.toURL().openStream();
+        }
+    }
+
+    /**
+     * @return The uncompressed content of the given entry. Safe to be called concurrently.
+     */
+    byte[] read(Entry entry) throws IOException {
+        try (FileChannel channel = open(file)) {
+            ByteBuffer localHeader = littleEndian(read(channel, entry.localHeaderOffset, LOCAL_FILE_HEADER_SIZE));
+            if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+                throw new IOException(String.format("Invalid local header of entry %s in %s", entry.name, file));
+            }
+            long dataStart = entry.localHeaderOffset + LOCAL_FILE_HEADER_SIZE
+                    + unsignedShortAt(localHeader, 26) + unsignedShortAt(localHeader, 28);
+
+            switch (entry.method) {
+                case STORED:
+                    return read(channel, dataStart, toIntExact(entry.uncompressedSize));
+                case DEFLATED:
+                    // inflating raw data requires an extra dummy byte of input (compare Inflater(boolean))
+                    int compressedSize = toIntExact(entry.compressedSize);
+                    return inflate(read(channel, dataStart, compressedSize, compressedSize + 1), entry);
+                default:
+                    throw new IOException(String.format(
+                            "Unsupported compression method %d of entry %s in %s", entry.method, entry.name, file));
+            }
+        }
+    }
+
+    private static FileChannel open(File file) throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    private static byte[] read(FileChannel channel, long position, int length) throws IOException {
+        return read(channel, position, length, length);
+    }
+
+    private static byte[] read(FileChannel channel, long position, int length, int bufferSize) throws IOException {
+        byte[] result = new byte[bufferSize];
+        ByteBuffer buffer = ByteBuffer.wrap(result, 0, length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException(String.format("Unexpected end of file reading %d bytes at position %d", length, position));
+            }
+        }
+        return result;
+    }
+
+    private static ByteBuffer littleEndian(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private byte[] inflate(byte[] compressed, Entry entry) throws IOException {
+        Inflater inflater = inflaterPool.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setInput(compressed);
+            byte[] result = new byte[toIntExact(entry.uncompressedSize)];
+            int length = 0;
+            while (length < result.length && !inflater.finished()) {
+                int inflated = inflater.inflate(result, length, result.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != result.length) {
+                throw new IOException(String.format("Corrupt entry %s in %s", entry.name, file));
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IOException(String.format("Corrupt entry %s in %s", entry.name, file), e);
+        } finally {
+            inflater.reset();
+            inflaterPool.offer(inflater);
+        }
+    }
+
+    static class Entry {
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long uncompressedSize;
+        private final long localHeaderOffset;
+
+        private Entry(String name, int method, long compressedSize, long uncompressedSize, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.uncompressedSize = uncompressedSize;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    private static class CentralDirectoryLocation {
+        private final long numberOfEntries;
+        private final long size;
+        private final long offset;
+
+        CentralDirectoryLocation(long numberOfEntries, long size, long offset) {
+            this.numberOfEntries = numberOfEntries;
+            this.size = size;
+            this.offset = offset;
+        }
+    }
+}
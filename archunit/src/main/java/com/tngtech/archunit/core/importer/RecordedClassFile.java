@@ -0,0 +1,696 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.lang.reflect.Array;
+
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.RecordComponentVisitor;
+import org.objectweb.asm.Type;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+
+/**
+ * The result of parsing a class file, recorded as the sequence of visitor calls ASM issues while reading the class file.
+ * Replaying a record issues the same calls to another {@link ClassVisitor}, without reading the class file again.
+ * Only the calls {@link JavaClassProcessor} makes use of are recorded, e.g. frames, local variables and all instructions
+ * besides field accesses, method calls, class literals and {@code instanceof} checks are left out.
+ * <br><br>
+ * A record is always created from the complete class file (apart from stack map frames), so it does not depend on any
+ * {@link com.tngtech.archunit.core.domain.ImportDepth ImportDepth}. The parsing options {@link ClassReader#SKIP_CODE}
+ * and {@link ClassReader#SKIP_DEBUG} are applied when the record is replayed.
+ */
+class RecordedClassFile {
+    private static final byte VISIT = 1;
+    private static final byte SOURCE = 2;
+    private static final byte RECORD_COMPONENT = 3;
+    private static final byte INNER_CLASS = 4;
+    private static final byte OUTER_CLASS = 5;
+    private static final byte FIELD = 6;
+    private static final byte METHOD = 7;
+    private static final byte ANNOTATION = 8;
+    private static final byte CODE = 9;
+    private static final byte PARAMETER_ANNOTATION = 10;
+    private static final byte LINE_NUMBER = 11;
+    private static final byte CLASS_LITERAL = 12;
+    private static final byte FIELD_INSTRUCTION = 13;
+    private static final byte METHOD_INSTRUCTION = 14;
+    private static final byte INSTANCEOF_CHECK = 15;
+    private static final byte ANNOTATION_DEFAULT = 16;
+    private static final byte VALUE = 17;
+    private static final byte ENUM_VALUE = 18;
+    private static final byte ARRAY = 19;
+    private static final byte END = 20;
+
+    private static final AnnotationVisitor IGNORING_ANNOTATION_VISITOR = new AnnotationVisitor(ASM_API_VERSION) {
+    };
+    private static final FieldVisitor IGNORING_FIELD_VISITOR = new FieldVisitor(ASM_API_VERSION) {
+    };
+    private static final MethodVisitor IGNORING_METHOD_VISITOR = new MethodVisitor(ASM_API_VERSION) {
+    };
+
+    private RecordedClassFile() {
+    }
+
+    static byte[] record(byte[] classFile) {
+        ByteArrayDataOutput out = ByteStreams.newDataOutput(classFile.length / 2);
+        new ClassReader(classFile).accept(new ClassRecorder(out), ClassReader.SKIP_FRAMES);
+        return out.toByteArray();
+    }
+
+    static void replay(byte[] record, ClassVisitor visitor, int parsingOptions) {
+        new Replay(ByteStreams.newDataInput(record), parsingOptions).replayClass(visitor);
+    }
+
+    private static void writeNullable(ByteArrayDataOutput out, String value) {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeNullable(ByteArrayDataOutput out, String[] values) {
+        out.writeInt(values != null ? values.length : -1);
+        if (values != null) {
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        }
+    }
+
+    private static class ClassRecorder extends ClassVisitor {
+        private final ByteArrayDataOutput out;
+
+        ClassRecorder(ByteArrayDataOutput out) {
+            super(ASM_API_VERSION);
+            this.out = out;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            out.writeByte(VISIT);
+            out.writeInt(version);
+            out.writeInt(access);
+            out.writeUTF(name);
+            writeNullable(out, signature);
+            writeNullable(out, superName);
+            writeNullable(out, interfaces);
+        }
+
+        @Override
+        public void visitSource(String source, String debug) {
+            out.writeByte(SOURCE);
+            writeNullable(out, source);
+        }
+
+        @Override
+        public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+            out.writeByte(RECORD_COMPONENT);
+            out.writeUTF(name);
+            out.writeUTF(descriptor);
+            writeNullable(out, signature);
+            return null;
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+            out.writeByte(INNER_CLASS);
+            out.writeUTF(name);
+            writeNullable(out, outerName);
+            writeNullable(out, innerName);
+            out.writeInt(access);
+        }
+
+        @Override
+        public void visitOuterClass(String owner, String name, String descriptor) {
+            out.writeByte(OUTER_CLASS);
+            out.writeUTF(owner);
+            writeNullable(out, name);
+            writeNullable(out, descriptor);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            out.writeByte(FIELD);
+            out.writeInt(access);
+            out.writeUTF(name);
+            out.writeUTF(descriptor);
+            writeNullable(out, signature);
+            return new FieldRecorder(out);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            out.writeByte(METHOD);
+            out.writeInt(access);
+            out.writeUTF(name);
+            out.writeUTF(descriptor);
+            writeNullable(out, signature);
+            writeNullable(out, exceptions);
+            return new MethodRecorder(out);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            out.writeByte(ANNOTATION);
+            out.writeUTF(descriptor);
+            out.writeBoolean(visible);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+        }
+    }
+
+    private static class FieldRecorder extends FieldVisitor {
+        private final ByteArrayDataOutput out;
+
+        FieldRecorder(ByteArrayDataOutput out) {
+            super(ASM_API_VERSION);
+            this.out = out;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            out.writeByte(ANNOTATION);
+            out.writeUTF(descriptor);
+            out.writeBoolean(visible);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+        }
+    }
+
+    private static class MethodRecorder extends MethodVisitor {
+        private final ByteArrayDataOutput out;
+
+        MethodRecorder(ByteArrayDataOutput out) {
+            super(ASM_API_VERSION);
+            this.out = out;
+        }
+
+        @Override
+        public void visitCode() {
+            out.writeByte(CODE);
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(int parameter, String descriptor, boolean visible) {
+            out.writeByte(PARAMETER_ANNOTATION);
+            out.writeInt(parameter);
+            out.writeUTF(descriptor);
+            out.writeBoolean(visible);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            out.writeByte(LINE_NUMBER);
+            out.writeInt(line);
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            if (value instanceof Type) {
+                out.writeByte(CLASS_LITERAL);
+                out.writeUTF(((Type) value).getDescriptor());
+            }
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            out.writeByte(FIELD_INSTRUCTION);
+            out.writeInt(opcode);
+            out.writeUTF(owner);
+            out.writeUTF(name);
+            out.writeUTF(descriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            out.writeByte(METHOD_INSTRUCTION);
+            out.writeInt(opcode);
+            out.writeUTF(owner);
+            out.writeUTF(name);
+            out.writeUTF(descriptor);
+            out.writeBoolean(isInterface);
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            if (opcode == INSTANCEOF) {
+                out.writeByte(INSTANCEOF_CHECK);
+                out.writeUTF(type);
+            }
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            out.writeByte(ANNOTATION);
+            out.writeUTF(descriptor);
+            out.writeBoolean(visible);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            out.writeByte(ANNOTATION_DEFAULT);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+        }
+    }
+
+    private static class AnnotationRecorder extends AnnotationVisitor {
+        private final ByteArrayDataOutput out;
+
+        AnnotationRecorder(ByteArrayDataOutput out) {
+            super(ASM_API_VERSION);
+            this.out = out;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            out.writeByte(VALUE);
+            writeNullable(out, name);
+            ValueType.of(value).write(out, value);
+        }
+
+        @Override
+        public void visitEnum(String name, String descriptor, String value) {
+            out.writeByte(ENUM_VALUE);
+            writeNullable(out, name);
+            out.writeUTF(descriptor);
+            out.writeUTF(value);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+            out.writeByte(ANNOTATION);
+            writeNullable(out, name);
+            out.writeUTF(descriptor);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            out.writeByte(ARRAY);
+            writeNullable(out, name);
+            return new AnnotationRecorder(out);
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+        }
+    }
+
+    private static class Replay {
+        private final ByteArrayDataInput in;
+        private final boolean skipCode;
+        private final boolean skipDebug;
+
+        Replay(ByteArrayDataInput in, int parsingOptions) {
+            this.in = in;
+            this.skipCode = (parsingOptions & ClassReader.SKIP_CODE) != 0;
+            this.skipDebug = (parsingOptions & ClassReader.SKIP_DEBUG) != 0;
+        }
+
+        void replayClass(ClassVisitor visitor) {
+            while (true) {
+                byte event = in.readByte();
+                switch (event) {
+                    case VISIT:
+                        visitor.visit(in.readInt(), in.readInt(), in.readUTF(), readNullableString(), readNullableString(), readNullableStrings());
+                        break;
+                    case SOURCE:
+                        String source = readNullableString();
+                        if (!skipDebug) {
+                            visitor.visitSource(source, null);
+                        }
+                        break;
+                    case RECORD_COMPONENT:
+                        RecordComponentVisitor recordComponentVisitor = visitor.visitRecordComponent(in.readUTF(), in.readUTF(), readNullableString());
+                        if (recordComponentVisitor != null) {
+                            recordComponentVisitor.visitEnd();
+                        }
+                        break;
+                    case INNER_CLASS:
+                        visitor.visitInnerClass(in.readUTF(), readNullableString(), readNullableString(), in.readInt());
+                        break;
+                    case OUTER_CLASS:
+                        visitor.visitOuterClass(in.readUTF(), readNullableString(), readNullableString());
+                        break;
+                    case FIELD:
+                        FieldVisitor fieldVisitor = visitor.visitField(in.readInt(), in.readUTF(), in.readUTF(), readNullableString(), null);
+                        replayField(fieldVisitor != null ? fieldVisitor : IGNORING_FIELD_VISITOR);
+                        break;
+                    case METHOD:
+                        MethodVisitor methodVisitor = visitor.visitMethod(in.readInt(), in.readUTF(), in.readUTF(), readNullableString(), readNullableStrings());
+                        replayMethod(methodVisitor != null ? methodVisitor : IGNORING_METHOD_VISITOR);
+                        break;
+                    case ANNOTATION:
+                        replayAnnotation(visitor.visitAnnotation(in.readUTF(), in.readBoolean()));
+                        break;
+                    case END:
+                        visitor.visitEnd();
+                        return;
+                    default:
+                        throw unknownEvent(event);
+                }
+            }
+        }
+
+        private void replayField(FieldVisitor visitor) {
+            while (true) {
+                byte event = in.readByte();
+                switch (event) {
+                    case ANNOTATION:
+                        replayAnnotation(visitor.visitAnnotation(in.readUTF(), in.readBoolean()));
+                        break;
+                    case END:
+                        visitor.visitEnd();
+                        return;
+                    default:
+                        throw unknownEvent(event);
+                }
+            }
+        }
+
+        private void replayMethod(MethodVisitor visitor) {
+            while (true) {
+                byte event = in.readByte();
+                switch (event) {
+                    case CODE:
+                        if (!skipCode) {
+                            visitor.visitCode();
+                        }
+                        break;
+                    case PARAMETER_ANNOTATION:
+                        replayAnnotation(visitor.visitParameterAnnotation(in.readInt(), in.readUTF(), in.readBoolean()));
+                        break;
+                    case LINE_NUMBER:
+                        int line = in.readInt();
+                        if (!skipCode && !skipDebug) {
+                            visitor.visitLineNumber(line, new Label());
+                        }
+                        break;
+                    case CLASS_LITERAL:
+                        Type type = Type.getType(in.readUTF());
+                        if (!skipCode) {
+                            visitor.visitLdcInsn(type);
+                        }
+                        break;
+                    case FIELD_INSTRUCTION:
+                        int fieldOpcode = in.readInt();
+                        String fieldOwner = in.readUTF();
+                        String fieldName = in.readUTF();
+                        String fieldDescriptor = in.readUTF();
+                        if (!skipCode) {
+                            visitor.visitFieldInsn(fieldOpcode, fieldOwner, fieldName, fieldDescriptor);
+                        }
+                        break;
+                    case METHOD_INSTRUCTION:
+                        int methodOpcode = in.readInt();
+                        String methodOwner = in.readUTF();
+                        String methodName = in.readUTF();
+                        String methodDescriptor = in.readUTF();
+                        boolean isInterface = in.readBoolean();
+                        if (!skipCode) {
+                            visitor.visitMethodInsn(methodOpcode, methodOwner, methodName, methodDescriptor, isInterface);
+                        }
+                        break;
+                    case INSTANCEOF_CHECK:
+                        String checkedType = in.readUTF();
+                        if (!skipCode) {
+                            visitor.visitTypeInsn(INSTANCEOF, checkedType);
+                        }
+                        break;
+                    case ANNOTATION:
+                        replayAnnotation(visitor.visitAnnotation(in.readUTF(), in.readBoolean()));
+                        break;
+                    case ANNOTATION_DEFAULT:
+                        replayAnnotation(visitor.visitAnnotationDefault());
+                        break;
+                    case END:
+                        visitor.visitEnd();
+                        return;
+                    default:
+                        throw unknownEvent(event);
+                }
+            }
+        }
+
+        private void replayAnnotation(AnnotationVisitor nullableVisitor) {
+            AnnotationVisitor visitor = nullableVisitor != null ? nullableVisitor : IGNORING_ANNOTATION_VISITOR;
+            while (true) {
+                byte event = in.readByte();
+                switch (event) {
+                    case VALUE:
+                        String name = readNullableString();
+                        visitor.visit(name, ValueType.values()[in.readByte()].readValue(in));
+                        break;
+                    case ENUM_VALUE:
+                        visitor.visitEnum(readNullableString(), in.readUTF(), in.readUTF());
+                        break;
+                    case ANNOTATION:
+                        replayAnnotation(visitor.visitAnnotation(readNullableString(), in.readUTF()));
+                        break;
+                    case ARRAY:
+                        replayAnnotation(visitor.visitArray(readNullableString()));
+                        break;
+                    case END:
+                        visitor.visitEnd();
+                        return;
+                    default:
+                        throw unknownEvent(event);
+                }
+            }
+        }
+
+        private String readNullableString() {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+
+        private String[] readNullableStrings() {
+            int length = in.readInt();
+            if (length < 0) {
+                return null;
+            }
+            String[] result = new String[length];
+            for (int i = 0; i < length; i++) {
+                result[i] = in.readUTF();
+            }
+            return result;
+        }
+
+        private IllegalStateException unknownEvent(byte event) {
+            return new IllegalStateException(String.format("Recorded class file contains unknown event %d", event));
+        }
+    }
+
+    // The values ASM passes to AnnotationVisitor.visit(..), compare its Javadoc
+    private enum ValueType {
+        BYTE(Byte.class, byte.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeByte((Byte) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readByte();
+            }
+        },
+        BOOLEAN(Boolean.class, boolean.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeBoolean((Boolean) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readBoolean();
+            }
+        },
+        CHARACTER(Character.class, char.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeChar((Character) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readChar();
+            }
+        },
+        SHORT(Short.class, short.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeShort((Short) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readShort();
+            }
+        },
+        INTEGER(Integer.class, int.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeInt((Integer) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readInt();
+            }
+        },
+        LONG(Long.class, long.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeLong((Long) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readLong();
+            }
+        },
+        FLOAT(Float.class, float.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeFloat((Float) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readFloat();
+            }
+        },
+        DOUBLE(Double.class, double.class) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeDouble((Double) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readDouble();
+            }
+        },
+        STRING(String.class, null) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeUTF((String) value);
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return in.readUTF();
+            }
+        },
+        TYPE(Type.class, null) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                out.writeUTF(((Type) value).getDescriptor());
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                return Type.getType(in.readUTF());
+            }
+        },
+        PRIMITIVE_ARRAY(null, null) {
+            @Override
+            void writeValue(ByteArrayDataOutput out, Object value) {
+                ValueType componentType = ofPrimitive(value.getClass().getComponentType());
+                int length = Array.getLength(value);
+                out.writeByte(componentType.ordinal());
+                out.writeInt(length);
+                for (int i = 0; i < length; i++) {
+                    componentType.writeValue(out, Array.get(value, i));
+                }
+            }
+
+            @Override
+            Object readValue(ByteArrayDataInput in) {
+                ValueType componentType = values()[in.readByte()];
+                int length = in.readInt();
+                Object result = Array.newInstance(componentType.primitiveType, length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(result, i, componentType.readValue(in));
+                }
+                return result;
+            }
+        };
+
+        private final Class<?> type;
+        private final Class<?> primitiveType;
+
+        ValueType(Class<?> type, Class<?> primitiveType) {
+            this.type = type;
+            this.primitiveType = primitiveType;
+        }
+
+        void write(ByteArrayDataOutput out, Object value) {
+            out.writeByte(ordinal());
+            writeValue(out, value);
+        }
+
+        abstract void writeValue(ByteArrayDataOutput out, Object value);
+
+        abstract Object readValue(ByteArrayDataInput in);
+
+        static ValueType of(Object value) {
+            if (value.getClass().isArray()) {
+                return PRIMITIVE_ARRAY;
+            }
+            for (ValueType valueType : values()) {
+                if (valueType.type != null && valueType.type.isInstance(value)) {
+                    return valueType;
+                }
+            }
+            throw new IllegalArgumentException(String.format("Unsupported annotation value %s of type %s", value, value.getClass().getName()));
+        }
+
+        private static ValueType ofPrimitive(Class<?> primitiveType) {
+            for (ValueType valueType : values()) {
+                if (primitiveType.equals(valueType.primitiveType)) {
+                    return valueType;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported annotation array component type " + primitiveType.getName());
+        }
+    }
+}
@@ -15,6 +15,10 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -44,13 +48,7 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final ClassesTransformer<T> that(final DescribedPredicate<? super T> predicate) {
-        return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription()) {
-            @Override
-            public Iterable<T> doTransform(JavaClasses collection) {
-                Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
-                return Guava.Iterables.filter(transformed, predicate);
-            }
-        };
+        return new FilteringTransformer<>(this, predicate);
     }
 
     @Override
@@ -60,16 +58,77 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final ClassesTransformer<T> as(String description) {
-        return new AbstractClassesTransformer<T>(description) {
-            @Override
-            public Iterable<T> doTransform(JavaClasses collection) {
-                return AbstractClassesTransformer.this.doTransform(collection);
-            }
-        };
+        return new RenamingTransformer<>(this, description);
+    }
+
+    /**
+     * @return The transformer this transformer has been derived from via {@link #that(DescribedPredicate)} and {@link #as(String)},
+     *         i.e. the transformer that actually creates the objects
+     */
+    AbstractClassesTransformer<T> getRoot() {
+        return this;
+    }
+
+    /**
+     * @return All predicates passed to {@link #that(DescribedPredicate)} to derive this transformer from {@link #getRoot()}
+     */
+    List<DescribedPredicate<? super T>> getFilters() {
+        return Collections.emptyList();
     }
 
     @Override
     public String toString() {
         return ClassesTransformer.class.getSimpleName() + "{" + getDescription() + "}";
     }
+
+    private static class FilteringTransformer<T> extends AbstractClassesTransformer<T> {
+        private final AbstractClassesTransformer<T> source;
+        private final DescribedPredicate<? super T> predicate;
+
+        FilteringTransformer(AbstractClassesTransformer<T> source, DescribedPredicate<? super T> predicate) {
+            super(source.getDescription() + " that " + predicate.getDescription());
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Iterable<T> doTransform(JavaClasses collection) {
+            Iterable<T> transformed = source.doTransform(collection);
+            return Guava.Iterables.filter(transformed, predicate);
+        }
+
+        @Override
+        AbstractClassesTransformer<T> getRoot() {
+            return source.getRoot();
+        }
+
+        @Override
+        List<DescribedPredicate<? super T>> getFilters() {
+            return ImmutableList.<DescribedPredicate<? super T>>builder().addAll(source.getFilters()).add(predicate).build();
+        }
+    }
+
+    private static class RenamingTransformer<T> extends AbstractClassesTransformer<T> {
+        private final AbstractClassesTransformer<T> source;
+
+        RenamingTransformer(AbstractClassesTransformer<T> source, String description) {
+            super(description);
+            this.source = source;
+        }
+
+        @Override
+        public Iterable<T> doTransform(JavaClasses collection) {
+            return source.doTransform(collection);
+        }
+
+        @Override
+        AbstractClassesTransformer<T> getRoot() {
+            return source.getRoot();
+        }
+
+        @Override
+        List<DescribedPredicate<? super T>> getFilters() {
+            return source.getFilters();
+        }
+    }
 }
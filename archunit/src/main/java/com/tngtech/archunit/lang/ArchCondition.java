@@ -58,6 +58,20 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Can be overridden to declare that this condition may be evaluated in parallel, if configured
+     * (compare {@link com.tngtech.archunit.ArchConfiguration#getRuleEvaluationParallelism()}).<br>
+     * This is only safe, if {@link #check(Object, ConditionEvents)} can be called concurrently from multiple threads
+     * and every single call stands for itself, i.e. the condition does not collect any state between {@link #init(Iterable)},
+     * {@link #check(Object, ConditionEvents)} and {@link #finish(ConditionEvents)}. The reported events will be the same
+     * and in the same order as for a sequential evaluation.
+     *
+     * @return true, if and only if {@link #check(Object, ConditionEvents)} may be called for different items in parallel
+     */
+    public boolean supportsParallelEvaluation() {
+        return false;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return new AndCondition<>(this, condition.<T>forSubtype());
     }
@@ -86,6 +100,11 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return ArchCondition.this.supportsParallelEvaluation();
+            }
         };
     }
 
@@ -137,6 +156,16 @@ public abstract class ArchCondition<T> {
             }
         }
 
+        @Override
+        public boolean supportsParallelEvaluation() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.supportsParallelEvaluation()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         List<ConditionWithEvents<T>> evaluateConditions(T item) {
             List<ConditionWithEvents<T>> evaluate = new ArrayList<>();
             for (ArchCondition<T> condition : conditions) {
@@ -23,6 +23,7 @@ import java.util.regex.Pattern;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
@@ -36,6 +37,7 @@ import com.tngtech.archunit.lang.syntax.elements.ClassesShould;
 import com.tngtech.archunit.lang.syntax.elements.ClassesThat;
 import com.tngtech.archunit.lang.syntax.elements.GivenClasses;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.io.Resources.readLines;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
@@ -65,6 +67,19 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @PublicAPI(usage = ACCESS)
     ArchRule because(String reason);
 
+    /**
+     * Limits the number of violations this rule detects. Once this number of violations has been found,
+     * the evaluation of the rule stops and the failure report states that the rule has been violated at least
+     * {@code maxViolations} times. If no limit is set on the rule, the limit configured via
+     * {@link ArchConfiguration#getRuleEvaluationMaxViolations()} applies.<br>
+     * To evaluate a rule completely, no matter which limit is configured, pass {@link Integer#MAX_VALUE}.
+     *
+     * @param maxViolations The maximum number of violations to detect, must be positive
+     * @return A rule equivalent to this rule, which stops the evaluation after {@code maxViolations} violations
+     */
+    @PublicAPI(usage = ACCESS)
+    ArchRule withMaxViolations(int maxViolations);
+
     @PublicAPI(usage = ACCESS)
     final class Assertions {
         private static final ArchUnitExtensions extensions = new ArchUnitExtensions();
@@ -77,7 +92,15 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         @PublicAPI(usage = ACCESS)
         public static void check(ArchRule rule, JavaClasses classes) {
-            EvaluationResult result = rule.evaluate(classes);
+            checkEvaluated(rule, classes, rule.evaluate(classes));
+        }
+
+        /**
+         * Like {@link #check(ArchRule, JavaClasses)}, but for a rule that has already been evaluated against the given classes,
+         * e.g. as part of a {@link RuleBatch}.
+         */
+        @PublicAPI(usage = ACCESS)
+        public static void checkEvaluated(ArchRule rule, JavaClasses classes, EvaluationResult result) {
             extensions.dispatch(new SimpleEvaluatedRule(rule, classes, result));
             assertNoViolation(result);
         }
@@ -163,7 +186,7 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @Internal
     class Factory {
         public static <T> ArchRule create(final ClassesTransformer<T> classesTransformer, final ArchCondition<T> condition, final Priority priority) {
-            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.<String>empty());
+            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.<String>empty(), Optional.<Integer>empty());
         }
 
         public static ArchRule withBecause(ArchRule rule, String reason) {
@@ -174,23 +197,56 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             return rule.getDescription() + ", because " + reason;
         }
 
-        private static class SimpleArchRule<T> implements ArchRule {
+        static int checkMaxViolations(int maxViolations) {
+            checkArgument(maxViolations > 0, "The maximum number of violations must be positive, but was %s", maxViolations);
+            return maxViolations;
+        }
+
+        static Optional<Integer> getMaxViolationsOrConfigured(Optional<Integer> maxViolations) {
+            return maxViolations.isPresent() ? maxViolations : ArchConfiguration.get().getRuleEvaluationMaxViolations();
+        }
+
+        static class SimpleArchRule<T> implements ArchRule {
             private final Priority priority;
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
             private final Optional<String> overriddenDescription;
+            private final Optional<Integer> maxViolations;
 
             private SimpleArchRule(Priority priority, ClassesTransformer<T> classesTransformer, ArchCondition<T> condition,
-                    Optional<String> overriddenDescription) {
+                    Optional<String> overriddenDescription, Optional<Integer> maxViolations) {
                 this.priority = priority;
                 this.classesTransformer = classesTransformer;
                 this.condition = condition;
                 this.overriddenDescription = overriddenDescription;
+                this.maxViolations = maxViolations;
             }
 
             @Override
             public ArchRule as(String newDescription) {
-                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription));
+                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription), maxViolations);
+            }
+
+            @Override
+            public ArchRule withMaxViolations(int maxViolations) {
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription,
+                        Optional.of(checkMaxViolations(maxViolations)));
+            }
+
+            Priority getPriority() {
+                return priority;
+            }
+
+            ClassesTransformer<T> getClassesTransformer() {
+                return classesTransformer;
+            }
+
+            ArchCondition<T> getCondition() {
+                return condition;
+            }
+
+            Optional<Integer> getMaxViolations() {
+                return getMaxViolationsOrConfigured(maxViolations);
             }
 
             @Override
@@ -207,9 +263,17 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             public EvaluationResult evaluate(JavaClasses classes) {
                 Iterable<T> allObjects = classesTransformer.transform(classes);
                 condition.init(allObjects);
-                ConditionEvents events = new ConditionEvents();
-                for (T object : allObjects) {
-                    condition.check(object, events);
+                ConditionEvents events = ConditionEvents.createForRuleEvaluation(getMaxViolations());
+                int parallelism = ArchConfiguration.get().getRuleEvaluationParallelism();
+                if (!events.hasViolationLimit() && ParallelEvaluation.isApplicable(condition, parallelism)) {
+                    ParallelEvaluation.check(condition, allObjects, parallelism, events);
+                } else {
+                    for (T object : allObjects) {
+                        condition.check(object, events);
+                        if (events.isViolationLimitReached()) {
+                            break;
+                        }
+                    }
                 }
                 condition.finish(events);
                 return new EvaluationResult(this, events, priority);
@@ -270,5 +334,24 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
                 return String.format("because '%s'", reason);
             }
         }
+
+        @Internal
+        final class MaxViolations implements Transformation {
+            private final int maxViolations;
+
+            public MaxViolations(int maxViolations) {
+                this.maxViolations = Factory.checkMaxViolations(maxViolations);
+            }
+
+            @Override
+            public ArchRule apply(ArchRule rule) {
+                return rule.withMaxViolations(maxViolations);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("with max violations %d", maxViolations);
+            }
+        }
     }
 }
@@ -20,10 +20,12 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.lang.ArchRule.Factory.checkMaxViolations;
 import static com.tngtech.archunit.lang.ArchRule.Factory.createBecauseDescription;
 import static com.tngtech.archunit.lang.Priority.MEDIUM;
 import static java.util.Collections.singletonList;
@@ -32,11 +34,13 @@ public final class CompositeArchRule implements ArchRule {
     private final Priority priority;
     private final List<ArchRule> rules;
     private final String description;
+    private final Optional<Integer> maxViolations;
 
-    private CompositeArchRule(Priority priority, List<ArchRule> rules, String description) {
+    private CompositeArchRule(Priority priority, List<ArchRule> rules, String description, Optional<Integer> maxViolations) {
         this.priority = priority;
         this.rules = checkNotNull(rules);
         this.description = checkNotNull(description);
+        this.maxViolations = checkNotNull(maxViolations);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -67,7 +71,7 @@ public final class CompositeArchRule implements ArchRule {
     public CompositeArchRule and(ArchRule rule) {
         List<ArchRule> newRules = ImmutableList.<ArchRule>builder().addAll(rules).add(rule).build();
         String newDescription = description + " and " + rule.getDescription();
-        return new CompositeArchRule(priority, newRules, newDescription);
+        return new CompositeArchRule(priority, newRules, newDescription, maxViolations);
     }
 
     @Override
@@ -79,7 +83,19 @@ public final class CompositeArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public CompositeArchRule because(String reason) {
-        return new CompositeArchRule(priority, rules, createBecauseDescription(this, reason));
+        return new CompositeArchRule(priority, rules, createBecauseDescription(this, reason), maxViolations);
+    }
+
+    /**
+     * Limits the number of violations of every rule of this composite rule, as well as the number of violations
+     * of the composite rule in total.
+     *
+     * @see ArchRule#withMaxViolations(int)
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public CompositeArchRule withMaxViolations(int maxViolations) {
+        return new CompositeArchRule(priority, rules, description, Optional.of(checkMaxViolations(maxViolations)));
     }
 
     @Override
@@ -87,15 +103,15 @@ public final class CompositeArchRule implements ArchRule {
     public EvaluationResult evaluate(JavaClasses classes) {
         EvaluationResult result = new EvaluationResult(this, priority);
         for (ArchRule rule : rules) {
-            result.add(rule.evaluate(classes));
+            result.add(maxViolations.isPresent() ? rule.withMaxViolations(maxViolations.get()).evaluate(classes) : rule.evaluate(classes));
         }
-        return result;
+        return maxViolations.isPresent() ? result.limitViolationsTo(maxViolations.get()) : result;
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public CompositeArchRule as(String newDescription) {
-        return new CompositeArchRule(priority, rules, newDescription);
+        return new CompositeArchRule(priority, rules, newDescription, maxViolations);
     }
 
     @Override
@@ -114,7 +130,7 @@ public final class CompositeArchRule implements ArchRule {
 
         @PublicAPI(usage = ACCESS)
         public final CompositeArchRule of(ArchRule rule) {
-            return new CompositeArchRule(priority, singletonList(rule), rule.getDescription());
+            return new CompositeArchRule(priority, singletonList(rule), rule.getDescription(), Optional.<Integer>empty());
         }
     }
 }
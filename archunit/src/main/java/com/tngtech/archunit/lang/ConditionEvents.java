@@ -27,6 +27,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
 import com.google.common.reflect.TypeToken;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
 
@@ -37,14 +38,80 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
 
     @PublicAPI(usage = ACCESS)
     public ConditionEvents() {
+        this(true);
     }
 
+    private ConditionEvents(boolean recordAllowedEvents) {
+        this.recordAllowedEvents = recordAllowedEvents;
+    }
+
+    private final boolean recordAllowedEvents;
+    private int maxNumberOfViolations = Integer.MAX_VALUE;
     private final Multimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
     private Optional<String> informationAboutNumberOfViolations = Optional.empty();
 
+    /**
+     * Creates {@link ConditionEvents} that only record violations, i.e. any allowed event that is added
+     * will be dropped. Conditions can check {@link #recordsAllowedEvents()} to avoid creating allowed events
+     * (and their messages) in the first place.<br>
+     * Note that such events will also report {@link #isEmpty()} if only allowed events have been added.
+     *
+     * @return New empty {@link ConditionEvents} that only record violations
+     * @see ArchConfiguration#setRuleEvaluationViolationsOnly(boolean)
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ConditionEvents recordingViolationsOnly() {
+        return new ConditionEvents(false);
+    }
+
+    static ConditionEvents createForRuleEvaluation(Optional<Integer> maxNumberOfViolations) {
+        ConditionEvents result = ArchConfiguration.get().isRuleEvaluationViolationsOnly() ? recordingViolationsOnly() : new ConditionEvents();
+        if (maxNumberOfViolations.isPresent()) {
+            result.maxNumberOfViolations = maxNumberOfViolations.get();
+        }
+        return result;
+    }
+
+    ConditionEvents createEmptyWithSameRecordingAndLimit(int maxNumberOfViolations) {
+        ConditionEvents result = createEmptyWithSameRecording();
+        result.maxNumberOfViolations = maxNumberOfViolations;
+        return result;
+    }
+
+    boolean hasViolationLimit() {
+        return maxNumberOfViolations < Integer.MAX_VALUE;
+    }
+
+    boolean isViolationLimitReached() {
+        return getViolating().size() >= maxNumberOfViolations;
+    }
+
+    /**
+     * @return New empty {@link ConditionEvents} that record the same kind of events as these events
+     */
+    @PublicAPI(usage = ACCESS)
+    public ConditionEvents createEmptyWithSameRecording() {
+        return new ConditionEvents(recordAllowedEvents);
+    }
+
+    /**
+     * @return {@code false}, if allowed events are dropped by these events (compare {@link #recordingViolationsOnly()}),
+     *         {@code true} otherwise
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean recordsAllowedEvents() {
+        return recordAllowedEvents;
+    }
+
     @PublicAPI(usage = ACCESS)
     public void add(ConditionEvent event) {
-        eventsByViolation.get(Type.from(event.isViolation())).add(event);
+        boolean violation = event.isViolation();
+        if (violation && isViolationLimitReached()) {
+            return;
+        }
+        if (violation || recordAllowedEvents) {
+            eventsByViolation.get(Type.from(violation)).add(event);
+        }
     }
 
     /**
@@ -99,7 +166,18 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         ImmutableList<String> result = FluentIterable.from(getViolating())
                 .transformAndConcat(TO_DESCRIPTION_LINES)
                 .toSortedList(Ordering.natural());
-        return new FailureMessages(result, informationAboutNumberOfViolations);
+        return new FailureMessages(result, getInformationAboutNumberOfViolations());
+    }
+
+    private Optional<String> getInformationAboutNumberOfViolations() {
+        if (informationAboutNumberOfViolations.isPresent() || !isViolationLimitReached()) {
+            return informationAboutNumberOfViolations;
+        }
+        return Optional.of(String.format(
+                ">= %d times - the evaluation of the rule has been stopped at this number of violations; "
+                        + "to report all violations the limit can be raised via ArchRule.withMaxViolations(..) "
+                        + "or the `archunit.properties` value `%s=xxx`",
+                maxNumberOfViolations, ArchConfiguration.RULE_EVALUATION_MAX_VIOLATIONS));
     }
 
     /**
@@ -87,6 +87,22 @@ public final class EvaluationResult {
         return priority;
     }
 
+    /**
+     * @param maxViolations The maximum number of violations to keep
+     * @return A new {@link EvaluationResult} containing at most {@code maxViolations} of the violations of this result.
+     *         If violations have been dropped, the {@link FailureReport} states that the rule has been violated at least
+     *         {@code maxViolations} times.
+     * @see ArchRule#withMaxViolations(int)
+     */
+    @PublicAPI(usage = ACCESS)
+    public EvaluationResult limitViolationsTo(int maxViolations) {
+        ConditionEvents limited = events.createEmptyWithSameRecordingAndLimit(maxViolations);
+        for (ConditionEvent event : events) {
+            limited.add(event);
+        }
+        return new EvaluationResult(rule, limited, priority);
+    }
+
     /**
      * Filters all recorded {@link ConditionEvent ConditionEvents} by their textual description.
      * I.e. the lines of the description of an event are passed to the supplied predicate to
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.ParallelExecution;
+
+/**
+ * Checks consecutive partitions of the objects of a rule concurrently, each into its own {@link ConditionEvents}.
+ * The events are then merged in the original order of the objects, so the result is the same as if all objects
+ * had been checked sequentially.
+ */
+final class ParallelEvaluation {
+    private ParallelEvaluation() {
+    }
+
+    static <T> boolean isApplicable(ArchCondition<T> condition, int parallelism) {
+        return parallelism > 1 && condition.supportsParallelEvaluation();
+    }
+
+    static <T> void check(final ArchCondition<T> condition, Iterable<T> allObjects, int parallelism, final ConditionEvents events) {
+        List<Callable<ConditionEvents>> partitionChecks = new ArrayList<>();
+        for (final List<T> partition : ParallelExecution.partition(ImmutableList.copyOf(allObjects), parallelism)) {
+            partitionChecks.add(new Callable<ConditionEvents>() {
+                @Override
+                public ConditionEvents call() {
+                    ConditionEvents result = events.createEmptyWithSameRecording();
+                    for (T object : partition) {
+                        condition.check(object, result);
+                    }
+                    return result;
+                }
+            });
+        }
+
+        for (ConditionEvents partitionEvents : ParallelExecution.invokeAll("rule-evaluation", parallelism, partitionChecks)) {
+            addAll(partitionEvents, events);
+        }
+    }
+
+    private static void addAll(ConditionEvents source, ConditionEvents target) {
+        for (ConditionEvent event : source.getAllowed()) {
+            target.add(event);
+        }
+        for (ConditionEvent event : source.getViolating()) {
+            target.add(event);
+        }
+    }
+}
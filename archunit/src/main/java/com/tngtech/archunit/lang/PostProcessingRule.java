@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Implemented by rules that derive their result from the complete result of another rule
+ * (e.g. {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}, which compares all violations
+ * with a store). Such a rule may only see the joined result, if the other rule is evaluated piece by piece.
+ */
+@Internal
+public interface PostProcessingRule {
+    /**
+     * @return The rule whose complete result is passed to {@link #postProcess(EvaluationResult)}
+     */
+    ArchRule getPostProcessedRule();
+
+    EvaluationResult postProcess(EvaluationResult completeResult);
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multiset;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule.Factory.SimpleArchRule;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Evaluates several {@link ArchRule ArchRules} against the same {@link JavaClasses} together.
+ * Rules that operate on the same {@link ClassesTransformer} (e.g. all rules starting with
+ * {@link com.tngtech.archunit.lang.syntax.ArchRuleDefinition#classes() classes()}, no matter which objects they select via
+ * {@link ClassesTransformer#that(DescribedPredicate) that(..)}) share a single transformation and a single pass over
+ * the transformed objects, where each object is handed to the condition of every rule that selects it in turn.
+ * A predicate that selects the objects of several rules is evaluated only once per object
+ * (compare {@link DescribedPredicate#cached()}). Any other rule is simply evaluated on its own.
+ * <br><br>
+ * The {@link EvaluationResult} of each rule is the same as if the rule had been evaluated by {@link ArchRule#evaluate(JavaClasses)}.
+ * <br><br>
+ * Example:
+ * <pre><code>
+ * List&lt;EvaluationResult&gt; results = RuleBatch.of(firstRule, secondRule, thirdRule).evaluate(importedClasses);
+ * </code></pre>
+ */
+@PublicAPI(usage = ACCESS)
+public final class RuleBatch {
+    private final List<ArchRule> rules;
+
+    private RuleBatch(List<ArchRule> rules) {
+        this.rules = rules;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static RuleBatch of(ArchRule... rules) {
+        return of(Arrays.asList(rules));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static RuleBatch of(Iterable<? extends ArchRule> rules) {
+        return new RuleBatch(ImmutableList.<ArchRule>copyOf(rules));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public List<ArchRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * @return The {@link EvaluationResult EvaluationResults} of all rules of this batch, in the order the rules were passed
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<EvaluationResult> evaluate(JavaClasses classes) {
+        return evaluate(rules, classes);
+    }
+
+    private static List<EvaluationResult> evaluate(List<ArchRule> rules, JavaClasses classes) {
+        EvaluationResult[] results = new EvaluationResult[rules.size()];
+        Map<ClassesTransformer<?>, TransformerGroup<?>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < rules.size(); i++) {
+            ArchRule rule = unwrap(rules.get(i));
+            boolean grouped = rule instanceof SimpleArchRule<?> && addTo(groups, (SimpleArchRule<?>) rule, i);
+            if (!grouped) {
+                results[i] = rule.evaluate(classes);
+            }
+        }
+        for (TransformerGroup<?> group : groups.values()) {
+            group.evaluate(classes, results);
+        }
+        return ImmutableList.copyOf(results);
+    }
+
+    /**
+     * Evaluates all rules of this batch against each of the given batches of classes in turn
+     * (e.g. as imported by {@link com.tngtech.archunit.core.importer.ClassFileImporter#importLocationsInBatches(java.util.Collection, int)})
+     * and joins the results of each rule. Each batch of classes can be released as soon as it has been evaluated.
+     * <br><br>
+     * Note that this only gives the same results as evaluating the rules against all classes at once,
+     * if the rules check each class on its own (like rules about names or annotations of classes).
+     * Rules that derive their result from all violations, like a
+     * {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}, only see the joined result of all batches,
+     * e.g. a frozen rule updates its store only once after the last batch.
+     *
+     * @return The joined {@link EvaluationResult EvaluationResults} of all rules of this batch, in the order the rules were passed
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<EvaluationResult> evaluateInBatches(Iterable<JavaClasses> batchesOfClasses) {
+        Iterator<JavaClasses> batches = batchesOfClasses.iterator();
+        checkArgument(batches.hasNext(), "At least one batch of classes must be supplied");
+
+        // post processing needs the complete result, so the post processed rule must not stop at any limit of violations
+        List<ArchRule> rulesPerBatch = new ArrayList<>(rules.size());
+        for (ArchRule rule : rules) {
+            rulesPerBatch.add(rule instanceof PostProcessingRule
+                    ? ((PostProcessingRule) rule).getPostProcessedRule().withMaxViolations(Integer.MAX_VALUE)
+                    : rule);
+        }
+
+        List<EvaluationResult> results = evaluate(rulesPerBatch, batches.next());
+        while (batches.hasNext()) {
+            List<EvaluationResult> batchResults = evaluate(rulesPerBatch, batches.next());
+            for (int i = 0; i < results.size(); i++) {
+                results.get(i).add(batchResults.get(i));
+            }
+        }
+        return postProcess(results);
+    }
+
+    private List<EvaluationResult> postProcess(List<EvaluationResult> joinedResults) {
+        ImmutableList.Builder<EvaluationResult> result = ImmutableList.builder();
+        for (int i = 0; i < rules.size(); i++) {
+            result.add(rules.get(i) instanceof PostProcessingRule
+                    ? ((PostProcessingRule) rules.get(i)).postProcess(joinedResults.get(i))
+                    : joinedResults.get(i));
+        }
+        return result.build();
+    }
+
+    private static ArchRule unwrap(ArchRule rule) {
+        ArchRule result = rule;
+        while (result instanceof DelegatingRule) {
+            result = ((DelegatingRule) result).getDelegate();
+        }
+        return result;
+    }
+
+    private static <T> boolean addTo(Map<ClassesTransformer<?>, TransformerGroup<?>> groups, SimpleArchRule<T> rule, int index) {
+        ClassesTransformer<T> root = rule.getClassesTransformer();
+        List<DescribedPredicate<? super T>> filters = Collections.emptyList();
+        if (root instanceof AbstractClassesTransformer<?>) {
+            filters = ((AbstractClassesTransformer<T>) root).getFilters();
+            root = ((AbstractClassesTransformer<T>) root).getRoot();
+        }
+
+        @SuppressWarnings("unchecked") // the group was created for the transformer of this rule, so the object type matches
+        TransformerGroup<T> group = (TransformerGroup<T>) groups.get(root);
+        if (group == null) {
+            group = new TransformerGroup<>(root);
+            groups.put(root, group);
+        }
+        return group.add(rule, filters, index);
+    }
+
+    private static class TransformerGroup<T> {
+        private final ClassesTransformer<T> transformer;
+        private final List<SimpleArchRule<T>> rules = new ArrayList<>();
+        private final List<List<DescribedPredicate<? super T>>> filters = new ArrayList<>();
+        private final List<Integer> indexes = new ArrayList<>();
+
+        TransformerGroup(ClassesTransformer<T> transformer) {
+            this.transformer = transformer;
+        }
+
+        // conditions may keep state between init(..) and finish(..), so the same condition can't take part in one pass twice
+        boolean add(SimpleArchRule<T> rule, List<DescribedPredicate<? super T>> filtersOfRule, int index) {
+            for (SimpleArchRule<T> existing : rules) {
+                if (existing.getCondition() == rule.getCondition()) {
+                    return false;
+                }
+            }
+            rules.add(rule);
+            filters.add(filtersOfRule);
+            indexes.add(index);
+            return true;
+        }
+
+        void evaluate(JavaClasses classes, EvaluationResult[] results) {
+            Iterable<T> allObjects = transformer.transform(classes);
+            List<Optional<DescribedPredicate<T>>> relevantObjects = createRelevantObjectPredicates();
+            List<ArchCondition<T>> conditions = new ArrayList<>(rules.size());
+            List<ConditionEvents> events = new ArrayList<>(rules.size());
+            for (int i = 0; i < rules.size(); i++) {
+                ArchCondition<T> condition = rules.get(i).getCondition();
+                condition.init(relevantObjects.get(i).isPresent()
+                        ? Guava.Iterables.filter(allObjects, relevantObjects.get(i).get())
+                        : allObjects);
+                conditions.add(condition);
+                events.add(ConditionEvents.createForRuleEvaluation(rules.get(i).getMaxViolations()));
+            }
+            for (T object : allObjects) {
+                int numberOfUnfinishedRules = 0;
+                for (int i = 0; i < conditions.size(); i++) {
+                    if (!events.get(i).isViolationLimitReached()) {
+                        if (!relevantObjects.get(i).isPresent() || relevantObjects.get(i).get().apply(object)) {
+                            conditions.get(i).check(object, events.get(i));
+                        }
+                        numberOfUnfinishedRules++;
+                    }
+                }
+                if (numberOfUnfinishedRules == 0) {
+                    break;
+                }
+            }
+            for (int i = 0; i < rules.size(); i++) {
+                conditions.get(i).finish(events.get(i));
+                results[indexes.get(i)] = new EvaluationResult(rules.get(i), events.get(i), rules.get(i).getPriority());
+            }
+        }
+
+        // a predicate shared by several rules (e.g. the same that(..) clause) is cached, so it is only evaluated once per object
+        private List<Optional<DescribedPredicate<T>>> createRelevantObjectPredicates() {
+            Multiset<DescribedPredicate<? super T>> usages = HashMultiset.create();
+            for (List<DescribedPredicate<? super T>> filtersOfRule : filters) {
+                usages.addAll(filtersOfRule);
+            }
+
+            Map<DescribedPredicate<? super T>, DescribedPredicate<T>> cachedPredicates = new HashMap<>();
+            List<Optional<DescribedPredicate<T>>> result = new ArrayList<>(filters.size());
+            for (List<DescribedPredicate<? super T>> filtersOfRule : filters) {
+                Optional<DescribedPredicate<T>> relevantObjects = Optional.empty();
+                for (DescribedPredicate<? super T> filter : filtersOfRule) {
+                    DescribedPredicate<T> predicate = usages.count(filter) > 1
+                            ? getCached(filter, cachedPredicates)
+                            : filter.<T>forSubtype();
+                    relevantObjects = Optional.of(relevantObjects.isPresent() ? relevantObjects.get().and(predicate) : predicate);
+                }
+                result.add(relevantObjects);
+            }
+            return result;
+        }
+
+        private DescribedPredicate<T> getCached(DescribedPredicate<? super T> filter, Map<DescribedPredicate<? super T>, DescribedPredicate<T>> cachedPredicates) {
+            if (!cachedPredicates.containsKey(filter)) {
+                cachedPredicates.put(filter, filter.cached().<T>forSubtype());
+            }
+            return cachedPredicates.get(filter);
+        }
+    }
+}
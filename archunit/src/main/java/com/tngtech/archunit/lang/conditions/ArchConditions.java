@@ -1145,7 +1145,18 @@ public final class ArchConditions {
         }
     }
 
-    private static class ModifierCondition<T extends HasModifiers & HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private abstract static class StatelessCondition<T> extends ArchCondition<T> {
+        StatelessCondition(String description) {
+            super(description);
+        }
+
+        @Override
+        public boolean supportsParallelEvaluation() {
+            return true;
+        }
+    }
+
+    private static class ModifierCondition<T extends HasModifiers & HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final JavaModifier modifier;
 
         ModifierCondition(JavaModifier modifier) {
@@ -1161,7 +1172,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class ImplementsCondition extends ArchCondition<JavaClass> {
+    private static class ImplementsCondition extends StatelessCondition<JavaClass> {
         private final DescribedPredicate<? super JavaClass> implement;
 
         ImplementsCondition(DescribedPredicate<? super JavaClass> implement) {
@@ -1180,7 +1191,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class InterfacesCondition extends ArchCondition<JavaClass> {
+    private static class InterfacesCondition extends StatelessCondition<JavaClass> {
         private static final InterfacesCondition BE_INTERFACES = new InterfacesCondition();
 
         InterfacesCondition() {
@@ -1196,7 +1207,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class EnumsCondition extends ArchCondition<JavaClass> {
+    private static class EnumsCondition extends StatelessCondition<JavaClass> {
         private static final EnumsCondition BE_ENUMS = new EnumsCondition();
 
         EnumsCondition() {
@@ -1212,7 +1223,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class RecordsCondition extends ArchCondition<JavaClass> {
+    private static class RecordsCondition extends StatelessCondition<JavaClass> {
         private static final RecordsCondition BE_RECORDS = new RecordsCondition();
 
         RecordsCondition() {
@@ -1256,7 +1267,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class BeClassCondition extends ArchCondition<JavaClass> {
+    private static class BeClassCondition extends StatelessCondition<JavaClass> {
         private final String className;
 
         BeClassCondition(String className) {
@@ -1273,7 +1284,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class SimpleNameCondition extends ArchCondition<JavaClass> {
+    private static class SimpleNameCondition extends StatelessCondition<JavaClass> {
         private final DescribedPredicate<JavaClass> haveSimpleName;
         private final String name;
 
@@ -1292,7 +1303,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class SimpleNameStartingWithCondition extends ArchCondition<JavaClass> {
+    private static class SimpleNameStartingWithCondition extends StatelessCondition<JavaClass> {
         private final DescribedPredicate<JavaClass> predicate;
         private final String prefix;
 
@@ -1314,7 +1325,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class SimpleNameContainingCondition extends ArchCondition<JavaClass> {
+    private static class SimpleNameContainingCondition extends StatelessCondition<JavaClass> {
         private final DescribedPredicate<JavaClass> predicate;
         private final String infix;
 
@@ -1336,7 +1347,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class SimpleNameEndingWithCondition extends ArchCondition<JavaClass> {
+    private static class SimpleNameEndingWithCondition extends StatelessCondition<JavaClass> {
         private final DescribedPredicate<JavaClass> predicate;
         private final String suffix;
 
@@ -1358,7 +1369,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class MatchingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private static class MatchingCondition<T extends HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final DescribedPredicate<T> matcher;
         private final String regex;
 
@@ -1377,7 +1388,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class StartingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private static class StartingCondition<T extends HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final DescribedPredicate<T> startingWith;
         private final String prefix;
 
@@ -1396,7 +1407,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class ContainingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private static class ContainingCondition<T extends HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final DescribedPredicate<T> containing;
         private final String infix;
 
@@ -1415,7 +1426,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class EndingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private static class EndingCondition<T extends HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final DescribedPredicate<T> endingWith;
         private final String suffix;
 
@@ -1435,7 +1446,7 @@ public final class ArchConditions {
     }
 
     private static class DoesConditionByPredicate<T extends HasDescription & HasSourceCodeLocation>
-            extends ArchCondition<T> {
+            extends StatelessCondition<T> {
         private final DescribedPredicate<? super T> predicate;
 
         DoesConditionByPredicate(DescribedPredicate<? super T> predicate) {
@@ -1452,7 +1463,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class IsConditionByPredicate<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private static class IsConditionByPredicate<T extends HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final String eventDescription;
         private final DescribedPredicate<T> predicate;
 
@@ -1475,7 +1486,7 @@ public final class ArchConditions {
         }
     }
 
-    private static class HaveConditionByPredicate<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
+    private static class HaveConditionByPredicate<T extends HasDescription & HasSourceCodeLocation> extends StatelessCondition<T> {
         private final DescribedPredicate<T> rawType;
 
         HaveConditionByPredicate(DescribedPredicate<? super T> rawType) {
@@ -35,6 +35,7 @@ class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
 
     @Override
     public void check(Collection<? extends T> collection, ConditionEvents events) {
+        // we always need the allowed events here, since they decide if the collection contains any matching element
         ConditionEvents subEvents = new ConditionEvents();
         for (T element : collection) {
             condition.check(element, subEvents);
@@ -44,6 +45,11 @@ class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -18,6 +18,8 @@ package com.tngtech.archunit.lang.conditions;
 import java.util.Collection;
 import java.util.List;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
@@ -34,15 +36,37 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
 
     @Override
     public void check(Collection<? extends T> collection, ConditionEvents events) {
-        ConditionEvents subEvents = new ConditionEvents();
+        ConditionEvents subEvents = events.createEmptyWithSameRecording();
         for (T item : collection) {
             condition.check(item, subEvents);
         }
         if (!subEvents.isEmpty()) {
-            events.add(new OnlyConditionEvent(collection, subEvents));
+            Supplier<Collection<ConditionEvent>> allowed = subEvents.recordsAllowedEvents()
+                    ? Suppliers.ofInstance(subEvents.getAllowed())
+                    : allowedEventsOf(collection);
+            events.add(new OnlyConditionEvent(collection, allowed, subEvents.getViolating()));
         }
     }
 
+    // Only needed if the event is ever inverted, thus we defer checking the collection again until then
+    private Supplier<Collection<ConditionEvent>> allowedEventsOf(final Collection<? extends T> collection) {
+        return Suppliers.memoize(new Supplier<Collection<ConditionEvent>>() {
+            @Override
+            public Collection<ConditionEvent> get() {
+                ConditionEvents allEvents = new ConditionEvents();
+                for (T item : collection) {
+                    condition.check(item, allEvents);
+                }
+                return allEvents.getAllowed();
+            }
+        });
+    }
+
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -50,16 +74,18 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
 
     static class OnlyConditionEvent implements ConditionEvent {
         private final Collection<?> correspondingObjects;
-        private final Collection<ConditionEvent> allowed;
+        private final Supplier<Collection<ConditionEvent>> allowed;
         private final Collection<ConditionEvent> violating;
 
-        private OnlyConditionEvent(Collection<?> correspondingObjects, ConditionEvents events) {
-            this(correspondingObjects, events.getAllowed(), events.getViolating());
-        }
-
         OnlyConditionEvent(Collection<?> correspondingObjects,
                 Collection<ConditionEvent> allowed,
                 Collection<ConditionEvent> violating) {
+            this(correspondingObjects, Suppliers.ofInstance(allowed), violating);
+        }
+
+        private OnlyConditionEvent(Collection<?> correspondingObjects,
+                Supplier<Collection<ConditionEvent>> allowed,
+                Collection<ConditionEvent> violating) {
             this.correspondingObjects = correspondingObjects;
             this.allowed = allowed;
             this.violating = violating;
@@ -72,7 +98,7 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
 
         @Override
         public void addInvertedTo(ConditionEvents events) {
-            events.add(new AnyConditionEvent(correspondingObjects, violating, allowed));
+            events.add(new AnyConditionEvent(correspondingObjects, violating, allowed.get()));
         }
 
         @Override
@@ -98,7 +124,7 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
         public String toString() {
             return getClass().getSimpleName() + "{" +
                     "correspondingObjects=" + correspondingObjects +
-                    ", allowed=" + allowed +
+                    ", allowed=" + allowed.get() +
                     ", violating=" + violating +
                     '}';
         }
@@ -29,8 +29,16 @@ class DependencyCondition extends ArchCondition<Dependency> {
         this.conditionPredicate = conditionPredicate;
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
     @Override
     public void check(Dependency item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, conditionPredicate.apply(item), item.getDescription()));
+        boolean satisfied = conditionPredicate.apply(item);
+        if (!satisfied || events.recordsAllowedEvents()) {
+            events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
+        }
     }
 }
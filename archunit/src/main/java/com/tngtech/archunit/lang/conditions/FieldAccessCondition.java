@@ -34,9 +34,17 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
         this.fieldAccessIdentifier = fieldAccessIdentifier;
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
     @Override
     public void check(JavaFieldAccess item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.apply(item), item.getDescription()));
+        boolean satisfied = fieldAccessIdentifier.apply(item);
+        if (!satisfied || events.recordsAllowedEvents()) {
+            events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
+        }
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
@@ -29,8 +29,16 @@ class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, predicate.apply(item), item.getDescription()));
+        boolean satisfied = predicate.apply(item);
+        if (!satisfied || events.recordsAllowedEvents()) {
+            events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
+        }
     }
 }
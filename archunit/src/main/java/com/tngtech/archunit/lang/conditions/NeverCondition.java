@@ -43,6 +43,7 @@ class NeverCondition<T> extends ArchCondition<T> {
 
     @Override
     public void check(T item, ConditionEvents events) {
+        // allowed events of the original condition become the violations of this condition, so we need to record all of them
         ConditionEvents subEvents = new ConditionEvents();
         condition.check(item, subEvents);
         for (ConditionEvent event : subEvents) {
@@ -50,6 +51,11 @@ class NeverCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -24,12 +24,13 @@ import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ClassesTransformer;
+import com.tngtech.archunit.lang.DelegatingRule;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
 import static com.google.common.base.Preconditions.checkState;
 
-class ObjectsShouldInternal<T> implements ArchRule {
+class ObjectsShouldInternal<T> implements ArchRule, DelegatingRule {
     private final Supplier<ArchRule> finishedRule = Suppliers.memoize(new FinishedRule());
 
     final ConditionAggregator<T> conditionAggregator;
@@ -86,11 +87,21 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return ArchRule.Factory.withBecause(this, reason);
     }
 
+    @Override
+    public ArchRule getDelegate() {
+        return finishedRule.get();
+    }
+
     @Override
     public ArchRule as(String newDescription) {
         return finishedRule.get().as(newDescription);
     }
 
+    @Override
+    public ArchRule withMaxViolations(int maxViolations) {
+        return finishedRule.get().withMaxViolations(maxViolations);
+    }
+
     @Override
     public String toString() {
         return finishedRule.get().getDescription();
@@ -108,6 +108,7 @@ public final class Architectures {
         private final Set<LayerDependencySpecification> dependencySpecifications;
         private final PredicateAggregator<Dependency> irrelevantDependenciesPredicate;
         private final Optional<String> overriddenDescription;
+        private final Optional<Integer> maxViolations;
         private boolean optionalLayers;
 
         private LayeredArchitecture() {
@@ -115,6 +116,7 @@ public final class Architectures {
                     new LinkedHashSet<LayerDependencySpecification>(),
                     new PredicateAggregator<Dependency>().thatORs(),
                     Optional.<String>empty(),
+                    Optional.<Integer>empty(),
                     false);
         }
 
@@ -122,11 +124,13 @@ public final class Architectures {
                 Set<LayerDependencySpecification> dependencySpecifications,
                 PredicateAggregator<Dependency> irrelevantDependenciesPredicate,
                 Optional<String> overriddenDescription,
+                Optional<Integer> maxViolations,
                 boolean optionalLayers) {
             this.layerDefinitions = layerDefinitions;
             this.dependencySpecifications = dependencySpecifications;
             this.irrelevantDependenciesPredicate = irrelevantDependenciesPredicate;
             this.overriddenDescription = overriddenDescription;
+            this.maxViolations = maxViolations;
             this.optionalLayers = optionalLayers;
         }
 
@@ -206,7 +210,11 @@ public final class Architectures {
             for (LayerDependencySpecification specification : dependencySpecifications) {
                 result.add(evaluateDependenciesShouldBeSatisfied(classes, specification));
             }
-            return result;
+            return maxViolations.isPresent() ? result.limitViolationsTo(maxViolations.get()) : result;
+        }
+
+        private EvaluationResult evaluateWithMaxViolations(ArchRule rule, JavaClasses classes) {
+            return maxViolations.isPresent() ? rule.withMaxViolations(maxViolations.get()).evaluate(classes) : rule.evaluate(classes);
         }
 
         private void checkEmptyLayers(JavaClasses classes, EvaluationResult result) {
@@ -220,9 +228,8 @@ public final class Architectures {
         }
 
         private EvaluationResult evaluateLayersShouldNotBeEmpty(JavaClasses classes, LayerDefinition layerDefinition) {
-            return classes().that(layerDefinitions.containsPredicateFor(layerDefinition.name))
-                    .should(notBeEmptyFor(layerDefinition))
-                    .evaluate(classes);
+            return evaluateWithMaxViolations(classes().that(layerDefinitions.containsPredicateFor(layerDefinition.name))
+                    .should(notBeEmptyFor(layerDefinition)), classes);
         }
 
         private EvaluationResult evaluateDependenciesShouldBeSatisfied(JavaClasses classes, LayerDependencySpecification specification) {
@@ -232,9 +239,8 @@ public final class Architectures {
                 satisfyLayerDependenciesCondition = satisfyLayerDependenciesCondition
                         .and(onlyHaveDependenciesWhere(targetMatchesIfDependencyIsRelevant(specification.layerName, specification.allowedTargets)));
             }
-            return classes().that(layerDefinitions.containsPredicateFor(specification.layerName))
-                    .should(satisfyLayerDependenciesCondition)
-                    .evaluate(classes);
+            return evaluateWithMaxViolations(classes().that(layerDefinitions.containsPredicateFor(specification.layerName))
+                    .should(satisfyLayerDependenciesCondition), classes);
         }
 
         private DescribedPredicate<Dependency> originMatchesIfDependencyIsRelevant(String ownLayer, Set<String> allowedAccessors) {
@@ -302,7 +308,16 @@ public final class Architectures {
         public LayeredArchitecture as(String newDescription) {
             return new LayeredArchitecture(
                     layerDefinitions, dependencySpecifications,
-                    irrelevantDependenciesPredicate, Optional.of(newDescription), optionalLayers);
+                    irrelevantDependenciesPredicate, Optional.of(newDescription), maxViolations, optionalLayers);
+        }
+
+        @Override
+        @PublicAPI(usage = ACCESS)
+        public LayeredArchitecture withMaxViolations(int maxViolations) {
+            checkArgument(maxViolations > 0, "The maximum number of violations must be positive, but was %s", maxViolations);
+            return new LayeredArchitecture(
+                    layerDefinitions, dependencySpecifications,
+                    irrelevantDependenciesPredicate, overriddenDescription, Optional.of(maxViolations), optionalLayers);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -320,7 +335,7 @@ public final class Architectures {
                 DescribedPredicate<? super JavaClass> origin, DescribedPredicate<? super JavaClass> target) {
             return new LayeredArchitecture(
                     layerDefinitions, dependencySpecifications,
-                    irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription, optionalLayers);
+                    irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription, maxViolations, optionalLayers);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -393,7 +408,7 @@ public final class Architectures {
             @PublicAPI(usage = ACCESS)
             public LayeredArchitecture definedBy(String... packageIdentifiers) {
                 String description = String.format("'%s'", Joiner.on("', '").join(packageIdentifiers));
-                return definedBy(resideInAnyPackage(packageIdentifiers).as(description));
+                return definedBy(resideInAnyPackage(packageIdentifiers).as(description).cached());
             }
 
             boolean isOptional() {
@@ -464,6 +479,7 @@ public final class Architectures {
         private static final String ADAPTER_LAYER = "adapter";
 
         private final Optional<String> overriddenDescription;
+        private Optional<Integer> maxViolations = Optional.empty();
         private String[] domainModelPackageIdentifiers = new String[0];
         private String[] domainServicePackageIdentifiers = new String[0];
         private String[] applicationPackageIdentifiers = new String[0];
@@ -480,13 +496,15 @@ public final class Architectures {
                 String[] applicationPackageIdentifiers,
                 Map<String, String[]> adapterPackageIdentifiers,
                 List<IgnoredDependency> ignoredDependencies,
-                Optional<String> overriddenDescription) {
+                Optional<String> overriddenDescription,
+                Optional<Integer> maxViolations) {
             this.domainModelPackageIdentifiers = domainModelPackageIdentifiers;
             this.domainServicePackageIdentifiers = domainServicePackageIdentifiers;
             this.applicationPackageIdentifiers = applicationPackageIdentifiers;
             this.adapterPackageIdentifiers = adapterPackageIdentifiers;
             this.ignoredDependencies = ignoredDependencies;
             this.overriddenDescription = overriddenDescription;
+            this.maxViolations = maxViolations;
         }
 
         @PublicAPI(usage = ACCESS)
@@ -555,6 +573,9 @@ public final class Architectures {
             for (IgnoredDependency ignoredDependency : this.ignoredDependencies) {
                 layeredArchitectureDelegate = ignoredDependency.ignoreFor(layeredArchitectureDelegate);
             }
+            if (maxViolations.isPresent()) {
+                layeredArchitectureDelegate = layeredArchitectureDelegate.withMaxViolations(maxViolations.get());
+            }
             return layeredArchitectureDelegate.as(getDescription());
         }
 
@@ -584,7 +605,15 @@ public final class Architectures {
         public OnionArchitecture as(String newDescription) {
             return new OnionArchitecture(domainModelPackageIdentifiers, domainServicePackageIdentifiers,
                     applicationPackageIdentifiers, adapterPackageIdentifiers, ignoredDependencies,
-                    Optional.of(newDescription));
+                    Optional.of(newDescription), maxViolations);
+        }
+
+        @Override
+        @PublicAPI(usage = ACCESS)
+        public OnionArchitecture withMaxViolations(int maxViolations) {
+            checkArgument(maxViolations > 0, "The maximum number of violations must be positive, but was %s", maxViolations);
+            this.maxViolations = Optional.of(maxViolations);
+            return this;
         }
 
         @Override
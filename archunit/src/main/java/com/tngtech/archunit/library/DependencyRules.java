@@ -126,7 +126,9 @@ public final class DependencyRules {
         public void check(final JavaClass clazz, final ConditionEvents events) {
             for (Dependency dependency : clazz.getDirectDependenciesFromSelf()) {
                 boolean dependencyOnUpperPackage = isDependencyOnUpperPackage(dependency.getOriginClass(), dependency.getTargetClass());
-                events.add(new SimpleConditionEvent(dependency, dependencyOnUpperPackage, dependency.getDescription()));
+                if (!dependencyOnUpperPackage || events.recordsAllowedEvents()) {
+                    events.add(new SimpleConditionEvent(dependency, dependencyOnUpperPackage, dependency.getDescription()));
+                }
             }
         }
 
@@ -168,7 +168,9 @@ public final class ProxyRules {
             public void check(JavaClass javaClass, ConditionEvents events) {
                 for (JavaMethodCall call : javaClass.getMethodCallsFromSelf()) {
                     boolean satisfied = call.getOriginOwner().equals(call.getTargetOwner()) && predicate.apply(call.getTarget());
-                    events.add(new SimpleConditionEvent(call, satisfied, call.getDescription()));
+                    if (!satisfied || events.recordsAllowedEvents()) {
+                        events.add(new SimpleConditionEvent(call, satisfied, call.getDescription()));
+                    }
                 }
             }
         };
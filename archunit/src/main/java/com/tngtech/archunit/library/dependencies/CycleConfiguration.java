@@ -16,15 +16,22 @@
 package com.tngtech.archunit.library.dependencies;
 
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 final class CycleConfiguration {
     static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME = "cycles.maxNumberToDetect";
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
     static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME = "cycles.maxNumberOfDependenciesPerEdge";
     private static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE = "20";
+    static final String DETECTION_PARALLELISM_PROPERTY_NAME = "cycles.detectionParallelism";
+    static final String DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME = "cycles.detectionTimeoutMillis";
 
     private final int maxCyclesToDetect;
     private final int maxDependenciesPerEdge;
+    private final int detectionParallelism;
+    private final Optional<Long> detectionTimeoutMillis;
 
     CycleConfiguration() {
         String configuredMaxCyclesToDetect = ArchConfiguration.get()
@@ -35,6 +42,23 @@ final class CycleConfiguration {
                 .getPropertyOrDefault(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME,
                         MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE);
         maxDependenciesPerEdge = Integer.parseInt(configuredMaxDependenciesPerEdge);
+
+        detectionParallelism = ArchConfiguration.get().getParallelism(DETECTION_PARALLELISM_PROPERTY_NAME);
+
+        detectionTimeoutMillis = ArchConfiguration.get().containsProperty(DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME)
+                ? Optional.of(parsePositiveLong(DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME, ArchConfiguration.get().getProperty(DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME)))
+                : Optional.<Long>empty();
+    }
+
+    private static long parsePositiveLong(String propertyName, String value) {
+        long result;
+        try {
+            result = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Property %s must be an integer, but was '%s'", propertyName, value), e);
+        }
+        checkArgument(result > 0, "Property %s must be positive, but was %s", propertyName, result);
+        return result;
     }
 
     int getMaxNumberOfCyclesToDetect() {
@@ -44,4 +68,12 @@ final class CycleConfiguration {
     int getMaxNumberOfDependenciesToShowPerEdge() {
         return maxDependenciesPerEdge;
     }
+
+    int getDetectionParallelism() {
+        return detectionParallelism;
+    }
+
+    Optional<Long> getDetectionTimeoutMillis() {
+        return detectionTimeoutMillis;
+    }
 }
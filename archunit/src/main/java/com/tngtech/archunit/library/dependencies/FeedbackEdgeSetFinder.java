@@ -0,0 +1,233 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.IntStack;
+
+/**
+ * Finds a small set of edges within a strongly connected component, such that removing these edges removes all cycles
+ * of the component (a so called feedback edge set). Finding a minimum feedback edge set is NP-hard, thus we use the
+ * heuristic of Eades, Lin and Smyth (compare "A fast and effective heuristic for the feedback arc set problem", 1993),
+ * which runs in linear time with respect to the number of nodes and edges.
+ * <br><br>
+ * The idea is to arrange all nodes in a sequence and then pick all edges pointing backwards within this sequence
+ * as feedback edges. To keep the number of these edges small, we repeatedly remove nodes from the graph:
+ * sinks are prepended to the end of the sequence, sources are appended to the start of the sequence, and if there are
+ * neither sinks nor sources left, the node with the largest surplus of outgoing over incoming edges is appended to the start.
+ */
+class FeedbackEdgeSetFinder {
+    private final PrimitiveGraph graph;
+
+    FeedbackEdgeSetFinder(PrimitiveGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * @param component The nodes of a strongly connected component, sorted in ascending order
+     * @return The feedback edges of the component as pairs {@code [origin, target]}, sorted by origin and target
+     */
+    List<int[]> findFeedbackEdges(int[] component) {
+        ComponentGraph componentGraph = new ComponentGraph(graph, component);
+        int[] positions = componentGraph.arrangeNodes();
+
+        List<int[]> result = new ArrayList<>();
+        for (int origin = 0; origin < component.length; origin++) {
+            for (int target : componentGraph.successors[origin]) {
+                if (positions[target] < positions[origin]) {
+                    result.add(new int[]{component[origin], component[target]});
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The subgraph induced by a strongly connected component, where the nodes are numbered from 0 to size - 1
+     * by their position within the component. Self-loops are dropped, since they are no cycles we report.
+     */
+    private static class ComponentGraph {
+        private final int size;
+        private final int[][] successors;
+        private final int[][] predecessors;
+        private final int[] outDegrees;
+        private final int[] inDegrees;
+        private final boolean[] removed;
+        private final boolean[] sinkOrSource;
+        private final IntStack sinks;
+        private final IntStack sources;
+        private final DeltaBuckets buckets;
+
+        ComponentGraph(PrimitiveGraph graph, int[] component) {
+            size = component.length;
+            successors = new int[size][];
+            outDegrees = new int[size];
+            inDegrees = new int[size];
+            int[] buffer = new int[size];
+            for (int node = 0; node < size; node++) {
+                int numberOfSuccessors = 0;
+                for (int target : graph.getAdjacentNodesOf(component[node])) {
+                    int localTarget = Arrays.binarySearch(component, target);
+                    if (localTarget >= 0 && localTarget != node) {
+                        buffer[numberOfSuccessors++] = localTarget;
+                        inDegrees[localTarget]++;
+                    }
+                }
+                successors[node] = Arrays.copyOf(buffer, numberOfSuccessors);
+                outDegrees[node] = numberOfSuccessors;
+            }
+            predecessors = invert(successors, inDegrees);
+            removed = new boolean[size];
+            sinkOrSource = new boolean[size];
+            sinks = new IntStack(size);
+            sources = new IntStack(size);
+            // each node is added once initially and once more for each removed edge at most
+            buckets = new DeltaBuckets(size, size + sumOf(outDegrees));
+        }
+
+        private static int[][] invert(int[][] successors, int[] inDegrees) {
+            int[][] result = new int[successors.length][];
+            for (int node = 0; node < successors.length; node++) {
+                result[node] = new int[inDegrees[node]];
+            }
+            int[] nextPosition = new int[successors.length];
+            for (int origin = 0; origin < successors.length; origin++) {
+                for (int target : successors[origin]) {
+                    result[target][nextPosition[target]++] = origin;
+                }
+            }
+            return result;
+        }
+
+        private static int sumOf(int[] values) {
+            int result = 0;
+            for (int value : values) {
+                result += value;
+            }
+            return result;
+        }
+
+        /**
+         * @return The position of each node within the sequence, indexed by node
+         */
+        int[] arrangeNodes() {
+            for (int node = 0; node < size; node++) {
+                enqueue(node);
+            }
+
+            int[] positions = new int[size];
+            int nextPositionFromStart = 0;
+            int nextPositionFromEnd = size - 1;
+            for (int remaining = size; remaining > 0; remaining--) {
+                int node;
+                if (!sinks.isEmpty()) {
+                    node = sinks.pop();
+                    positions[node] = nextPositionFromEnd--;
+                } else if (!sources.isEmpty()) {
+                    node = sources.pop();
+                    positions[node] = nextPositionFromStart++;
+                } else {
+                    node = buckets.pollNodeWithMaxDelta();
+                    positions[node] = nextPositionFromStart++;
+                }
+                remove(node);
+            }
+            return positions;
+        }
+
+        private void remove(int node) {
+            removed[node] = true;
+            for (int successor : successors[node]) {
+                if (!removed[successor]) {
+                    inDegrees[successor]--;
+                    enqueue(successor);
+                }
+            }
+            for (int predecessor : predecessors[node]) {
+                if (!removed[predecessor]) {
+                    outDegrees[predecessor]--;
+                    enqueue(predecessor);
+                }
+            }
+        }
+
+        // a node becomes a sink or source only once, but might be added to several buckets as its degrees change
+        private void enqueue(int node) {
+            if (outDegrees[node] > 0 && inDegrees[node] > 0) {
+                buckets.add(node, delta(node));
+            } else if (!sinkOrSource[node]) {
+                sinkOrSource[node] = true;
+                if (outDegrees[node] == 0) {
+                    sinks.push(node);
+                } else {
+                    sources.push(node);
+                }
+            }
+        }
+
+        private int delta(int node) {
+            return outDegrees[node] - inDegrees[node];
+        }
+
+        /**
+         * Buckets of nodes by {@code delta = outDegree - inDegree}. Instead of moving nodes between buckets,
+         * nodes are added anew to the bucket of their current delta and outdated entries are skipped when polling.
+         * Since each removed edge causes at most one new entry, the total effort stays linear.
+         */
+        private class DeltaBuckets {
+            private final int offset;
+            private final int[] firstEntryOfBucket;
+            private final int[] entryNodes;
+            private final int[] nextEntries;
+            private int numberOfEntries = 0;
+            private int maxBucket = 0;
+
+            DeltaBuckets(int size, int maxNumberOfEntries) {
+                offset = size;
+                firstEntryOfBucket = new int[2 * size + 1];
+                Arrays.fill(firstEntryOfBucket, -1);
+                entryNodes = new int[maxNumberOfEntries];
+                nextEntries = new int[maxNumberOfEntries];
+            }
+
+            void add(int node, int delta) {
+                int bucket = delta + offset;
+                entryNodes[numberOfEntries] = node;
+                nextEntries[numberOfEntries] = firstEntryOfBucket[bucket];
+                firstEntryOfBucket[bucket] = numberOfEntries++;
+                maxBucket = Math.max(maxBucket, bucket);
+            }
+
+            int pollNodeWithMaxDelta() {
+                while (true) {
+                    int entry = firstEntryOfBucket[maxBucket];
+                    if (entry < 0) {
+                        maxBucket--;
+                        continue;
+                    }
+                    firstEntryOfBucket[maxBucket] = nextEntries[entry];
+                    int node = entryNodes[entry];
+                    if (!removed[node] && delta(node) + offset == maxBucket) {
+                        return node;
+                    }
+                }
+            }
+        }
+    }
+}
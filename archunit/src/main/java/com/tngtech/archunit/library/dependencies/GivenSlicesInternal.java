@@ -86,7 +86,17 @@ class GivenSlicesInternal implements GivenSlices, SlicesShould, GivenSlicesConju
         return new SliceRule(classesTransformer, priority, new SliceRule.ConditionFactory() {
             @Override
             public ArchCondition<Slice> create(Slices.Transformer transformer, DescribedPredicate<Dependency> predicate) {
-                return new SliceCycleArchCondition(predicate);
+                return SliceCycleArchCondition.reportingCycles(predicate);
+            }
+        });
+    }
+
+    @Override
+    public SliceRule beFreeOfCyclicGroups() {
+        return new SliceRule(classesTransformer, priority, new SliceRule.ConditionFactory() {
+            @Override
+            public ArchCondition<Slice> create(Slices.Transformer transformer, DescribedPredicate<Dependency> predicate) {
+                return SliceCycleArchCondition.reportingCyclicGroups(predicate);
             }
         });
     }
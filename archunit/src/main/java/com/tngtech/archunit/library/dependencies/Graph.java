@@ -15,16 +15,21 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.base.Function;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ForwardingCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -50,14 +55,63 @@ class Graph<T, ATTACHMENT> {
     }
 
     Cycles<T, ATTACHMENT> findCycles() {
-        Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
-        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph());
+        return findCycles(createPrimitiveGraph(), createElementResolver());
+    }
+
+    /**
+     * Finds the cycles of a graph given as {@link PrimitiveGraph}, where {@code elements} resolves the
+     * node indexes and edges of the {@link PrimitiveGraph} only for the edges that are part of a detected cycle.
+     */
+    static <T, ATTACHMENT> Cycles<T, ATTACHMENT> findCycles(PrimitiveGraph primitiveGraph, ElementResolver<T, ATTACHMENT> elements) {
+        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(primitiveGraph);
         ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
         JohnsonCycleFinder.Result cycles = johnsonCycleFinder.findCycles();
         for (int[] rawCycle : cycles) {
-            result.add(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
+            result.add(mapToCycle(elements, rawCycle));
+        }
+        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached(), cycles.timeoutReached());
+    }
+
+    /**
+     * @return All non-trivial strongly connected components of the graph, each together with an approximate
+     * minimum set of edges breaking all cycles within the component (compare {@link FeedbackEdgeSetFinder}).
+     * In contrast to {@link #findCycles()} this runs in near-linear time, no matter how many cycles there are.
+     */
+    List<StronglyConnectedComponent<T, ATTACHMENT>> findStronglyConnectedComponents() {
+        return findStronglyConnectedComponents(createPrimitiveGraph(), createElementResolver());
+    }
+
+    /**
+     * Like {@link #findStronglyConnectedComponents()} for a graph given as {@link PrimitiveGraph}. The feedback edges are resolved
+     * via {@code elements} right away, all other edges of a component only once they are accessed.
+     */
+    static <T, ATTACHMENT> List<StronglyConnectedComponent<T, ATTACHMENT>> findStronglyConnectedComponents(
+            PrimitiveGraph primitiveGraph, final ElementResolver<T, ATTACHMENT> elements) {
+
+        FeedbackEdgeSetFinder feedbackEdgeSetFinder = new FeedbackEdgeSetFinder(primitiveGraph);
+        ImmutableList.Builder<StronglyConnectedComponent<T, ATTACHMENT>> result = ImmutableList.builder();
+        for (int[] component : new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents()) {
+            List<T> componentNodes = new ArrayList<>(component.length);
+            List<int[]> componentEdges = new ArrayList<>();
+            for (int originIndex : component) {
+                componentNodes.add(elements.getNode(originIndex));
+                for (int targetIndex : primitiveGraph.getAdjacentNodesOf(originIndex)) {
+                    if (targetIndex != originIndex && Arrays.binarySearch(component, targetIndex) >= 0) {
+                        componentEdges.add(new int[]{originIndex, targetIndex});
+                    }
+                }
+            }
+            Function<int[], Edge<T, ATTACHMENT>> resolveEdge = new Function<int[], Edge<T, ATTACHMENT>>() {
+                @Override
+                public Edge<T, ATTACHMENT> apply(int[] edge) {
+                    return elements.getEdge(edge[0], edge[1]);
+                }
+            };
+            List<Edge<T, ATTACHMENT>> feedbackEdges = ImmutableList.copyOf(
+                    Lists.transform(feedbackEdgeSetFinder.findFeedbackEdges(component), resolveEdge));
+            result.add(new StronglyConnectedComponent<>(componentNodes, Lists.transform(componentEdges, resolveEdge), feedbackEdges));
         }
-        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached());
+        return result.build();
     }
 
     private PrimitiveGraph createPrimitiveGraph() {
@@ -72,6 +126,25 @@ class Graph<T, ATTACHMENT> {
         return new PrimitiveGraph(edges);
     }
 
+    private ElementResolver<T, ATTACHMENT> createElementResolver() {
+        final List<T> nodesByIndex = new ArrayList<>(Collections.<T>nCopies(nodes.size(), null));
+        for (Map.Entry<T, Integer> nodeToIndex : nodes.entrySet()) {
+            nodesByIndex.set(nodeToIndex.getValue(), nodeToIndex.getKey());
+        }
+        final Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
+        return new ElementResolver<T, ATTACHMENT>() {
+            @Override
+            public T getNode(int nodeIndex) {
+                return nodesByIndex.get(nodeIndex);
+            }
+
+            @Override
+            public Edge<T, ATTACHMENT> getEdge(int originIndex, int targetIndex) {
+                return edgesByTargetIndexByOriginIndex.get(originIndex).get(targetIndex);
+            }
+        };
+    }
+
     private ImmutableMap<Integer, Map<Integer, Edge<T, ATTACHMENT>>> indexEdgesByTargetIndexByOriginIndex(
             Map<T, Integer> nodes,
             Multimap<Integer, Edge<T, ATTACHMENT>> outgoingEdges) {
@@ -87,16 +160,16 @@ class Graph<T, ATTACHMENT> {
         return edgeMapBuilder.build();
     }
 
-    private Cycle<T, ATTACHMENT> mapToCycle(Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex, int[] rawCycle) {
+    private static <T, ATTACHMENT> Cycle<T, ATTACHMENT> mapToCycle(ElementResolver<T, ATTACHMENT> elements, int[] rawCycle) {
         ImmutableList.Builder<Edge<T, ATTACHMENT>> edges = ImmutableList.builder();
         int originIndex = -1;
         for (int targetIndex : rawCycle) {
             if (originIndex >= 0) {
-                edges.add(edgesByTargetIndexByOriginIndex.get(originIndex).get(targetIndex));
+                edges.add(elements.getEdge(originIndex, targetIndex));
             }
             originIndex = targetIndex;
         }
-        edges.add(edgesByTargetIndexByOriginIndex.get(originIndex).get(rawCycle[0]));
+        edges.add(elements.getEdge(originIndex, rawCycle[0]));
         return new Cycle<>(edges.build());
     }
 
@@ -108,19 +181,34 @@ class Graph<T, ATTACHMENT> {
                 '}';
     }
 
+    /**
+     * Resolves the node indexes and edges of a {@link PrimitiveGraph} to the actual nodes and edges of the graph.
+     */
+    interface ElementResolver<T, ATTACHMENT> {
+        T getNode(int nodeIndex);
+
+        Edge<T, ATTACHMENT> getEdge(int originIndex, int targetIndex);
+    }
+
     static class Cycles<T, ATTACHMENT> extends ForwardingCollection<Cycle<T, ATTACHMENT>> {
         private final Collection<Cycle<T, ATTACHMENT>> cycles;
         private final boolean maxNumberOfCyclesReached;
+        private final boolean timeoutReached;
 
-        private Cycles(Collection<Cycle<T, ATTACHMENT>> cycles, boolean maxNumberOfCyclesReached) {
+        private Cycles(Collection<Cycle<T, ATTACHMENT>> cycles, boolean maxNumberOfCyclesReached, boolean timeoutReached) {
             this.cycles = cycles;
             this.maxNumberOfCyclesReached = maxNumberOfCyclesReached;
+            this.timeoutReached = timeoutReached;
         }
 
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
+        boolean timeoutReached() {
+            return timeoutReached;
+        }
+
         @Override
         protected Collection<Cycle<T, ATTACHMENT>> delegate() {
             return cycles;
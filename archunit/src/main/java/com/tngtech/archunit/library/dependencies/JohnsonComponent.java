@@ -58,6 +58,10 @@ class JohnsonComponent {
      * we can pop this stack and consequently obtain a cycle through the starting node.
      */
     private final IntStack nodeStack;
+    /**
+     * Unblocking nodes is done iteratively to avoid stack overflows for long chains of dependently blocked nodes.
+     */
+    private final IntStack nodesToUnblock;
     /**
      * Performance optimization. When we return the nodes adjacent to a specific node within this
      * strongly connected component, we initially do not know how many nodes we will return.
@@ -71,6 +75,7 @@ class JohnsonComponent {
     private JohnsonComponent(PrimitiveGraph graph) {
         this.graph = graph;
         nodeStack = new IntStack(graph.getSize());
+        nodesToUnblock = new IntStack(graph.getSize());
         tempAdjacentNodesInComponent = new int[graph.getSize()];
     }
 
@@ -114,14 +119,24 @@ class JohnsonComponent {
         blocked.add(nodeIndex);
     }
 
+    /**
+     * Unblocks the node and transitively all nodes dependently blocked by it. Since every node is pushed onto
+     * {@link #nodesToUnblock} only when it is removed from {@link #blocked}, the stack never exceeds the size of the graph.
+     */
     void unblock(int nodeIndex) {
         if (!blocked.remove(nodeIndex)) {
             return;
         }
-        for (Integer dependentlyBlockedIndex : dependentlyBlocked.get(nodeIndex)) {
-            unblock(dependentlyBlockedIndex);
+        nodesToUnblock.push(nodeIndex);
+        while (!nodesToUnblock.isEmpty()) {
+            int nodeToUnblock = nodesToUnblock.pop();
+            for (Integer dependentlyBlockedIndex : dependentlyBlocked.get(nodeToUnblock)) {
+                if (blocked.remove(dependentlyBlockedIndex)) {
+                    nodesToUnblock.push(dependentlyBlockedIndex);
+                }
+            }
+            dependentlyBlocked.get(nodeToUnblock).clear();
         }
-        dependentlyBlocked.get(nodeIndex).clear();
     }
 
     /**
@@ -16,14 +16,22 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.base.ParallelExecution;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO_COMPONENT_FOUND;
+import static java.util.Arrays.binarySearch;
 
 /**
  * An implementation of Johnson's algorithm to find cycles within an uni-directed graph
@@ -54,74 +62,201 @@ import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO
  *         We then also never need to unblock this node, if all its descendants cannot lead
  *         back to the starting node)</li>
  * </ul>
+ * Since every cycle lies completely within one strongly connected component of the whole graph,
+ * we search each of these components on its own. Independent components can thus be searched in parallel
+ * (compare {@value CycleConfiguration#DETECTION_PARALLELISM_PROPERTY_NAME}). The cycles of all components are then merged
+ * ordered by their starting node, so the result does not depend on the order in which the components were searched.
+ * <br><br>
+ * The depth first search for cycles is done iteratively, since recursion could overflow the stack for large components.
+ * Besides the maximum number of cycles to detect, the search can be limited by a timeout
+ * (compare {@value CycleConfiguration#DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME}).
  */
 class JohnsonCycleFinder {
     private static final Logger log = LoggerFactory.getLogger(JohnsonCycleFinder.class);
+    private static final int STEPS_BETWEEN_TIMEOUT_CHECKS = 1024;
 
-    private int nodeToProcess = 0;
     private final PrimitiveGraph primitiveGraph;
+    private final CycleConfiguration configuration = new CycleConfiguration();
 
     JohnsonCycleFinder(PrimitiveGraph primitiveGraph) {
         this.primitiveGraph = primitiveGraph;
+        log.debug("Maximum number of cycles to detect is set to {}; "
+                        + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
+                configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
     }
 
     Result findCycles() {
-        Result result = new Result();
-        TarjanComponentFinder componentFinder = new TarjanComponentFinder(primitiveGraph);
-        JohnsonComponent johnsonComponent = JohnsonComponent.within(primitiveGraph);
-        while (nodeToProcess < primitiveGraph.getSize()) {
-            int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
-            if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
-                break;
+        Timeout timeout = Timeout.startingNow(configuration.getDetectionTimeoutMillis());
+        List<ComponentSearch> searches = new ArrayList<>();
+        for (int[] component : new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents()) {
+            searches.add(new ComponentSearch(primitiveGraph, component, configuration.getMaxNumberOfCyclesToDetect(), timeout));
+        }
+        return Result.merge(search(searches), configuration.getMaxNumberOfCyclesToDetect());
+    }
+
+    private List<Result> search(List<ComponentSearch> searches) {
+        return ParallelExecution.invokeAll("cycles", configuration.getDetectionParallelism(), searches);
+    }
+
+    /**
+     * Finds the cycles within one strongly connected component of the whole graph. To do so, the component is
+     * represented as a separate {@link PrimitiveGraph} of local node indexes {@code 0..<component.length}. Since the component
+     * is sorted in ascending order, local node indexes have the same order as the original ones, thus the cycles
+     * are found in exactly the same order as within the whole graph.
+     */
+    private static class ComponentSearch implements Callable<Result> {
+        private final int[] component;
+        private final PrimitiveGraph componentGraph;
+        private final Result result;
+        private final Timeout timeout;
+        // the state of the iterative depth first search, one entry per node on the current path
+        private final int[] nodesOnPath;
+        private final int[][] adjacentNodesOnPath;
+        private final int[] nextAdjacentNodePositionsOnPath;
+        private final boolean[] foundCycleOnPath;
+        private int pathLength;
+        private int stepsUntilTimeoutCheck = STEPS_BETWEEN_TIMEOUT_CHECKS;
+
+        ComponentSearch(PrimitiveGraph graph, int[] sortedComponent, int maxNumberOfCycles, Timeout timeout) {
+            this.component = sortedComponent;
+            this.componentGraph = createComponentGraph(graph, sortedComponent);
+            this.result = new Result(maxNumberOfCycles);
+            this.timeout = timeout;
+            nodesOnPath = new int[sortedComponent.length];
+            adjacentNodesOnPath = new int[sortedComponent.length][];
+            nextAdjacentNodePositionsOnPath = new int[sortedComponent.length];
+            foundCycleOnPath = new boolean[sortedComponent.length];
+        }
+
+        private static PrimitiveGraph createComponentGraph(PrimitiveGraph graph, int[] sortedComponent) {
+            int[][] edges = new int[sortedComponent.length][];
+            int[] tempAdjacentNodes = new int[sortedComponent.length];
+            for (int localIndex = 0; localIndex < sortedComponent.length; localIndex++) {
+                int numberOfAdjacentNodes = 0;
+                for (int target : graph.getAdjacentNodesOf(sortedComponent[localIndex])) {
+                    int localTarget = binarySearch(sortedComponent, target);
+                    if (localTarget >= 0) {
+                        tempAdjacentNodes[numberOfAdjacentNodes++] = localTarget;
+                    }
+                }
+                edges[localIndex] = Arrays.copyOf(tempAdjacentNodes, numberOfAdjacentNodes);
             }
+            return new PrimitiveGraph(edges);
+        }
 
-            johnsonComponent.init(nextStronglyConnectedComponent);
-            findCycles(result, johnsonComponent.getStartNodeIndex(), johnsonComponent);
-            nodeToProcess = johnsonComponent.getStartNodeIndex() + 1;
+        @Override
+        public Result call() {
+            TarjanComponentFinder componentFinder = new TarjanComponentFinder(componentGraph);
+            JohnsonComponent johnsonComponent = JohnsonComponent.within(componentGraph);
+            int nodeToProcess = 0;
+            while (nodeToProcess < componentGraph.getSize() && result.canAcceptMoreCycles() && !result.timeoutReached) {
+                int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
+                if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
+                    break;
+                }
+
+                johnsonComponent.init(nextStronglyConnectedComponent);
+                findCyclesThroughStartNode(johnsonComponent);
+                nodeToProcess = johnsonComponent.getStartNodeIndex() + 1;
+            }
+            return result;
         }
-        return result;
-    }
 
-    private boolean findCycles(Result result, int originNodeIndex, JohnsonComponent johnsonComponent) {
-        if (!result.canAcceptMoreCycles()) {
-            return false;
+        private void findCyclesThroughStartNode(JohnsonComponent johnsonComponent) {
+            visit(johnsonComponent.getStartNodeIndex(), johnsonComponent);
+            while (pathLength > 0) {
+                if (!result.canAcceptMoreCycles() || timeoutReached()) {
+                    pathLength = 0;
+                    return;
+                }
+
+                int current = pathLength - 1;
+                if (nextAdjacentNodePositionsOnPath[current] < adjacentNodesOnPath[current].length) {
+                    int targetNodeIndex = adjacentNodesOnPath[current][nextAdjacentNodePositionsOnPath[current]++];
+                    if (johnsonComponent.isStartNodeIndex(targetNodeIndex)) {
+                        result.add(toOriginalNodeIndexes(johnsonComponent.getStack()));
+                        foundCycleOnPath[current] = true;
+                    } else if (johnsonComponent.isNotBlocked(targetNodeIndex)) {
+                        visit(targetNodeIndex, johnsonComponent);
+                    }
+                    continue;
+                }
+
+                leave(johnsonComponent);
+            }
         }
 
-        boolean foundCycle = false;
-        johnsonComponent.pushOnStack(originNodeIndex);
-        johnsonComponent.block(originNodeIndex);
+        private void visit(int nodeIndex, JohnsonComponent johnsonComponent) {
+            johnsonComponent.pushOnStack(nodeIndex);
+            johnsonComponent.block(nodeIndex);
+            nodesOnPath[pathLength] = nodeIndex;
+            adjacentNodesOnPath[pathLength] = johnsonComponent.getAdjacentNodesOf(nodeIndex);
+            nextAdjacentNodePositionsOnPath[pathLength] = 0;
+            foundCycleOnPath[pathLength] = false;
+            pathLength++;
+        }
 
-        int[] targetNodeIndexes = johnsonComponent.getAdjacentNodesOf(originNodeIndex);
-        for (int targetNodeIndex : targetNodeIndexes) {
-            if (johnsonComponent.isStartNodeIndex(targetNodeIndex)) {
-                result.add(johnsonComponent.getStack());
-                foundCycle = true;
-            } else if (johnsonComponent.isNotBlocked(targetNodeIndex)) {
-                foundCycle = foundCycle | findCycles(result, targetNodeIndex, johnsonComponent);
+        private void leave(JohnsonComponent johnsonComponent) {
+            int current = --pathLength;
+            int originNodeIndex = nodesOnPath[current];
+            if (foundCycleOnPath[current]) {
+                johnsonComponent.unblock(originNodeIndex);
+            } else {
+                for (int targetNodeIndex : adjacentNodesOnPath[current]) {
+                    johnsonComponent.markDependentlyBlocked(originNodeIndex, targetNodeIndex);
+                }
+            }
+            johnsonComponent.popFromStack();
+            if (pathLength > 0) {
+                foundCycleOnPath[pathLength - 1] |= foundCycleOnPath[current];
             }
         }
 
-        if (foundCycle) {
-            johnsonComponent.unblock(originNodeIndex);
-        } else {
-            for (int targetNodeIndex : targetNodeIndexes) {
-                johnsonComponent.markDependentlyBlocked(originNodeIndex, targetNodeIndex);
+        // asking the system clock at every step would slow down the search considerably
+        private boolean timeoutReached() {
+            if (!result.timeoutReached && --stepsUntilTimeoutCheck <= 0) {
+                stepsUntilTimeoutCheck = STEPS_BETWEEN_TIMEOUT_CHECKS;
+                result.timeoutReached = timeout.isReached();
             }
+            return result.timeoutReached;
         }
 
-        johnsonComponent.popFromStack();
-        return foundCycle;
+        private int[] toOriginalNodeIndexes(int[] localCycle) {
+            int[] cycle = new int[localCycle.length];
+            for (int i = 0; i < localCycle.length; i++) {
+                cycle[i] = component[localCycle[i]];
+            }
+            return cycle;
+        }
+    }
+
+    private static class Timeout {
+        private final long startNanos;
+        private final long timeoutNanos;
+
+        private Timeout(long startNanos, long timeoutNanos) {
+            this.startNanos = startNanos;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        boolean isReached() {
+            return System.nanoTime() - startNanos > timeoutNanos;
+        }
+
+        static Timeout startingNow(Optional<Long> timeoutMillis) {
+            long timeoutNanos = timeoutMillis.isPresent() ? TimeUnit.MILLISECONDS.toNanos(timeoutMillis.get()) : Long.MAX_VALUE;
+            return new Timeout(System.nanoTime(), timeoutNanos);
+        }
     }
 
     static class Result implements Iterable<int[]> {
-        private final CycleConfiguration configuration = new CycleConfiguration();
+        private final int maxNumberOfCycles;
         private List<int[]> cycles = new ArrayList<>();
         private boolean maxNumberOfCyclesReached = false;
+        private boolean timeoutReached = false;
 
-        private Result() {
-            log.debug("Maximum number of cycles to detect is set to {}; "
-                            + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
-                    configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+        private Result(int maxNumberOfCycles) {
+            this.maxNumberOfCycles = maxNumberOfCycles;
         }
 
         private boolean canAcceptMoreCycles() {
@@ -132,12 +267,19 @@ class JohnsonCycleFinder {
             return maxNumberOfCyclesReached;
         }
 
+        /**
+         * @return {@code true}, if the search has been stopped, because the configured timeout has been reached
+         */
+        boolean timeoutReached() {
+            return timeoutReached;
+        }
+
         void add(int[] cycle) {
             if (maxNumberOfCyclesReached) {
                 return;
             }
 
-            if (this.cycles.size() >= configuration.getMaxNumberOfCyclesToDetect()) {
+            if (this.cycles.size() >= maxNumberOfCycles) {
                 maxNumberOfCyclesReached = true;
                 return;
             }
@@ -149,5 +291,36 @@ class JohnsonCycleFinder {
         public Iterator<int[]> iterator() {
             return cycles.iterator();
         }
+
+        /**
+         * Merges the results of all components ordered by the starting node of the cycles. Since the cycles of each component
+         * are found in the order of their starting node and each starting node belongs to exactly one component,
+         * the merged result consists of the same cycles in the same order as if the whole graph had been searched at once.
+         * This also holds for the maximum number of cycles, since each component contributes at most this many cycles.
+         */
+        private static Result merge(List<Result> componentResults, int maxNumberOfCycles) {
+            List<int[]> allCycles = new ArrayList<>();
+            for (Result componentResult : componentResults) {
+                allCycles.addAll(componentResult.cycles);
+            }
+            Collections.sort(allCycles, BY_STARTING_NODE);
+
+            Result result = new Result(maxNumberOfCycles);
+            for (int[] cycle : allCycles) {
+                result.add(cycle);
+            }
+            for (Result componentResult : componentResults) {
+                result.maxNumberOfCyclesReached |= componentResult.maxNumberOfCyclesReached;
+                result.timeoutReached |= componentResult.timeoutReached;
+            }
+            return result;
+        }
+
+        private static final Comparator<int[]> BY_STARTING_NODE = new Comparator<int[]>() {
+            @Override
+            public int compare(int[] first, int[] second) {
+                return Integer.compare(first[0], second[0]);
+            }
+        };
     }
 }
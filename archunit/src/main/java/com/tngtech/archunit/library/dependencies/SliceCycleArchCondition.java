@@ -21,21 +21,13 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.SortedSet;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
-import com.google.common.collect.ForwardingSet;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.SortedSetMultimap;
 import com.tngtech.archunit.base.DescribedPredicate;
-import com.tngtech.archunit.base.Guava;
 import com.tngtech.archunit.core.domain.Dependency;
-import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
@@ -43,7 +35,7 @@ import com.tngtech.archunit.lang.SimpleConditionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static com.google.common.collect.MultimapBuilder.hashKeys;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
 import static java.lang.System.lineSeparator;
@@ -52,124 +44,82 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     private static final Logger log = LoggerFactory.getLogger(SliceCycleArchCondition.class);
 
     private final DescribedPredicate<Dependency> predicate;
-    private ClassesToSlicesMapping classesToSlicesMapping;
-    private Graph<Slice, Dependency> graph;
+    private final Report report;
+    private SliceGraph graph;
     private EventRecorder eventRecorder;
 
-    SliceCycleArchCondition(DescribedPredicate<Dependency> predicate) {
-        super("be free of cycles");
+    private SliceCycleArchCondition(String description, DescribedPredicate<Dependency> predicate, Report report) {
+        super(description);
         this.predicate = predicate;
+        this.report = report;
     }
 
-    @Override
-    public void init(Iterable<Slice> allSlices) {
-        initializeResources(allSlices);
-        graph.addNodes(allSlices);
+    static SliceCycleArchCondition reportingCycles(DescribedPredicate<Dependency> predicate) {
+        return new SliceCycleArchCondition("be free of cycles", predicate, Report.CYCLES);
+    }
+
+    static SliceCycleArchCondition reportingCyclicGroups(DescribedPredicate<Dependency> predicate) {
+        return new SliceCycleArchCondition("be free of cyclic groups", predicate, Report.CYCLIC_GROUPS);
     }
 
-    private void initializeResources(Iterable<Slice> allSlices) {
-        classesToSlicesMapping = new ClassesToSlicesMapping(allSlices);
-        graph = new Graph<>();
+    @Override
+    public void init(Iterable<Slice> allSlices) {
+        graph = new SliceGraph(allSlices, predicate);
         eventRecorder = new EventRecorder();
     }
 
     @Override
     public void check(Slice slice, ConditionEvents events) {
-        graph.addEdges(SliceDependencies.of(slice, classesToSlicesMapping, predicate));
+        graph.addDependenciesOf(slice);
     }
 
     @Override
     public void finish(ConditionEvents events) {
-        Graph.Cycles<Slice, Dependency> cycles = graph.findCycles();
+        if (report == Report.CYCLIC_GROUPS) {
+            reportCyclicGroups(events);
+        } else {
+            reportCycles(events);
+        }
+        releaseResources();
+    }
+
+    private void reportCyclicGroups(ConditionEvents events) {
+        for (StronglyConnectedComponent<Slice, Dependency> component : Graph.findStronglyConnectedComponents(graph.toPrimitiveGraph(), graph)) {
+            eventRecorder.record(component, events);
+        }
+    }
+
+    private void reportCycles(ConditionEvents events) {
+        Graph.Cycles<Slice, Dependency> cycles = Graph.findCycles(graph.toPrimitiveGraph(), graph);
         if (cycles.maxNumberOfCyclesReached()) {
             events.setInformationAboutNumberOfViolations(String.format(
                     " >= %d times - the maximum number of cycles to detect has been reached; "
                             + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
                     cycles.size(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME));
+        } else if (cycles.timeoutReached()) {
+            events.setInformationAboutNumberOfViolations(String.format(
+                    " >= %d times - the cycle detection has been aborted, because its timeout has been reached; "
+                            + "to detect more cycles the timeout can be raised using the `archunit.properties` value `%s=xxx`",
+                    cycles.size(), DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME));
         }
         for (Cycle<Slice, Dependency> cycle : cycles) {
             eventRecorder.record(cycle, events);
         }
-        releaseResources();
     }
 
     private void releaseResources() {
-        classesToSlicesMapping = null;
         graph = null;
         eventRecorder = null;
     }
 
-    private static class ClassesToSlicesMapping {
-        private final Iterable<Slice> allSlices;
-        private Map<JavaClass, Slice> mapping;
-
-        private ClassesToSlicesMapping(Iterable<Slice> allSlices) {
-            this.allSlices = allSlices;
-        }
-
-        public Slice get(JavaClass javaClass) {
-            return mapping().get(javaClass);
-        }
-
-        private Map<JavaClass, Slice> mapping() {
-            if (mapping != null) {
-                return mapping;
-            }
-            ImmutableMap.Builder<JavaClass, Slice> result = ImmutableMap.builder();
-            for (Slice slice : allSlices) {
-                for (JavaClass javaClass : slice) {
-                    result.put(javaClass, slice);
-                }
-            }
-            return mapping = result.build();
-        }
-
-        public boolean containsKey(JavaClass javaClass) {
-            return mapping().containsKey(javaClass);
-        }
-    }
-
-    private static class SliceDependencies extends ForwardingSet<Edge<Slice, Dependency>> {
-        private final Set<Edge<Slice, Dependency>> edges;
-
-        private SliceDependencies(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            SortedSetMultimap<Slice, Dependency> targetSlicesWithDependencies = targetsOf(slice, classesToSlicesMapping, predicate);
-            ImmutableSet.Builder<Edge<Slice, Dependency>> edgeBuilder = ImmutableSet.builder();
-            for (Map.Entry<Slice, SortedSet<Dependency>> entry : sortedEntries(targetSlicesWithDependencies)) {
-                edgeBuilder.add(new Edge<>(slice, entry.getKey(), entry.getValue()));
-            }
-            this.edges = edgeBuilder.build();
-        }
-
-        private SortedSetMultimap<Slice, Dependency> targetsOf(Slice slice,
-                ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            SortedSetMultimap<Slice, Dependency> result = hashKeys().treeSetValues().build();
-            for (Dependency dependency : Guava.Iterables.filter(slice.getDependenciesFromSelf(), predicate)) {
-                if (classesToSlicesMapping.containsKey(dependency.getTargetClass())) {
-                    result.put(classesToSlicesMapping.get(dependency.getTargetClass()), dependency);
-                }
-            }
-            return result;
-        }
-
-        // unfortunately SortedSetMultimap has no good API to iterate over all SortedSet values :-(
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        private Set<Map.Entry<Slice, SortedSet<Dependency>>> sortedEntries(SortedSetMultimap<Slice, Dependency> multimap) {
-            return (Set) multimap.asMap().entrySet();
-        }
-
-        @Override
-        protected Set<Edge<Slice, Dependency>> delegate() {
-            return edges;
-        }
-
-        static SliceDependencies of(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            return new SliceDependencies(slice, classesToSlicesMapping, predicate);
-        }
+    private enum Report {
+        CYCLES,
+        CYCLIC_GROUPS
     }
 
     private static class EventRecorder {
         private static final String CYCLE_DETECTED_SECTION_INTRO = "Cycle detected: ";
+        private static final String CYCLIC_GROUP_DETECTED_SECTION_INTRO = "Cyclic group detected: ";
         private static final String DEPENDENCY_DETAILS_INDENT = Strings.repeat(" ", 4);
         private static final Function<Edge<Slice, Dependency>, String> GET_FROM_NODE_DESCRIPTION = new Function<Edge<Slice, Dependency>, String>() {
             @Override
@@ -178,6 +128,13 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             }
         };
 
+        private static final Function<Edge<Slice, Dependency>, String> GET_TO_NODE_DESCRIPTION = new Function<Edge<Slice, Dependency>, String>() {
+            @Override
+            public String apply(Edge<Slice, Dependency> input) {
+                return input.getTo().getDescription();
+            }
+        };
+
         private final CycleConfiguration cycleConfiguration = new CycleConfiguration();
 
         private EventRecorder() {
@@ -199,6 +156,34 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
                     CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + details);
         }
 
+        void record(StronglyConnectedComponent<Slice, Dependency> component, ConditionEvents events) {
+            events.add(newEvent(component));
+        }
+
+        private ConditionEvent newEvent(StronglyConnectedComponent<Slice, Dependency> component) {
+            List<String> sliceDescriptions = new ArrayList<>();
+            for (Slice slice : component.getNodes()) {
+                sliceDescriptions.add(slice.getDescription());
+            }
+            List<Edge<Slice, Dependency>> feedbackEdges = Ordering.natural().onResultOf(GET_FROM_NODE_DESCRIPTION)
+                    .compound(Ordering.natural().onResultOf(GET_TO_NODE_DESCRIPTION))
+                    .sortedCopy(component.getFeedbackEdges());
+
+            List<String> details = new ArrayList<>();
+            details.add(String.format("  Removing the following %d of %d slice dependencies between these %d slices would break all cycles:",
+                    feedbackEdges.size(), component.getEdges().size(), sliceDescriptions.size()));
+            int edgeIndex = 0;
+            for (Edge<Slice, Dependency> edge : feedbackEdges) {
+                ++edgeIndex;
+                details.add(String.format("  %d. Dependencies of %s -> %s", edgeIndex, edge.getFrom().getDescription(), edge.getTo().getDescription()));
+                details.addAll(dependenciesDescription(edge));
+            }
+            return new SimpleConditionEvent(component,
+                    false,
+                    CYCLIC_GROUP_DETECTED_SECTION_INTRO + Joiner.on(", ").join(Ordering.natural().sortedCopy(sliceDescriptions))
+                            + lineSeparator() + Joiner.on(lineSeparator()).join(details));
+        }
+
         private Map<String, Edge<Slice, Dependency>> sortEdgesByDescription(Cycle<Slice, Dependency> cycle) {
             LinkedList<Edge<Slice, Dependency>> edges = new LinkedList<>(cycle.getEdges());
             Edge<Slice, Dependency> startEdge = Ordering.natural().onResultOf(GET_FROM_NODE_DESCRIPTION).min(edges);
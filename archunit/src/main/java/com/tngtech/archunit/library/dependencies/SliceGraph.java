@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The graph of dependencies between slices, optimized for cycle detection. Slices are identified by their index and
+ * the edges between slices are accumulated as primitive adjacency arrays of slice indexes (compare {@link PrimitiveGraph}),
+ * without keeping any {@link Dependency} in memory. The {@link Dependency dependencies} behind an edge are only collected
+ * once the edge is resolved, i.e. once it turns out to be part of a reported cycle.
+ */
+class SliceGraph implements Graph.ElementResolver<Slice, Dependency> {
+    private static final int[] NO_EDGES = new int[0];
+    private static final int NONE = -1;
+
+    private final List<Slice> slices = new ArrayList<>();
+    private final Map<Slice, Integer> sliceIndexes = new HashMap<>();
+    private final Map<JavaClass, Integer> sliceIndexesByClass = new HashMap<>();
+    private final DescribedPredicate<Dependency> predicate;
+    private final int[][] edges;
+    /**
+     * Performance optimization to add each target slice only once per origin slice. Records for each target slice,
+     * by which origin slice it has been added last.
+     */
+    private final int[] lastAddedBy;
+    private final int[] tempArray;
+    private final Map<Long, Edge<Slice, Dependency>> resolvedEdges = new HashMap<>();
+
+    SliceGraph(Iterable<Slice> allSlices, DescribedPredicate<Dependency> predicate) {
+        for (Slice slice : allSlices) {
+            if (!sliceIndexes.containsKey(slice)) {
+                addSlice(slice);
+            }
+        }
+        this.predicate = predicate;
+        edges = new int[slices.size()][];
+        Arrays.fill(edges, NO_EDGES);
+        lastAddedBy = new int[slices.size()];
+        Arrays.fill(lastAddedBy, NONE);
+        tempArray = new int[slices.size()];
+    }
+
+    private void addSlice(Slice slice) {
+        int sliceIndex = slices.size();
+        slices.add(slice);
+        sliceIndexes.put(slice, sliceIndex);
+        for (JavaClass javaClass : slice) {
+            sliceIndexesByClass.put(javaClass, sliceIndex);
+        }
+    }
+
+    void addDependenciesOf(Slice slice) {
+        Integer originIndex = sliceIndexes.get(slice);
+        checkArgument(originIndex != null, "Slice %s is not part of the graph", slice);
+
+        int numberOfTargets = 0;
+        for (JavaClass javaClass : slice) {
+            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                Integer targetIndex = sliceIndexesByClass.get(dependency.getTargetClass());
+                if (targetIndex != null && targetIndex != (int) originIndex && lastAddedBy[targetIndex] != originIndex
+                        && predicate.apply(dependency)) {
+                    lastAddedBy[targetIndex] = originIndex;
+                    tempArray[numberOfTargets++] = targetIndex;
+                }
+            }
+        }
+        int[] targets = Arrays.copyOf(tempArray, numberOfTargets);
+        Arrays.sort(targets);
+        edges[originIndex] = targets;
+    }
+
+    PrimitiveGraph toPrimitiveGraph() {
+        return new PrimitiveGraph(edges);
+    }
+
+    @Override
+    public Slice getNode(int nodeIndex) {
+        return slices.get(nodeIndex);
+    }
+
+    @Override
+    public Edge<Slice, Dependency> getEdge(int originIndex, int targetIndex) {
+        long key = (long) originIndex * slices.size() + targetIndex;
+        Edge<Slice, Dependency> edge = resolvedEdges.get(key);
+        if (edge == null) {
+            edge = new Edge<>(slices.get(originIndex), slices.get(targetIndex), collectDependencies(originIndex, targetIndex));
+            resolvedEdges.put(key, edge);
+        }
+        return edge;
+    }
+
+    private SortedSet<Dependency> collectDependencies(int originIndex, int targetIndex) {
+        SortedSet<Dependency> result = new TreeSet<>();
+        for (JavaClass javaClass : slices.get(originIndex)) {
+            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                Integer dependencyTargetIndex = sliceIndexesByClass.get(dependency.getTargetClass());
+                if (dependencyTargetIndex != null && dependencyTargetIndex == targetIndex && predicate.apply(dependency)) {
+                    result.add(dependency);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -28,6 +28,7 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ArchRule.Transformation.As;
 import com.tngtech.archunit.lang.ArchRule.Transformation.Because;
+import com.tngtech.archunit.lang.ArchRule.Transformation.MaxViolations;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
@@ -70,6 +71,12 @@ public final class SliceRule implements ArchRule {
         return copyWithTransformation(new Because(reason));
     }
 
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public SliceRule withMaxViolations(int maxViolations) {
+        return copyWithTransformation(new MaxViolations(maxViolations));
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
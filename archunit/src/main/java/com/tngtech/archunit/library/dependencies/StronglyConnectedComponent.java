@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A non-trivial strongly connected component of a {@link Graph}, i.e. a group of nodes where each node can be reached from
+ * each other node. Besides all nodes and edges within the component it offers a small set of these edges
+ * (the feedback edges), such that removing the feedback edges would remove all cycles within the component.
+ */
+class StronglyConnectedComponent<T, ATTACHMENT> {
+    private final List<T> nodes;
+    private final List<Edge<T, ATTACHMENT>> edges;
+    private final List<Edge<T, ATTACHMENT>> feedbackEdges;
+
+    StronglyConnectedComponent(List<T> nodes, List<Edge<T, ATTACHMENT>> edges, List<Edge<T, ATTACHMENT>> feedbackEdges) {
+        this.nodes = ImmutableList.copyOf(nodes);
+        this.edges = Collections.unmodifiableList(edges);
+        this.feedbackEdges = ImmutableList.copyOf(feedbackEdges);
+    }
+
+    List<T> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return All edges within the component. Note that the edges might only be resolved on access,
+     * while the number of edges is always known without resolving any edge.
+     */
+    List<Edge<T, ATTACHMENT>> getEdges() {
+        return edges;
+    }
+
+    List<Edge<T, ATTACHMENT>> getFeedbackEdges() {
+        return feedbackEdges;
+    }
+
+    @Override
+    public String toString() {
+        return "StronglyConnectedComponent{" +
+                "nodes=" + nodes +
+                ", feedbackEdges=" + feedbackEdges +
+                '}';
+    }
+}
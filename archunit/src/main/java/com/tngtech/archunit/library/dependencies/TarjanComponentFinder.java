@@ -21,8 +21,10 @@ import java.util.List;
 import com.google.common.base.Function;
 import com.google.common.collect.Ordering;
 import com.google.common.primitives.Ints;
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.IntStack;
 
 import static com.tngtech.archunit.library.dependencies.TarjanGraph.LESS_THAN_TWO_VALUES;
+import static java.util.Arrays.fill;
 import static java.util.Arrays.sort;
 
 /**
@@ -37,7 +39,8 @@ import static java.util.Arrays.sort;
  * the {@code visitationIndex} we have encountered a strongly connected component. Note that while theoretically a single node is
  * a strongly connected component within itself, we are not interested in those trivial components and will skip them at the source.
  * <br><br>
- * Note that we keep track of all Tarjan specific state within {@link #graph}.
+ * Note that we keep track of all Tarjan specific state within {@link #graph}. The depth first search itself is done
+ * iteratively, since recursion could overflow the stack for large graphs.
  * <br><br>
  * Also note that we always only need to find the strongly connected component containing the next unvisited node in ascending order.
  * Thus we do not need to find all strongly connected components, but only the next relevant one to apply Johnson's algorithm to.
@@ -47,14 +50,25 @@ class TarjanComponentFinder {
 
     private int nextIndex = 0;
     private final TarjanGraph graph;
+    /**
+     * The depth first search is done iteratively to avoid stack overflows for large graphs. The call stack contains
+     * the nodes whose adjacent nodes are currently explored and {@link #nextAdjacentNodePositions} records for each node
+     * which adjacent node to explore next.
+     */
+    private final IntStack callStack;
+    private final int[] nextAdjacentNodePositions;
 
     TarjanComponentFinder(PrimitiveGraph primitiveGraph) {
         graph = TarjanGraph.of(primitiveGraph);
+        callStack = new IntStack(primitiveGraph.getSize());
+        nextAdjacentNodePositions = new int[primitiveGraph.getSize()];
     }
 
     private void reset() {
         nextIndex = 0;
         graph.reset();
+        callStack.reset();
+        fill(nextAdjacentNodePositions, 0);
     }
 
     /**
@@ -69,60 +83,93 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
-    private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
-        for (int j = lowerIndexBound; j < graph.getSize(); j++) {
+    /**
+     * Returns all non-trivial strongly connected components of the graph, ordered by their lowest node index.<br>
+     * Note that each returned array of node indexes is guaranteed to be sorted in ascending order.
+     */
+    List<int[]> findAllNonTrivialStronglyConnectedComponents() {
+        List<int[]> result = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
             if (graph.isVisitationIndexUnset(j)) {
-                List<int[]> components = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
-                if (!components.isEmpty()) {
-                    return findComponentWithLowestNode(components);
-                }
+                result.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
             }
         }
-        return NO_COMPONENT_FOUND;
+        reset();
+        for (int[] component : result) {
+            sort(component);
+        }
+        return Ordering.natural().onResultOf(MINIMUM_OF_INT_ARRAY).sortedCopy(result);
     }
 
-    private List<int[]> findNonTrivialStronglyConnectedComponents(int nodeToVisit, int lowerIndexBound) {
-        int currentIndex = nextIndex++;
-        graph.setNodeVisitationIndex(nodeToVisit, currentIndex);
-        graph.setLowLink(nodeToVisit, currentIndex);
-        graph.pushOnStack(nodeToVisit);
-
-        List<int[]> result = findNonTrivialStronglyConnectedComponentsOfDescendants(nodeToVisit, lowerIndexBound);
-
-        // if lowlink is still equal to the visitation index, we have found the start of a strongly connected component
-        if (graph.getLowLink(nodeToVisit) == graph.getNodeVisitationIndex(nodeToVisit)) {
-            int[] currentStack = graph.popStackUntilEncountering(nodeToVisit);
-            if (currentStack != LESS_THAN_TWO_VALUES) {
-                result.add(currentStack);
+    // a component with a lower node might not be reachable from the first component found,
+    // so we have to keep searching from all unvisited nodes below the lowest node found so far
+    private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
+        List<int[]> components = new ArrayList<>();
+        int lowestNodeFound = graph.getSize();
+        for (int j = lowerIndexBound; j < lowestNodeFound; j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                List<int[]> newComponents = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
+                for (int[] component : newComponents) {
+                    lowestNodeFound = Math.min(lowestNodeFound, Ints.min(component));
+                }
+                components.addAll(newComponents);
             }
         }
-        return result;
+        return !components.isEmpty() ? findComponentWithLowestNode(components) : NO_COMPONENT_FOUND;
     }
 
-    private List<int[]> findNonTrivialStronglyConnectedComponentsOfDescendants(int nodeToVisit, int lowerIndexBound) {
+    private List<int[]> findNonTrivialStronglyConnectedComponents(int startNode, int lowerIndexBound) {
         List<int[]> result = new ArrayList<>();
-        for (int targetNode : graph.getAdjacentNodesOf(nodeToVisit)) {
-            if (targetNode < lowerIndexBound) {
+        visit(startNode);
+        while (!callStack.isEmpty()) {
+            int nodeToVisit = callStack.peek();
+            int[] adjacentNodes = graph.getAdjacentNodesOf(nodeToVisit);
+            if (nextAdjacentNodePositions[nodeToVisit] < adjacentNodes.length) {
+                int targetNode = adjacentNodes[nextAdjacentNodePositions[nodeToVisit]++];
+                if (targetNode < lowerIndexBound) {
+                    continue;
+                }
+
+                if (graph.isVisitationIndexUnset(targetNode)) {
+                    // we have not seen this node so far, so we will continue the depth first search from there
+                    visit(targetNode);
+                } else if (graph.isOnStack(targetNode)) {
+                    // we encountered a node of the same strongly connected component
+                    // to keep our invariant about lowlink, lowlink must now be the minimum of the current lowlink
+                    // and the visitation index of this target node
+                    int newLowLink = Math.min(graph.getNodeVisitationIndex(targetNode), graph.getLowLink(nodeToVisit));
+                    graph.setLowLink(nodeToVisit, newLowLink);
+                }
                 continue;
             }
 
-            if (graph.isVisitationIndexUnset(targetNode)) {
-                // we have not seen this node so far, so we will recursively search for strongly connected components
-                result.addAll(findNonTrivialStronglyConnectedComponents(targetNode, lowerIndexBound));
-                // then we can safely backtrack lowlink, i.e. set lowlink to the minimum of the target node lowlink and ours
-                int newLowLink = Math.min(graph.getLowLink(nodeToVisit), graph.getLowLink(targetNode));
-                graph.setLowLink(nodeToVisit, newLowLink);
-            } else if (graph.isOnStack(targetNode)) {
-                // we encountered a node of the same strongly connected component
-                // to keep our invariant about lowlink, lowlink must now be the minimum of the current lowlink
-                // and the visitation index of this target node
-                int newLowLink = Math.min(graph.getNodeVisitationIndex(targetNode), graph.getLowLink(nodeToVisit));
-                graph.setLowLink(nodeToVisit, newLowLink);
+            callStack.pop();
+            // if lowlink is still equal to the visitation index, we have found the start of a strongly connected component
+            if (graph.getLowLink(nodeToVisit) == graph.getNodeVisitationIndex(nodeToVisit)) {
+                int[] currentStack = graph.popStackUntilEncountering(nodeToVisit);
+                if (currentStack != LESS_THAN_TWO_VALUES) {
+                    result.add(currentStack);
+                }
+            }
+            if (!callStack.isEmpty()) {
+                // returning from the target node we can safely backtrack lowlink,
+                // i.e. set lowlink to the minimum of the target node lowlink and ours
+                int origin = callStack.peek();
+                int newLowLink = Math.min(graph.getLowLink(origin), graph.getLowLink(nodeToVisit));
+                graph.setLowLink(origin, newLowLink);
             }
         }
         return result;
     }
 
+    private void visit(int node) {
+        int currentIndex = nextIndex++;
+        graph.setNodeVisitationIndex(node, currentIndex);
+        graph.setLowLink(node, currentIndex);
+        graph.pushOnStack(node);
+        callStack.push(node);
+    }
+
     private int[] findComponentWithLowestNode(List<int[]> component) {
         int[] componentWithLowestNodeIndex = Ordering.natural().onResultOf(MINIMUM_OF_INT_ARRAY).min(component);
         sort(componentWithLowestNodeIndex);
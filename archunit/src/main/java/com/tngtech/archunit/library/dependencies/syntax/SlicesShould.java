@@ -24,6 +24,19 @@ public interface SlicesShould {
     @PublicAPI(usage = ACCESS)
     SliceRule beFreeOfCycles();
 
+    /**
+     * Like {@link #beFreeOfCycles()} this rule fails, if there are any cyclic dependencies between the slices.
+     * However, instead of reporting every single cycle, it reports each group of slices that depend on each other
+     * cyclically (i.e. each strongly connected component of the slice dependency graph) together with a small set of
+     * dependencies between these slices that would break all cycles of the group if removed.
+     * <br><br>
+     * Since it does not enumerate cycles, this takes near-linear time even for heavily entangled slices, where the
+     * number of cycles grows exponentially. Note that the reported dependencies to remove are only an approximation of
+     * the smallest possible set, since finding the smallest set is NP-hard.
+     */
+    @PublicAPI(usage = ACCESS)
+    SliceRule beFreeOfCyclicGroups();
+
     @PublicAPI(usage = ACCESS)
     SliceRule notDependOnEachOther();
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.ArchRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.library.freeze.FreezingArchRule.ensureUnixLineBreaks;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A {@link ViolationStore} that stores the violations of each rule as a GZIP compressed, length-prefixed binary file
+ * and keeps a binary index file mapping rule descriptions to these files. Compared to the default text based store
+ * this avoids splitting text files via regular expressions on each read and only writes files, if the stored violations
+ * actually changed. Files are always replaced atomically, so an interrupted run can never leave a corrupt store behind.
+ * On the other hand the files are not human readable and not suited to be diffed within a version control system.
+ * <br><br>
+ * To use this store configure
+ *
+ * <pre><code>
+ * freeze.store=com.tngtech.archunit.library.freeze.BinaryViolationStore
+ * </code></pre>
+ *
+ * within {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}. Analogously to the default store
+ * it supports the properties {@code freeze.store.binary.path}, {@code freeze.store.binary.allowStoreCreation}
+ * and {@code freeze.store.binary.allowStoreUpdate}.
+ */
+@PublicAPI(usage = ACCESS)
+public final class BinaryViolationStore implements ViolationStore {
+    private static final Logger log = LoggerFactory.getLogger(BinaryViolationStore.class);
+
+    private static final int INDEX_MAGIC_NUMBER = 0xA4C4F1D0;
+    private static final int VIOLATIONS_MAGIC_NUMBER = 0xA4C4F1D1;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String STORE_PATH_PROPERTY_NAME = "binary.path";
+    private static final String STORE_PATH_DEFAULT = "archunit_store";
+    private static final String INDEX_FILE_NAME = "stored.rules.index";
+    private static final String VIOLATIONS_FILE_EXTENSION = ".violations";
+    private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "binary.allowStoreCreation";
+    private static final String ALLOW_STORE_CREATION_DEFAULT = "false";
+    private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "binary.allowStoreUpdate";
+    private static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
+
+    private boolean storeCreationAllowed;
+    private boolean storeUpdateAllowed;
+    private File storeFolder;
+    private Map<String, String> violationsFileNamesByRule;
+    private final Map<String, List<String>> violationsByRule = new HashMap<>();
+
+    @PublicAPI(usage = ACCESS)
+    public BinaryViolationStore() {
+    }
+
+    @Override
+    public void initialize(Properties properties) {
+        storeCreationAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_CREATION_PROPERTY_NAME, ALLOW_STORE_CREATION_DEFAULT));
+        storeUpdateAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_UPDATE_PROPERTY_NAME, ALLOW_STORE_UPDATE_DEFAULT));
+        storeFolder = new File(properties.getProperty(STORE_PATH_PROPERTY_NAME, STORE_PATH_DEFAULT));
+        File indexFile = new File(storeFolder, INDEX_FILE_NAME);
+        log.info("Initializing {} at {}", BinaryViolationStore.class.getSimpleName(), indexFile.getAbsolutePath());
+
+        violationsByRule.clear();
+        if (indexFile.exists()) {
+            violationsFileNamesByRule = readIndex(indexFile);
+        } else {
+            createStore(indexFile);
+        }
+    }
+
+    private void createStore(File indexFile) {
+        if (!storeCreationAllowed) {
+            throw new StoreInitializationFailedException(String.format(
+                    "Creating new violation store is disabled (enable by configuration %s.%s=true)",
+                    FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_CREATION_PROPERTY_NAME));
+        }
+        if (!(storeFolder.isDirectory() || storeFolder.mkdirs())) {
+            throw new StoreInitializationFailedException(String.format("Cannot create folder %s", storeFolder.getAbsolutePath()));
+        }
+        violationsFileNamesByRule = new LinkedHashMap<>();
+        try {
+            writeIndex(indexFile);
+        } catch (IOException e) {
+            throw new StoreInitializationFailedException(String.format("Cannot create rule store at %s", indexFile.getAbsolutePath()), e);
+        }
+    }
+
+    @Override
+    public boolean contains(ArchRule rule) {
+        return violationsFileNamesByRule.containsKey(keyOf(rule));
+    }
+
+    @Override
+    public void save(ArchRule rule, List<String> violations) {
+        log.debug("Storing evaluated rule '{}' with {} violations: {}", rule.getDescription(), violations.size(), violations);
+        if (!storeUpdateAllowed) {
+            throw new StoreUpdateFailedException(String.format(
+                    "Updating frozen violations is disabled (enable by configuration %s.%s=true)",
+                    FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_UPDATE_PROPERTY_NAME));
+        }
+
+        String key = keyOf(rule);
+        List<String> violationsToStore = ImmutableList.copyOf(violations);
+        String violationsFileName = violationsFileNamesByRule.get(key);
+        if (violationsFileName != null && violationsToStore.equals(getStoredViolations(key, violationsFileName))) {
+            log.debug("Violations of rule '{}' are unchanged, skipping update", rule.getDescription());
+            return;
+        }
+
+        try {
+            if (violationsFileName == null) {
+                violationsFileName = UUID.randomUUID() + VIOLATIONS_FILE_EXTENSION;
+                log.debug("Assigning new file {} to rule '{}'", violationsFileName, rule.getDescription());
+                writeViolations(new File(storeFolder, violationsFileName), violationsToStore);
+                violationsFileNamesByRule.put(key, violationsFileName);
+                writeIndex(new File(storeFolder, INDEX_FILE_NAME));
+            } else {
+                writeViolations(new File(storeFolder, violationsFileName), violationsToStore);
+            }
+        } catch (IOException e) {
+            throw new StoreUpdateFailedException(e);
+        }
+        violationsByRule.put(key, violationsToStore);
+    }
+
+    @Override
+    public List<String> getViolations(ArchRule rule) {
+        String key = keyOf(rule);
+        String violationsFileName = violationsFileNamesByRule.get(key);
+        checkArgument(violationsFileName != null, "No rule stored with description '%s'", rule.getDescription());
+        List<String> result = getStoredViolations(key, violationsFileName);
+        log.debug("Retrieved stored rule '{}' with {} violations: {}", rule.getDescription(), result.size(), result);
+        return result;
+    }
+
+    private List<String> getStoredViolations(String key, String violationsFileName) {
+        List<String> result = violationsByRule.get(key);
+        if (result == null) {
+            result = readViolations(new File(storeFolder, violationsFileName));
+            violationsByRule.put(key, result);
+        }
+        return result;
+    }
+
+    private static String keyOf(ArchRule rule) {
+        return ensureUnixLineBreaks(rule.getDescription());
+    }
+
+    private Map<String, String> readIndex(File indexFile) {
+        try (DataInputStream in = new DataInputStream(openForReading(indexFile, false))) {
+            checkHeader(in, INDEX_MAGIC_NUMBER, indexFile);
+            int numberOfRules = in.readInt();
+            Map<String, String> result = new LinkedHashMap<>();
+            for (int i = 0; i < numberOfRules; i++) {
+                result.put(readString(in), readString(in));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new StoreInitializationFailedException(String.format("Cannot read rule store at %s", indexFile.getAbsolutePath()), e);
+        }
+    }
+
+    private void writeIndex(File indexFile) throws IOException {
+        AtomicReplacement replacement = new AtomicReplacement(indexFile.toPath());
+        try {
+            try (DataOutputStream out = replacement.openStream(false)) {
+                writeHeader(out, INDEX_MAGIC_NUMBER);
+                out.writeInt(violationsFileNamesByRule.size());
+                for (Map.Entry<String, String> entry : violationsFileNamesByRule.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                }
+            }
+            replacement.commit();
+        } finally {
+            replacement.discard();
+        }
+    }
+
+    private List<String> readViolations(File violationsFile) {
+        try (DataInputStream in = new DataInputStream(openForReading(violationsFile, true))) {
+            checkHeader(in, VIOLATIONS_MAGIC_NUMBER, violationsFile);
+            int numberOfViolations = in.readInt();
+            List<String> result = new ArrayList<>(numberOfViolations);
+            for (int i = 0; i < numberOfViolations; i++) {
+                result.add(readString(in));
+            }
+            return ImmutableList.copyOf(result);
+        } catch (IOException e) {
+            throw new StoreReadException(e);
+        }
+    }
+
+    private void writeViolations(File violationsFile, List<String> violations) throws IOException {
+        AtomicReplacement replacement = new AtomicReplacement(violationsFile.toPath());
+        try {
+            try (DataOutputStream out = replacement.openStream(true)) {
+                writeHeader(out, VIOLATIONS_MAGIC_NUMBER);
+                out.writeInt(violations.size());
+                for (String violation : violations) {
+                    writeString(out, violation);
+                }
+            }
+            replacement.commit();
+        } finally {
+            replacement.discard();
+        }
+    }
+
+    private static void checkHeader(DataInputStream in, int expectedMagicNumber, File file) throws IOException {
+        if (in.readInt() != expectedMagicNumber || in.readInt() != FORMAT_VERSION) {
+            throw new IOException(String.format("File %s is no valid violation store file", file.getAbsolutePath()));
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, int magicNumber) throws IOException {
+        out.writeInt(magicNumber);
+        out.writeInt(FORMAT_VERSION);
+    }
+
+    // DataOutput.writeUTF(..) is limited to 64KB, which is not sufficient for arbitrary violations
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Reads the whole file with one channel operation instead of many small stream reads
+    private static InputStream openForReading(File file, boolean compressed) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+            long size = channel.size();
+            checkState(size <= Integer.MAX_VALUE, "File %s is too large", file.getAbsolutePath());
+            buffer = ByteBuffer.allocate((int) size);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer);
+            }
+        }
+        InputStream in = new ByteArrayInputStream(buffer.array(), 0, buffer.position());
+        return compressed ? new GZIPInputStream(in) : in;
+    }
+
+    /**
+     * Writes to a temporary file next to the target file, which replaces the target file on {@link #commit()}.
+     * Thus readers will either see the old or the new file, but never a partially written one.
+     */
+    private static class AtomicReplacement {
+        private final Path target;
+        private final Path tempFile;
+
+        AtomicReplacement(Path target) throws IOException {
+            this.target = target;
+            this.tempFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        }
+
+        DataOutputStream openStream(boolean compressed) throws IOException {
+            OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile));
+            return new DataOutputStream(compressed ? new GZIPOutputStream(out) : out);
+        }
+
+        void commit() throws IOException {
+            try {
+                Files.move(tempFile, target, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, REPLACE_EXISTING);
+            }
+        }
+
+        void discard() throws IOException {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -15,23 +15,31 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.Predicate;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.PostProcessingRule;
 import com.tngtech.archunit.lang.Priority;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME;
@@ -71,7 +79,7 @@ import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_S
  * </ul>
  */
 @PublicAPI(usage = ACCESS)
-public final class FreezingArchRule implements ArchRule {
+public final class FreezingArchRule implements ArchRule, PostProcessingRule {
     private static final Logger log = LoggerFactory.getLogger(FreezingArchRule.class);
 
     private static final String FREEZE_REFREEZE_PROPERTY_NAME = "freeze.refreeze";
@@ -79,15 +87,17 @@ public final class FreezingArchRule implements ArchRule {
     private final ArchRule delegate;
     private final ViolationStoreLineBreakAdapter store;
     private final ViolationLineMatcher matcher;
+    private final Optional<Integer> maxViolations;
 
-    private FreezingArchRule(ArchRule delegate, ViolationStore store, ViolationLineMatcher matcher) {
-        this(delegate, new ViolationStoreLineBreakAdapter(store), matcher);
+    private FreezingArchRule(ArchRule delegate, ViolationStore store, ViolationLineMatcher matcher, Optional<Integer> maxViolations) {
+        this(delegate, new ViolationStoreLineBreakAdapter(store), matcher, maxViolations);
     }
 
-    private FreezingArchRule(ArchRule delegate, ViolationStoreLineBreakAdapter store, ViolationLineMatcher matcher) {
+    private FreezingArchRule(ArchRule delegate, ViolationStoreLineBreakAdapter store, ViolationLineMatcher matcher, Optional<Integer> maxViolations) {
         this.delegate = checkNotNull(delegate);
         this.store = store;
         this.matcher = checkNotNull(matcher);
+        this.maxViolations = checkNotNull(maxViolations);
     }
 
     @Override
@@ -99,21 +109,47 @@ public final class FreezingArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule because(String reason) {
-        return new FreezingArchRule(delegate.because(reason), store, matcher);
+        return new FreezingArchRule(delegate.because(reason), store, matcher, maxViolations);
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule as(String newDescription) {
-        return new FreezingArchRule(delegate.as(newDescription), store, matcher);
+        return new FreezingArchRule(delegate.as(newDescription), store, matcher, maxViolations);
+    }
+
+    /**
+     * A frozen rule always evaluates all violations of the rule it freezes, since it needs to compare all of them with the
+     * {@link ViolationStore}. The limit thus only applies to the new violations that are reported.
+     *
+     * @see ArchRule#withMaxViolations(int)
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public FreezingArchRule withMaxViolations(int maxViolations) {
+        checkArgument(maxViolations > 0, "The maximum number of violations must be positive, but was %s", maxViolations);
+        return new FreezingArchRule(delegate, store, matcher, Optional.of(maxViolations));
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
+        // if only a limited number of violations was evaluated, we could neither freeze nor detect all new violations
+        return postProcess(delegate.withMaxViolations(Integer.MAX_VALUE).evaluate(classes));
+    }
+
+    @Override
+    @Internal
+    public ArchRule getPostProcessedRule() {
+        return delegate;
+    }
+
+    @Override
+    @Internal
+    public EvaluationResult postProcess(EvaluationResult completeResult) {
         store.initialize(ArchConfiguration.get().getSubProperties(FREEZE_STORE_PROPERTY_NAME));
 
-        EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(delegate.evaluate(classes));
+        EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(completeResult);
         if (!store.contains(delegate) || refreezeViolations()) {
             return storeViolationsAndReturnSuccess(result);
         } else {
@@ -137,7 +173,9 @@ public final class FreezingArchRule implements ArchRule {
         final List<String> knownViolations = store.getViolations(delegate);
         CategorizedViolations categorizedViolations = new CategorizedViolations(matcher, result, knownViolations);
         removeObsoleteViolationsFromStore(categorizedViolations);
-        return filterOutKnownViolations(result, categorizedViolations.getKnownActualViolations());
+        EvaluationResult newViolations = filterOutKnownViolations(result, categorizedViolations.getKnownActualViolations());
+        Optional<Integer> limit = maxViolations.isPresent() ? maxViolations : ArchConfiguration.get().getRuleEvaluationMaxViolations();
+        return limit.isPresent() ? newViolations.limitViolationsTo(limit.get()) : newViolations;
     }
 
     private void removeObsoleteViolationsFromStore(CategorizedViolations categorizedViolations) {
@@ -175,7 +213,7 @@ public final class FreezingArchRule implements ArchRule {
      */
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule persistIn(ViolationStore store) {
-        return new FreezingArchRule(delegate, store, matcher);
+        return new FreezingArchRule(delegate, store, matcher, maxViolations);
     }
 
     /**
@@ -189,7 +227,7 @@ public final class FreezingArchRule implements ArchRule {
      */
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule associateViolationLinesVia(ViolationLineMatcher matcher) {
-        return new FreezingArchRule(delegate, store, matcher);
+        return new FreezingArchRule(delegate, store, matcher, maxViolations);
     }
 
     @Override
@@ -206,7 +244,7 @@ public final class FreezingArchRule implements ArchRule {
      */
     @PublicAPI(usage = ACCESS)
     public static FreezingArchRule freeze(ArchRule rule) {
-        return new FreezingArchRule(rule, ViolationStoreFactory.create(), ViolationLineMatcherFactory.create());
+        return new FreezingArchRule(rule, ViolationStoreFactory.create(), ViolationLineMatcherFactory.create(), Optional.<Integer>empty());
     }
 
     static String ensureUnixLineBreaks(String string) {
@@ -227,8 +265,38 @@ public final class FreezingArchRule implements ArchRule {
         private final List<String> storedUnsolvedViolations = new ArrayList<>();
 
         CategorizedViolations(ViolationLineMatcher matcher, EvaluationResultLineBreakAdapter actualResult, List<String> storedViolations) {
+            if (matcher instanceof NormalizingViolationLineMatcher) {
+                categorizeByNormalizedViolation((NormalizingViolationLineMatcher) matcher, actualResult.getViolations(), storedViolations);
+            } else {
+                categorizeByPairwiseComparison(matcher, actualResult.getViolations(), storedViolations);
+            }
+            storedSolvedViolations = new ArrayList<>(storedViolations);
+            storedSolvedViolations.removeAll(storedUnsolvedViolations);
+        }
+
+        private void categorizeByNormalizedViolation(NormalizingViolationLineMatcher matcher, List<String> actualViolations, List<String> storedViolations) {
+            Map<String, Deque<String>> storedViolationsLeftByNormalizedViolation = new HashMap<>();
+            for (String storedViolation : storedViolations) {
+                String normalizedViolation = matcher.normalize(storedViolation);
+                Deque<String> storedViolationsLeft = storedViolationsLeftByNormalizedViolation.get(normalizedViolation);
+                if (storedViolationsLeft == null) {
+                    storedViolationsLeft = new ArrayDeque<>();
+                    storedViolationsLeftByNormalizedViolation.put(normalizedViolation, storedViolationsLeft);
+                }
+                storedViolationsLeft.add(storedViolation);
+            }
+            for (String actualViolation : actualViolations) {
+                Deque<String> storedViolationsLeft = storedViolationsLeftByNormalizedViolation.get(matcher.normalize(actualViolation));
+                if (storedViolationsLeft != null && !storedViolationsLeft.isEmpty()) {
+                    knownActualViolations.add(actualViolation);
+                    storedUnsolvedViolations.add(storedViolationsLeft.poll());
+                }
+            }
+        }
+
+        private void categorizeByPairwiseComparison(ViolationLineMatcher matcher, List<String> actualViolations, List<String> storedViolations) {
             List<String> storedViolationsLeft = new ArrayList<>(storedViolations);
-            for (String actualViolation : actualResult.getViolations()) {
+            for (String actualViolation : actualViolations) {
                 for (Iterator<String> iterator = storedViolationsLeft.iterator(); iterator.hasNext(); ) {
                     String storedViolation = iterator.next();
                     if (matcher.matches(actualViolation, storedViolation)) {
@@ -239,8 +307,6 @@ public final class FreezingArchRule implements ArchRule {
                     }
                 }
             }
-            storedSolvedViolations = new ArrayList<>(storedViolations);
-            storedSolvedViolations.removeAll(storedUnsolvedViolations);
         }
 
         Set<String> getKnownActualViolations() {
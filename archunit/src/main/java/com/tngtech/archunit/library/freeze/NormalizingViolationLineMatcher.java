@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * A {@link ViolationLineMatcher} that can reduce each line to a canonical form, such that two lines match,
+ * if and only if their canonical forms are equal. This allows {@link FreezingArchRule} to look up matching
+ * stored violations by key instead of comparing each occurring violation with each stored violation,
+ * which makes a considerable difference for rules with a large amount of frozen violations.
+ * <br><br>
+ * Implementations must ensure that {@link #matches(String, String) matches(first, second)} is equivalent to
+ * {@code normalize(first).equals(normalize(second))}.
+ */
+@PublicAPI(usage = INHERITANCE)
+public interface NormalizingViolationLineMatcher extends ViolationLineMatcher {
+
+    /**
+     * @param line A line from the description of a violation of an {@link com.tngtech.archunit.lang.ArchRule ArchRule}
+     * @return The canonical form of the line, two lines are considered equivalent if and only if their canonical forms are equal
+     */
+    String normalize(String line);
+}
@@ -197,7 +197,13 @@ class ViolationStoreFactory {
             }
         }
 
+        /**
+         * All stores (e.g. of frozen rules evaluated in parallel) synchronize their updates on this lock and reload the file
+         * before modifying it, so that no store overwrites rules another store has added in the meantime.
+         */
         private static class FileSyncedProperties {
+            private static final Object FILE_UPDATE_LOCK = new Object();
+
             private final File propertiesFile;
             private final Properties loadedProperties;
 
@@ -222,10 +228,12 @@ class ViolationStoreFactory {
 
             private Properties loadRulesFrom(File file) {
                 Properties result = new Properties();
-                try (FileInputStream inputStream = new FileInputStream(file)) {
-                    result.load(inputStream);
-                } catch (IOException e) {
-                    throw new StoreInitializationFailedException(e);
+                synchronized (FILE_UPDATE_LOCK) {
+                    try (FileInputStream inputStream = new FileInputStream(file)) {
+                        result.load(inputStream);
+                    } catch (IOException e) {
+                        throw new StoreInitializationFailedException(e);
+                    }
                 }
                 return result;
             }
@@ -239,8 +247,11 @@ class ViolationStoreFactory {
             }
 
             void setProperty(String propertyName, String value) {
-                loadedProperties.setProperty(ensureUnixLineBreaks(propertyName), ensureUnixLineBreaks(value));
-                syncFileSystem();
+                synchronized (FILE_UPDATE_LOCK) {
+                    loadedProperties.putAll(loadRulesFrom(propertiesFile));
+                    loadedProperties.setProperty(ensureUnixLineBreaks(propertyName), ensureUnixLineBreaks(value));
+                    syncFileSystem();
+                }
             }
 
             private void syncFileSystem() {
@@ -16,14 +16,18 @@
 package com.tngtech.archunit.library.metrics;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Function;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static java.util.Collections.singleton;
 
 /**
  * Calculates architecture metrics as defined by John Lakos in his book "Large-Scale C++ Software Design".<br>
@@ -60,8 +64,8 @@ public final class LakosMetrics {
     <T> LakosMetrics(Collection<MetricsComponent<T>> components, Function<T, Collection<T>> getDependencies) {
         int cumulativeComponentDependency = 0;
         MetricsComponentDependencyGraph<T> graph = MetricsComponentDependencyGraph.of(components, getDependencies);
-        for (MetricsComponent<T> component : components) {
-            cumulativeComponentDependency += 1 + getNumberOfTransitiveDependencies(graph, component);
+        for (int dependsOn : calculateDependsOnValues(graph, components)) {
+            cumulativeComponentDependency += dependsOn;
         }
         this.cumulativeComponentDependency = cumulativeComponentDependency;
         this.averageComponentDependency = ((double) cumulativeComponentDependency) / components.size();
@@ -70,9 +74,25 @@ public final class LakosMetrics {
                 ((double) cumulativeComponentDependency) / calculateCumulativeComponentDependencyOfBinaryTree(components.size());
     }
 
-    private <T> int getNumberOfTransitiveDependencies(MetricsComponentDependencyGraph<T> graph, MetricsComponent<T> component) {
-        Sets.SetView<MetricsComponent<T>> transitiveDependenciesWithoutSelf = Sets.difference(graph.getTransitiveDependenciesOf(component), singleton(component));
-        return transitiveDependenciesWithoutSelf.size();
+    // the transitive dependencies of all components are counted at once, since traversing the graph for each component
+    // is quadratic in the number of components, which makes a difference for class level components of large code bases
+    private <T> int[] calculateDependsOnValues(MetricsComponentDependencyGraph<T> graph, Collection<MetricsComponent<T>> components) {
+        List<MetricsComponent<T>> componentsById = ImmutableList.copyOf(components);
+        Map<MetricsComponent<T>, Integer> ids = new HashMap<>();
+        for (int id = 0; id < componentsById.size(); id++) {
+            ids.put(componentsById.get(id), id);
+        }
+
+        int[][] successors = new int[componentsById.size()][];
+        for (int id = 0; id < componentsById.size(); id++) {
+            Set<MetricsComponent<T>> dependencies = graph.getDirectDependenciesFrom(componentsById.get(id));
+            successors[id] = new int[dependencies.size()];
+            int i = 0;
+            for (MetricsComponent<T> dependency : dependencies) {
+                successors[id][i++] = ids.get(dependency);
+            }
+        }
+        return TransitiveReachability.countReachableNodes(successors, ArchConfiguration.get().getMetricsParallelism());
     }
 
     private int calculateCumulativeComponentDependencyOfBinaryTree(int treeSize) {
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.tngtech.archunit.base.ParallelExecution;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Counts for each node of a directed graph the number of nodes reachable from it, including the node itself.
+ * The graph is given as adjacency arrays, i.e. {@code successors[i]} contains the ids of all direct successors of node {@code i}.
+ * <br><br>
+ * First the strongly connected components (SCCs) of the graph are determined by Tarjan's algorithm, since all nodes
+ * of an SCC reach exactly the same nodes. Tarjan's algorithm completes each SCC only after all SCCs reachable from it,
+ * so numbering the nodes by the order of their SCCs lets each SCC cover a contiguous range of node numbers and
+ * only reach nodes with smaller numbers. The reachable nodes are then propagated as bitsets through the condensed graph
+ * in this order. To keep the memory bounded for large graphs, the bitsets only ever cover one block of
+ * {@value #BITS_PER_BLOCK} node numbers at once and the reachable nodes are counted block by block.
+ * Blocks are independent of each other and can thus be processed in parallel.
+ */
+final class TransitiveReachability {
+    private static final int WORDS_PER_BLOCK = 16;
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * BITS_PER_WORD;
+    private static final int UNVISITED = -1;
+
+    private final int[] sccOfNode;
+    // the nodes of SCC s are numbered from sccStart[s] (inclusive) to sccStart[s + 1] (exclusive)
+    private final int[] sccStart;
+    private final int[][] sccSuccessors;
+
+    private TransitiveReachability(int[][] successors) {
+        int numberOfNodes = successors.length;
+        sccOfNode = new int[numberOfNodes];
+        int[] sccStartBuffer = new int[numberOfNodes + 1];
+        int numberOfSccs = findStronglyConnectedComponents(successors, sccStartBuffer);
+        sccStart = Arrays.copyOf(sccStartBuffer, numberOfSccs + 1);
+        sccSuccessors = condense(successors, numberOfSccs);
+    }
+
+    /**
+     * @return The number of nodes reachable from each node (including the node itself), indexed by node id
+     */
+    static int[] countReachableNodes(int[][] successors, int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        return new TransitiveReachability(successors).countReachableNodes(parallelism);
+    }
+
+    // iterative version of Tarjan's algorithm, since recursion could overflow the stack for long dependency chains
+    private int findStronglyConnectedComponents(int[][] successors, int[] sccStartBuffer) {
+        int numberOfNodes = successors.length;
+        int[] index = new int[numberOfNodes];
+        int[] lowLink = new int[numberOfNodes];
+        int[] nextSuccessor = new int[numberOfNodes];
+        boolean[] onStack = new boolean[numberOfNodes];
+        int[] sccStack = new int[numberOfNodes];
+        int[] callStack = new int[numberOfNodes];
+        Arrays.fill(index, UNVISITED);
+
+        int nextIndex = 0;
+        int sccStackSize = 0;
+        int numberOfSccs = 0;
+        int nextNumber = 0;
+        for (int root = 0; root < numberOfNodes; root++) {
+            if (index[root] != UNVISITED) {
+                continue;
+            }
+            int callStackSize = 0;
+            callStack[callStackSize++] = root;
+            index[root] = lowLink[root] = nextIndex++;
+            sccStack[sccStackSize++] = root;
+            onStack[root] = true;
+
+            while (callStackSize > 0) {
+                int node = callStack[callStackSize - 1];
+                if (nextSuccessor[node] < successors[node].length) {
+                    int successor = successors[node][nextSuccessor[node]++];
+                    if (index[successor] == UNVISITED) {
+                        index[successor] = lowLink[successor] = nextIndex++;
+                        sccStack[sccStackSize++] = successor;
+                        onStack[successor] = true;
+                        callStack[callStackSize++] = successor;
+                    } else if (onStack[successor]) {
+                        lowLink[node] = Math.min(lowLink[node], index[successor]);
+                    }
+                    continue;
+                }
+
+                callStackSize--;
+                if (lowLink[node] == index[node]) {
+                    sccStartBuffer[numberOfSccs] = nextNumber;
+                    int member;
+                    do {
+                        member = sccStack[--sccStackSize];
+                        onStack[member] = false;
+                        sccOfNode[member] = numberOfSccs;
+                        nextNumber++;
+                    } while (member != node);
+                    numberOfSccs++;
+                }
+                if (callStackSize > 0) {
+                    int caller = callStack[callStackSize - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+                }
+            }
+        }
+        sccStartBuffer[numberOfSccs] = nextNumber;
+        return numberOfSccs;
+    }
+
+    private int[][] condense(int[][] successors, int numberOfSccs) {
+        List<List<Integer>> nodesOfScc = new ArrayList<>(numberOfSccs);
+        for (int scc = 0; scc < numberOfSccs; scc++) {
+            nodesOfScc.add(new ArrayList<Integer>(sccStart[scc + 1] - sccStart[scc]));
+        }
+        for (int node = 0; node < successors.length; node++) {
+            nodesOfScc.get(sccOfNode[node]).add(node);
+        }
+
+        int[][] result = new int[numberOfSccs][];
+        int[] lastAddedBy = new int[numberOfSccs];
+        Arrays.fill(lastAddedBy, UNVISITED);
+        int[] buffer = new int[numberOfSccs];
+        for (int scc = 0; scc < numberOfSccs; scc++) {
+            int size = 0;
+            for (int node : nodesOfScc.get(scc)) {
+                for (int successor : successors[node]) {
+                    int successorScc = sccOfNode[successor];
+                    if (successorScc != scc && lastAddedBy[successorScc] != scc) {
+                        lastAddedBy[successorScc] = scc;
+                        buffer[size++] = successorScc;
+                    }
+                }
+            }
+            result[scc] = Arrays.copyOf(buffer, size);
+        }
+        return result;
+    }
+
+    private int[] countReachableNodes(int parallelism) {
+        int numberOfNodes = sccOfNode.length;
+        int numberOfBlocks = (numberOfNodes + BITS_PER_BLOCK - 1) / BITS_PER_BLOCK;
+        int[] reachableNodesOfScc = new int[sccSuccessors.length];
+        for (int[] countsOfBlock : countBlocks(numberOfBlocks, parallelism)) {
+            for (int scc = 0; scc < reachableNodesOfScc.length; scc++) {
+                reachableNodesOfScc[scc] += countsOfBlock[scc];
+            }
+        }
+
+        int[] result = new int[numberOfNodes];
+        for (int node = 0; node < numberOfNodes; node++) {
+            result[node] = reachableNodesOfScc[sccOfNode[node]];
+        }
+        return result;
+    }
+
+    private List<int[]> countBlocks(int numberOfBlocks, int parallelism) {
+        List<Callable<int[]>> blockCounts = new ArrayList<>(numberOfBlocks);
+        for (int block = 0; block < numberOfBlocks; block++) {
+            final int blockToCount = block;
+            blockCounts.add(new Callable<int[]>() {
+                @Override
+                public int[] call() {
+                    return countBlock(blockToCount);
+                }
+            });
+        }
+        return ParallelExecution.invokeAll("metrics", parallelism, blockCounts);
+    }
+
+    /**
+     * @return For each SCC the number of reachable nodes with a number within the given block
+     */
+    private int[] countBlock(int block) {
+        int blockStart = block * BITS_PER_BLOCK;
+        int blockEnd = Math.min(blockStart + BITS_PER_BLOCK, sccOfNode.length);
+        int numberOfSccs = sccSuccessors.length;
+        int[] result = new int[numberOfSccs];
+
+        // SCCs completed before the block starts can't reach any node of the block
+        int firstScc = firstSccEndingAfter(blockStart);
+        long[] rows = new long[(numberOfSccs - firstScc) * WORDS_PER_BLOCK];
+        for (int scc = firstScc; scc < numberOfSccs; scc++) {
+            int row = (scc - firstScc) * WORDS_PER_BLOCK;
+            setBits(rows, row, Math.max(sccStart[scc], blockStart) - blockStart, Math.min(sccStart[scc + 1], blockEnd) - blockStart);
+            for (int successor : sccSuccessors[scc]) {
+                if (successor >= firstScc) {
+                    orRow(rows, (successor - firstScc) * WORDS_PER_BLOCK, row);
+                }
+            }
+            result[scc] = countBits(rows, row);
+        }
+        return result;
+    }
+
+    private int firstSccEndingAfter(int nodeNumber) {
+        int low = 0;
+        int high = sccSuccessors.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sccStart[middle + 1] > nodeNumber) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static void setBits(long[] rows, int row, int fromBit, int toBit) {
+        for (int bit = fromBit; bit < toBit; bit++) {
+            rows[row + bit / BITS_PER_WORD] |= 1L << bit;
+        }
+    }
+
+    private static void orRow(long[] rows, int sourceRow, int targetRow) {
+        for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+            rows[targetRow + i] |= rows[sourceRow + i];
+        }
+    }
+
+    private static int countBits(long[] rows, int row) {
+        int result = 0;
+        for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+            result += Long.bitCount(rows[row + i]);
+        }
+        return result;
+    }
+}
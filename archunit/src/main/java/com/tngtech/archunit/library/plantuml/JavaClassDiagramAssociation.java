@@ -21,7 +21,7 @@ import java.util.TreeSet;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
-import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.JavaClass;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
@@ -109,24 +109,19 @@ class JavaClassDiagramAssociation {
 
     private static class AssociatedComponent {
         private final PlantUmlComponent component;
-        private final Set<PackageMatcher> packageMatchers;
+        private final PackageMatchers packageMatchers;
 
         private AssociatedComponent(PlantUmlComponent component) {
             this.component = component;
-            ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
+            ImmutableSet.Builder<String> packageIdentifiers = ImmutableSet.builder();
             for (Stereotype stereotype : component.getStereotypes()) {
-                packageMatchers.add(PackageMatcher.of(stereotype.asString()));
+                packageIdentifiers.add(stereotype.asString());
             }
-            this.packageMatchers = packageMatchers.build();
+            this.packageMatchers = PackageMatchers.of(packageIdentifiers.build());
         }
 
         private boolean contains(JavaClass javaClass) {
-            for (PackageMatcher packageMatcher : packageMatchers) {
-                if (packageMatcher.matches(javaClass.getPackageName())) {
-                    return true;
-                }
-            }
-            return false;
+            return packageMatchers.apply(javaClass.getPackageName());
         }
 
         PlantUmlComponent asPlantUmlComponent() {
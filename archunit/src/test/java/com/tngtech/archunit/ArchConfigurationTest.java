@@ -1,5 +1,6 @@
 package com.tngtech.archunit;
 
+import com.tngtech.archunit.core.domain.ImportDepth;
 import com.tngtech.archunit.testutil.SystemPropertiesRule;
 import org.junit.After;
 import org.junit.Before;
@@ -11,7 +12,9 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
@@ -58,17 +61,92 @@ public class ArchConfigurationTest {
     public void simple_properties_explicitly_set() {
         writeProperties(
                 ArchConfiguration.RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, true,
-                ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true
+                ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true,
+                ArchConfiguration.IMPORT_PARALLELISM, 4,
+                ArchConfiguration.IMPORT_DEPTH, "DECLARATIONS_AND_ACCESSES",
+                ArchConfiguration.IMPORT_ACCESSES_LAZILY, true,
+                ArchConfiguration.IMPORT_JAR_FILES_DIRECTLY, true,
+                ArchConfiguration.RULE_EVALUATION_PARALLELISM, 3,
+                ArchConfiguration.RULE_EVALUATION_VIOLATIONS_ONLY, true,
+                ArchConfiguration.RULE_EVALUATION_MAX_VIOLATIONS, 50,
+                ArchConfiguration.METRICS_PARALLELISM, 2
         );
 
         ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
 
         assertThat(configuration.resolveMissingDependenciesFromClassPath()).isTrue();
         assertThat(configuration.md5InClassSourcesEnabled()).isTrue();
+        assertThat(configuration.getImportParallelism()).isEqualTo(4);
+        assertThat(configuration.getImportDepth()).isEqualTo("DECLARATIONS_AND_ACCESSES");
+        assertThat(configuration.importAccessesLazily()).isTrue();
+        assertThat(configuration.importJarFilesDirectly()).isTrue();
+        assertThat(configuration.getRuleEvaluationParallelism()).isEqualTo(3);
+        assertThat(configuration.isRuleEvaluationViolationsOnly()).isTrue();
+        assertThat(configuration.getRuleEvaluationMaxViolations()).contains(50);
+        assertThat(configuration.getMetricsParallelism()).isEqualTo(2);
         assertThat(configuration.getClassResolver()).isAbsent();
         assertThat(configuration.getClassResolverArguments()).isEmpty();
     }
 
+    @Test
+    public void specific_parallelism_falls_back_to_general_parallelism() {
+        writeProperties(
+                ArchConfiguration.PARALLELISM, 4,
+                ArchConfiguration.METRICS_PARALLELISM, 2
+        );
+
+        ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
+
+        assertThat(configuration.getParallelism()).isEqualTo(4);
+        assertThat(configuration.getImportParallelism()).isEqualTo(4);
+        assertThat(configuration.getRuleEvaluationParallelism()).isEqualTo(4);
+        assertThat(configuration.getMetricsParallelism()).isEqualTo(2);
+        assertThat(configuration.getParallelism("some.parallelism")).isEqualTo(4);
+    }
+
+    @Test
+    public void rejects_parallelism_that_is_no_integer() {
+        writeProperties(ArchConfiguration.PARALLELISM, "many");
+
+        ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Property parallelism must be an integer, but was 'many'");
+        configuration.getImportParallelism();
+    }
+
+    @Test
+    public void rejects_parallelism_that_is_not_positive() {
+        writeProperties(ArchConfiguration.RULE_EVALUATION_PARALLELISM, 0);
+
+        ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Property ruleEvaluationParallelism must be positive, but was 0");
+        configuration.getRuleEvaluationParallelism();
+    }
+
+    @Test
+    public void rejects_unknown_import_depth() {
+        writeProperties(ArchConfiguration.IMPORT_DEPTH, "DECLARATIONS");
+
+        ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Property importDepth must be one of [DECLARATIONS_ONLY, DECLARATIONS_AND_ACCESSES, FULL], but was 'DECLARATIONS'");
+        configuration.getImportDepth();
+    }
+
+    @Test
+    public void allowed_import_depths_match_ImportDepth() {
+        Set<String> importDepthNames = new HashSet<>();
+        for (ImportDepth importDepth : ImportDepth.values()) {
+            importDepthNames.add(importDepth.name());
+        }
+
+        assertThat(ArchConfiguration.IMPORT_DEPTH_NAMES).isEqualTo(importDepthNames);
+    }
+
     @Test
     public void resolver_explicitly_set() {
         writeProperties(
@@ -286,6 +364,24 @@ public class ArchConfigurationTest {
                 .as("configuration.resolveMissingDependenciesFromClassPath()").isTrue();
         assertThat(configuration.md5InClassSourcesEnabled())
                 .as("configuration.md5InClassSourcesEnabled()").isFalse();
+        assertThat(configuration.getParallelism())
+                .as("configuration.getParallelism()").isEqualTo(1);
+        assertThat(configuration.getImportParallelism())
+                .as("configuration.getImportParallelism()").isEqualTo(1);
+        assertThat(configuration.getImportDepth())
+                .as("configuration.getImportDepth()").isEqualTo("FULL");
+        assertThat(configuration.importAccessesLazily())
+                .as("configuration.importAccessesLazily()").isFalse();
+        assertThat(configuration.importJarFilesDirectly())
+                .as("configuration.importJarFilesDirectly()").isFalse();
+        assertThat(configuration.getRuleEvaluationParallelism())
+                .as("configuration.getRuleEvaluationParallelism()").isEqualTo(1);
+        assertThat(configuration.isRuleEvaluationViolationsOnly())
+                .as("configuration.isRuleEvaluationViolationsOnly()").isFalse();
+        assertThat(configuration.getRuleEvaluationMaxViolations())
+                .as("configuration.getRuleEvaluationMaxViolations()").isAbsent();
+        assertThat(configuration.getMetricsParallelism())
+                .as("configuration.getMetricsParallelism()").isEqualTo(1);
     }
 
     private ArchConfiguration testConfiguration(String resourceName) {
@@ -1,6 +1,7 @@
 package com.tngtech.archunit.base;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.java.junit.dataprovider.DataProvider;
@@ -177,6 +178,23 @@ public class DescribedPredicateTest {
         assertThat(scenario.apply(equalTo(object))).rejects(object);
     }
 
+    @Test
+    public void cached_works() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        DescribedPredicate<Object> predicate = new DescribedPredicate<Object>("counted") {
+            @Override
+            public boolean apply(Object input) {
+                evaluations.incrementAndGet();
+                return input instanceof String;
+            }
+        }.cached();
+        Object object = new Object();
+
+        assertThat(predicate).accepts("string").rejects(object).hasDescription("counted");
+        assertThat(predicate).accepts("string").rejects(object);
+        assertThat(evaluations.get()).as("number of evaluations").isEqualTo(2);
+    }
+
     @Test
     public void onResultOf_works() {
         assertThat(equalTo(5).onResultOf(constant(4))).rejects(new Object());
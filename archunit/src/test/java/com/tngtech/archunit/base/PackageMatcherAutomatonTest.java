@@ -0,0 +1,49 @@
+package com.tngtech.archunit.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PackageMatcherAutomatonTest {
+    @Test
+    public void determines_all_matching_patterns_at_once() {
+        PackageMatcherAutomaton automaton = automatonOf("..service..", "com.*.service", "com..", "*..impl", "org.(**).impl");
+
+        assertThat(automaton.getMatchingPatterns(segmentsOf("com.foo.service")).toString()).isEqualTo("{0, 1, 2}");
+        assertThat(automaton.getMatchingPatterns(segmentsOf("com.foo.service.impl")).toString()).isEqualTo("{0, 2, 3}");
+        assertThat(automaton.getMatchingPatterns(segmentsOf("org.foo.bar.impl")).toString()).isEqualTo("{3, 4}");
+        assertThat(automaton.getMatchingPatterns(segmentsOf("org.impl")).toString()).isEqualTo("{3}");
+        assertThat(automaton.getMatchingPatterns(segmentsOf("net.foo")).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void matches_each_pattern_as_if_it_was_matched_alone() {
+        String[] identifiers = {"a..b", "..a.b..", "*..b", "a*.(*)..", "(**).c", "a.b*c.*", "..x", "*", "a..b..c"};
+        String[] packages = {"a", "b", "ab", "a.b", "ab.b", "a.x.b", "a.b.c", "abc.c", "a.bxc.d", "x.a.b.y", "c", "a.x.b.y.c"};
+
+        PackageMatcherAutomaton automaton = automatonOf(identifiers);
+
+        for (String aPackage : packages) {
+            for (int i = 0; i < identifiers.length; i++) {
+                assertThat(automaton.getMatchingPatterns(segmentsOf(aPackage)).get(i))
+                        .as("'%s' matching '%s'", identifiers[i], aPackage)
+                        .isEqualTo(PackageMatcher.of(identifiers[i]).matches(aPackage));
+            }
+        }
+    }
+
+    private static PackageMatcherAutomaton automatonOf(String... packageIdentifiers) {
+        List<PackagePattern> patterns = new ArrayList<>();
+        for (String identifier : packageIdentifiers) {
+            patterns.add(PackagePattern.tryCompile(identifier).get());
+        }
+        return new PackageMatcherAutomaton(patterns);
+    }
+
+    private static String[] segmentsOf(String packageName) {
+        return PackagePattern.segmentsOf(packageName).get();
+    }
+}
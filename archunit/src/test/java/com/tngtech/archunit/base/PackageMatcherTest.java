@@ -44,7 +44,12 @@ public class PackageMatcherTest {
             "..pkg..            | some.random.pkg.maybe.anywhere | true",
             "..p..              | s.r.p.m.a                      | true",
             "*..pkg..*          | some.random.pkg.maybe.anywhere | true",
-            "*..p..*            | s.r.p.m.a                      | true"
+            "*..p..*            | s.r.p.m.a                      | true",
+            "some..pkg          | somepkg                        | true",
+            "some..pkg          | some.pkg                       | true",
+            "so*..pkg           | some.other.pkg                 | true",
+            "some.pkg           | some..pkg                      | false",
+            "some..             | some.                          | true"
     }, splitBy = "\\|")
     public void match(String matcher, String target, boolean matches) {
         assertThat(PackageMatcher.of(matcher).matches(target))
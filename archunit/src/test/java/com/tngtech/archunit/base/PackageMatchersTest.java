@@ -15,6 +15,16 @@ public class PackageMatchersTest {
                 .rejects("matc.hother");
     }
 
+    @Test
+    public void matches_identifiers_that_can_not_be_precompiled() {
+        assertThat(PackageMatchers.of("..stra\u00dfe..", "some.(*)ther.*", "..other.."))
+                .accepts("foo.stra\u00dfe.bar")
+                .accepts("some.another.bar")
+                .accepts("foo.other.bar")
+                .rejects("foo.strasse.bar")
+                .rejects("some.ther.bar");
+    }
+
     @Test
     public void description() {
         assertThat(PackageMatchers.of("..foo..", "..bar.."))
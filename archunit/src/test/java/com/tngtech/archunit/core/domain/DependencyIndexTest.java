@@ -0,0 +1,75 @@
+package com.tngtech.archunit.core.domain;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DependencyIndexTest {
+
+    @SuppressWarnings("unused")
+    static class CyclicGraph {
+        static class A {
+            B b;
+            C[] c;
+        }
+
+        static class B {
+            A a;
+        }
+
+        static class C {
+            A a;
+            B b;
+        }
+    }
+
+    @Test
+    public void reverse_dependencies_match_dependencies_from_all_classes() {
+        JavaClasses classes = new ClassFileImporter().importClasses(
+                CyclicGraph.A.class, CyclicGraph.B.class, CyclicGraph.C.class, DependencyIndexTest.class);
+
+        for (JavaClass target : classes) {
+            Set<Dependency> expected = new HashSet<>();
+            for (JavaClass origin : classes) {
+                for (Dependency dependency : origin.getDirectDependenciesFromSelf()) {
+                    if (dependency.getTargetClass().equals(target)) {
+                        expected.add(dependency);
+                    }
+                }
+            }
+            assertThat(target.getDirectDependenciesToSelf()).as("dependencies to " + target.getName())
+                    .hasSameSizeAs(expected)
+                    .containsOnlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void dependencies_from_and_to_class_are_served_from_the_same_dependency_objects() {
+        JavaClasses classes = new ClassFileImporter().importClasses(CyclicGraph.A.class, CyclicGraph.B.class);
+        JavaClass a = classes.get(CyclicGraph.A.class);
+        JavaClass b = classes.get(CyclicGraph.B.class);
+
+        DependencyIndex index = a.getDependencyIndex();
+
+        assertThat(index).isSameAs(b.getDependencyIndex());
+        assertThat(index.getDirectDependenciesFrom(a)).containsOnlyElementsOf(a.getDirectDependenciesFromSelf());
+        assertThat(index.getDirectDependenciesTo(b)).containsOnlyElementsOf(b.getDirectDependenciesToSelf());
+    }
+
+    @Test
+    public void transitive_dependencies_are_found_across_cycles() {
+        JavaClasses classes = new ClassFileImporter().importClasses(CyclicGraph.A.class, CyclicGraph.B.class, CyclicGraph.C.class);
+        JavaClass b = classes.get(CyclicGraph.B.class);
+
+        Set<Dependency> expected = new HashSet<>();
+        for (JavaClass javaClass : classes) {
+            expected.addAll(javaClass.getDirectDependenciesFromSelf());
+        }
+
+        assertThat(b.getTransitiveDependenciesFromSelf()).containsAll(expected);
+    }
+}
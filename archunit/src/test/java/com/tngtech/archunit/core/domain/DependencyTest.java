@@ -249,6 +249,24 @@ public class DependencyTest {
                         + "is annotated with <" + SomeAnnotation.class.getName() + ">");
     }
 
+    @Test
+    public void Dependencies_with_same_description_are_equal() {
+        @SuppressWarnings("unused")
+        class SomeClass {
+            void method(@SomeAnnotation(String.class) Object first, @SomeAnnotation(String.class) Object second) {
+            }
+        }
+
+        JavaMethod method = new ClassFileImporter().importClass(SomeClass.class).getMethod("method", Object.class, Object.class);
+        Dependency first = getOnlyElement(Dependency.tryCreateFromAnnotation(getOnlyElement(method.getParameters().get(0).getAnnotations())));
+        Dependency second = getOnlyElement(Dependency.tryCreateFromAnnotation(getOnlyElement(method.getParameters().get(1).getAnnotations())));
+
+        assertThat(first.getDescription()).isEqualTo(second.getDescription());
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first.compareTo(second)).isZero();
+    }
+
     @Test
     @UseDataProvider("annotated_classes")
     public void Dependency_from_class_annotation_member(JavaClass annotatedClass) {
@@ -1,11 +1,21 @@
 package com.tngtech.archunit.core.domain;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -115,6 +125,70 @@ public class JavaClassesTest {
         classes.get(String.class);
     }
 
+    @Test
+    public void concurrent_first_reads_give_the_same_results_as_sequential_reads() throws Exception {
+        Map<String, Set<String>> expected = dependenciesToSelfOf(importSomePackage());
+        final JavaClasses classes = importSomePackage();
+
+        int numberOfThreads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<Future<Map<String, Set<String>>>> results = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                results.add(executor.submit(new Callable<Map<String, Set<String>>>() {
+                    @Override
+                    public Map<String, Set<String>> call() throws InterruptedException {
+                        start.await();
+                        return dependenciesToSelfOf(classes);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Map<String, Set<String>>> result : results) {
+                assertThat(result.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void prewarmed_classes_give_the_same_results() {
+        Map<String, Set<String>> expected = dependenciesToSelfOf(importSomePackage());
+        JavaClasses classes = importSomePackage();
+
+        assertThat(classes.prewarm(4)).isSameAs(classes);
+        assertThat(dependenciesToSelfOf(classes)).isEqualTo(expected);
+    }
+
+    @Test
+    public void prewarm_rejects_non_positive_parallelism() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Parallelism must be positive");
+
+        ALL_CLASSES.prewarm(0);
+    }
+
+    private static JavaClasses importSomePackage() {
+        return new ClassFileImporter().importPackagesOf(DescribedPredicate.class);
+    }
+
+    private static Map<String, Set<String>> dependenciesToSelfOf(JavaClasses classes) {
+        Map<String, Set<String>> result = new HashMap<>();
+        for (JavaClass javaClass : classes) {
+            Set<String> descriptions = new HashSet<>();
+            for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+                descriptions.add(dependency.getDescription());
+            }
+            for (JavaAccess<?> access : javaClass.getAccessesToSelf()) {
+                descriptions.add(access.getDescription());
+            }
+            result.put(javaClass.getName(), descriptions);
+        }
+        return result;
+    }
+
     private DescribedPredicate<JavaClass> haveTheNameOf(final Class<?> clazz) {
         return new DescribedPredicate<JavaClass>("have the name " + clazz.getSimpleName()) {
             @Override
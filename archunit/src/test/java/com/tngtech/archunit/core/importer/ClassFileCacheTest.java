@@ -0,0 +1,202 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.JarFile;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.ImportDepth;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileCache.CachedClassFileLocation;
+import com.tngtech.archunit.core.importer.testexamples.annotationfieldimport.ClassWithAnnotatedFields;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
+import static java.util.Arrays.asList;
+
+public class ClassFileCacheTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void creates_bundle_once_and_replays_class_files_from_it() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create();
+        ClassFileCache cache = new ClassFileCache(cacheDirectory.toPath());
+
+        ClassFileSource source = cache.getClassFileSource(new File(jarFile.getName()), NormalizedResourceName.from(""), new ImportOptions())
+                .get();
+
+        assertThat(cacheDirectory.listFiles()).hasSize(1);
+        ClassFileLocation location = getOnlyElement(source);
+        assertThat(location).isInstanceOf(CachedClassFileLocation.class);
+        assertThat(location.getUri().toString()).endsWith(classFileResource(ClassFileCacheTest.class));
+        assertThat(bytesOf(location)).isEqualTo(bytesOf(jarFile, classFileResource(ClassFileCacheTest.class)));
+        assertThatTypes(new ClassFileProcessor().process(source)).matchExactly(ClassFileCacheTest.class);
+
+        File bundle = cacheDirectory.listFiles()[0];
+        long lastModified = bundle.lastModified();
+        cache.getClassFileSource(new File(jarFile.getName()), NormalizedResourceName.from(""), new ImportOptions());
+        assertThat(cacheDirectory.listFiles()).hasSize(1);
+        assertThat(bundle.lastModified()).isEqualTo(lastModified);
+    }
+
+    @Test
+    public void updates_bundle_if_JAR_file_changes() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        File jar = new File(temporaryFolder.newFolder(), "test.jar");
+        new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create(jar);
+        ClassFileCache cache = new ClassFileCache(cacheDirectory.toPath());
+
+        cache.getClassFileSource(jar, NormalizedResourceName.from(""), new ImportOptions());
+        new TestJarFile()
+                .withEntry(classFileResource(ClassFileCacheTest.class))
+                .withEntry(classFileResource(ClassFileCache.class))
+                .create(jar);
+        ClassFileSource source = cache.getClassFileSource(jar, NormalizedResourceName.from(""), new ImportOptions()).get();
+
+        assertThat(cacheDirectory.listFiles()).hasSize(1);
+        assertThatTypes(new ClassFileProcessor().process(source)).matchExactly(ClassFileCacheTest.class, ClassFileCache.class);
+    }
+
+    @Test
+    public void replays_cached_class_files_with_the_import_depth_of_the_import() throws IOException {
+        ArchConfiguration.get().setImportCacheDirectory(temporaryFolder.newFolder().getAbsolutePath());
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create();
+
+        JavaClass declarationsOnly = new ClassFileImporter().withImportDepth(ImportDepth.DECLARATIONS_ONLY).importJar(jarFile)
+                .get(ClassFileCacheTest.class);
+        JavaClass full = new ClassFileImporter().withImportDepth(ImportDepth.FULL).importJar(jarFile)
+                .get(ClassFileCacheTest.class);
+
+        assertThat(declarationsOnly.getMethods()).hasSameSizeAs(full.getMethods());
+        assertThat(declarationsOnly.getAccessesFromSelf()).isEmpty();
+        assertThat(declarationsOnly.getSource().get().getFileName().isPresent()).as("source file name is present").isFalse();
+        assertThat(full.getAccessesFromSelf()).isNotEmpty();
+        assertThat(full.getSource().get().getFileName().get()).isEqualTo(ClassFileCacheTest.class.getSimpleName() + ".java");
+    }
+
+    @Test
+    public void replays_annotations_with_all_their_values() throws Exception {
+        ArchConfiguration.get().setImportCacheDirectory(temporaryFolder.newFolder().getAbsolutePath());
+        TestJarFile testJarFile = new TestJarFile().withEntry(classFileResource(ClassWithAnnotatedFields.class));
+        for (Class<?> nestedClass : ClassWithAnnotatedFields.class.getDeclaredClasses()) {
+            testJarFile.withEntry(classFileResource(nestedClass));
+        }
+        JarFile jarFile = testJarFile.create();
+
+        new ClassFileImporter().importJar(jarFile);
+        JavaClass replayed = new ClassFileImporter().importJar(jarFile).get(ClassWithAnnotatedFields.class);
+
+        for (String fieldName : asList("stringAndIntAnnotatedField", "enumAndArrayAnnotatedField", "fieldAnnotatedWithEmptyArrays")) {
+            assertThat(replayed.getField(fieldName)).isEquivalentTo(ClassWithAnnotatedFields.class.getDeclaredField(fieldName));
+        }
+    }
+
+    @Test
+    public void applies_ImportOptions_and_path_to_cached_bundle() throws IOException {
+        JarFile jarFile = new TestJarFile()
+                .withEntry("pkg/Included.class")
+                .withEntry("pkg/Excluded.class")
+                .withEntry("other/Some.class")
+                .create();
+        ClassFileCache cache = new ClassFileCache(temporaryFolder.newFolder().toPath());
+
+        ClassFileSource source = cache.getClassFileSource(new File(jarFile.getName()), NormalizedResourceName.from("pkg"),
+                new ImportOptions().with(new ImportOption() {
+                    @Override
+                    public boolean includes(Location location) {
+                        return !location.contains("Excluded");
+                    }
+                })).get();
+
+        assertThat(getOnlyElement(source).getUri().toString()).endsWith("pkg/Included.class");
+    }
+
+    @Test
+    public void importer_uses_configured_cache_directory() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create();
+
+        JavaClasses classes = new ClassFileImporter().importJar(jarFile);
+
+        assertThatTypes(classes).matchExactly(ClassFileCacheTest.class);
+        assertThat(cacheDirectory.listFiles()).hasSize(1);
+    }
+
+    @Test
+    public void replaces_corrupt_bundle() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create();
+        File jar = new File(jarFile.getName());
+        ClassFileCache cache = new ClassFileCache(cacheDirectory.toPath());
+        cache.getClassFileSource(jar, NormalizedResourceName.from(""), new ImportOptions());
+        File bundle = getOnlyElement(asList(cacheDirectory.listFiles()));
+        byte[] validBundle = Files.toByteArray(bundle);
+        Files.write(new byte[]{1, 2, 3}, bundle);
+
+        Optional<ClassFileSource> source = cache.getClassFileSource(jar, NormalizedResourceName.from(""), new ImportOptions());
+
+        assertThatTypes(new ClassFileProcessor().process(source.get())).matchExactly(ClassFileCacheTest.class);
+        assertThat(Files.toByteArray(bundle)).isEqualTo(validBundle);
+    }
+
+    @Test
+    public void falls_back_to_JAR_file_if_record_is_corrupt() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create();
+        new ClassFileImporter().importJar(jarFile);
+
+        File bundle = getOnlyElement(asList(cacheDirectory.listFiles()));
+        byte[] bytes = Files.toByteArray(bundle);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(bytes, bundle);
+
+        assertThatTypes(new ClassFileImporter().importJar(jarFile)).matchExactly(ClassFileCacheTest.class);
+        assertThat(bundle).as("corrupt bundle").doesNotExist();
+    }
+
+    @Test
+    public void falls_back_to_JAR_file_if_bundle_cannot_be_created() throws IOException {
+        File noDirectory = temporaryFolder.newFile();
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(ClassFileCacheTest.class)).create();
+
+        Optional<ClassFileSource> source = new ClassFileCache(noDirectory.toPath())
+                .getClassFileSource(new File(jarFile.getName()), NormalizedResourceName.from(""), new ImportOptions());
+
+        assertThat(source.isPresent()).as("source from bundle is present").isFalse();
+
+        ArchConfiguration.get().setImportCacheDirectory(noDirectory.getAbsolutePath());
+        assertThatTypes(new ClassFileImporter().importJar(jarFile)).matchExactly(ClassFileCacheTest.class);
+    }
+
+    private static byte[] bytesOf(ClassFileLocation location) throws IOException {
+        try (InputStream in = location.openStream()) {
+            return ByteStreams.toByteArray(in);
+        }
+    }
+
+    private static byte[] bytesOf(JarFile jarFile, String entryName) throws IOException {
+        try (InputStream in = jarFile.getInputStream(jarFile.getEntry(entryName))) {
+            return ByteStreams.toByteArray(in);
+        }
+    }
+
+    private static String classFileResource(Class<?> clazz) {
+        return String.format("/%s.class", clazz.getName().replace('.', '/'));
+    }
+}
@@ -12,6 +12,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
@@ -20,10 +22,14 @@ import com.google.common.collect.Sets;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.ImportDepth;
+import com.tngtech.archunit.core.domain.JavaAccess;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaEnumConstant;
 import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMember;
 import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.JavaMethodCall;
 import com.tngtech.archunit.core.domain.JavaModifier;
@@ -32,6 +38,7 @@ import com.tngtech.archunit.core.domain.Source;
 import com.tngtech.archunit.core.importer.testexamples.OtherClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeEnum;
+import com.tngtech.archunit.core.importer.testexamples.accesstargettypes.CallsMethodReturningExternalType;
 import com.tngtech.archunit.core.importer.testexamples.arrays.ClassAccessingOneDimensionalArray;
 import com.tngtech.archunit.core.importer.testexamples.arrays.ClassAccessingTwoDimensionalArray;
 import com.tngtech.archunit.core.importer.testexamples.arrays.ClassUsedInArray;
@@ -76,6 +83,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Predicates.containsPattern;
 import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.Iterables.getOnlyElement;
@@ -104,6 +112,7 @@ import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
 import static org.junit.Assume.assumeTrue;
 
 @RunWith(DataProviderRunner.class)
@@ -890,6 +899,264 @@ public class ClassFileImporterTest {
         assertThat(classes).isEmpty();
     }
 
+    @Test
+    public void parallel_import_creates_the_same_classes_as_sequential_import() {
+        URL packageUrl = getClass().getResource("testexamples");
+
+        JavaClasses sequential = new ClassFileImporter().withParallelism(1).importUrl(packageUrl);
+        JavaClasses parallel = new ClassFileImporter().withParallelism(4).importUrl(packageUrl);
+
+        assertThat(namesOf(parallel)).containsOnlyElementsOf(namesOf(sequential));
+        assertThat(namesOf(sequential)).containsOnlyElementsOf(namesOf(parallel));
+        for (JavaClass expected : sequential) {
+            JavaClass actual = parallel.get(expected.getName());
+            assertThat(actual.getRawSuperclass().isPresent()).isEqualTo(expected.getRawSuperclass().isPresent());
+            assertThat(namesOf(actual.getRawInterfaces())).containsOnlyElementsOf(namesOf(expected.getRawInterfaces()));
+            assertThat(fullNamesOf(actual.getMembers())).isEqualTo(fullNamesOf(expected.getMembers()));
+            assertThat(actual.getAccessesFromSelf().size()).as("accesses from " + expected.getName())
+                    .isEqualTo(expected.getAccessesFromSelf().size());
+            assertThat(actual.getAnnotations().size()).isEqualTo(expected.getAnnotations().size());
+        }
+    }
+
+    @Test
+    public void parallel_import_lets_the_first_class_file_of_the_same_name_win() throws IOException {
+        File folderOne = temporaryFolder.newFolder();
+        File folderTwo = temporaryFolder.newFolder();
+        copyClassFile(Class11.class, folderOne);
+        copyClassFile(Class11.class, folderTwo);
+
+        JavaClasses classes = new ClassFileImporter().withParallelism(2)
+                .importLocations(ImmutableList.of(Location.of(folderOne.toPath()), Location.of(folderTwo.toPath())));
+
+        assertThatTypes(classes).matchExactly(Class11.class);
+        assertThat(classes.get(Class11.class).getSource().get().getUri().toString()).contains(folderOne.getName());
+    }
+
+    @Test
+    public void parallelism_is_taken_from_configuration_if_not_set_explicitly() {
+        ArchConfiguration.get().setImportParallelism(3);
+
+        JavaClasses classes = new ClassFileImporter().importUrl(getClass().getResource("testexamples/simpleimport"));
+
+        assertThatTypes(classes).matchInAnyOrder(
+                ClassToImportOne.class, ClassToImportTwo.class, InterfaceToImport.class,
+                EnumToImport.class, AnnotationToImport.class, AnnotationParameter.class);
+    }
+
+    @Test
+    public void import_of_declarations_only_skips_code_and_debug_information() {
+        JavaClasses classes = new ClassFileImporter().withImportDepth(ImportDepth.DECLARATIONS_ONLY)
+                .importUrl(getClass().getResource("testexamples/innerclassimport"));
+        JavaClass javaClass = classes.get(ClassWithInnerClass.Inner.class);
+
+        assertThat(classes.getImportDepth()).isEqualTo(ImportDepth.DECLARATIONS_ONLY);
+        assertThat(javaClass.getMethod("call").getOwner()).isEqualTo(javaClass);
+        assertThat(javaClass.getField("calledClass").getRawType()).matches(CalledClass.class);
+        assertThat(javaClass.getAccessesFromSelf()).isEmpty();
+        assertThat(javaClass.getSource().get().getFileName()).isAbsent();
+    }
+
+    @Test
+    public void warns_if_accesses_of_classes_imported_without_code_are_requested() {
+        logTest.watch(ClassGraphCreator.class, Level.WARN);
+        JavaClasses classes = new ClassFileImporter().withImportDepth(ImportDepth.DECLARATIONS_ONLY)
+                .importUrl(getClass().getResource("testexamples/innerclassimport"));
+
+        classes.get(ClassWithInnerClass.Inner.class).getAccessesFromSelf();
+
+        logTest.assertLogMessage(Level.WARN, "ImportDepth.DECLARATIONS_ONLY, which does not import any accesses");
+    }
+
+    @Test
+    public void import_of_declarations_and_accesses_skips_debug_information() {
+        JavaClasses classes = new ClassFileImporter().withImportDepth(ImportDepth.DECLARATIONS_AND_ACCESSES)
+                .importUrl(getClass().getResource("testexamples/innerclassimport"));
+        JavaClass javaClass = classes.get(ClassWithInnerClass.Inner.class);
+
+        assertThat(classes.getImportDepth()).isEqualTo(ImportDepth.DECLARATIONS_AND_ACCESSES);
+        JavaMethodCall call = getOnlyElement(javaClass.getMethod("call").getMethodCallsFromSelf());
+        assertThat(call.getTargetOwner()).matches(CalledClass.class);
+        assertThat(call.getLineNumber()).isEqualTo(0);
+        assertThat(javaClass.getSource().get().getFileName()).isAbsent();
+    }
+
+    @Test
+    public void import_depth_is_taken_from_configuration_if_not_set_explicitly() {
+        ArchConfiguration.get().setImportDepth("DECLARATIONS_ONLY");
+
+        JavaClasses classes = new ClassFileImporter().importUrl(getClass().getResource("testexamples/innerclassimport"));
+
+        assertThat(classes.getImportDepth()).isEqualTo(ImportDepth.DECLARATIONS_ONLY);
+        assertThat(classes.get(ClassWithInnerClass.Inner.class).getAccessesFromSelf()).isEmpty();
+        assertThat(new ClassFileImporter().withImportDepth(ImportDepth.FULL)
+                .importUrl(getClass().getResource("testexamples/innerclassimport"))
+                .get(ClassWithInnerClass.Inner.class).getAccessesFromSelf()).isNotEmpty();
+    }
+
+    @Test
+    public void accesses_imported_lazily_are_the_same_as_accesses_imported_eagerly() {
+        JavaClasses eagerlyImported = new ClassFileImporter().importUrl(getClass().getResource("testexamples/innerclassimport"));
+        ArchConfiguration.get().setImportAccessesLazily(true);
+        JavaClasses lazilyImported = new ClassFileImporter().importUrl(getClass().getResource("testexamples/innerclassimport"));
+
+        for (JavaClass eagerlyImportedClass : eagerlyImported) {
+            JavaClass lazilyImportedClass = lazilyImported.get(eagerlyImportedClass.getName());
+            assertThat(descriptionsOf(lazilyImportedClass.getAccessesToSelf()))
+                    .as("accesses to " + lazilyImportedClass.getName())
+                    .isEqualTo(descriptionsOf(eagerlyImportedClass.getAccessesToSelf()));
+            assertThat(descriptionsOf(lazilyImportedClass.getAccessesFromSelf()))
+                    .as("accesses from " + lazilyImportedClass.getName())
+                    .isEqualTo(descriptionsOf(eagerlyImportedClass.getAccessesFromSelf()));
+        }
+    }
+
+    @Test
+    public void types_only_referenced_by_lazily_imported_accesses_are_completed_during_the_import() {
+        ArchConfiguration.get().setImportAccessesLazily(true);
+        JavaClasses classes = new ClassFileImporter().importUrl(getClass().getResource("testexamples/accesstargettypes"));
+
+        JavaMethodCall call = getOnlyElement(classes.get(CallsMethodReturningExternalType.class).getMethodCallsFromSelf());
+        JavaClass returnType = call.getTarget().getRawReturnType();
+
+        assertThat(returnType).matches(Properties.class);
+        assertThat(returnType.getPackage().getName()).isEqualTo(Properties.class.getPackage().getName());
+        assertThat(targetNamesOf(returnType.getDirectDependenciesFromSelf())).contains(Hashtable.class.getName());
+    }
+
+    @Test
+    public void import_in_batches_imports_all_classes_in_batches_of_bounded_size() {
+        Location location = Location.of(getClass().getResource("testexamples/simpleimport"));
+
+        Set<String> namesOfBatchedClasses = new HashSet<>();
+        int numberOfBatches = 0;
+        for (JavaClasses batch : new ClassFileImporter().importLocationsInBatches(singletonList(location), 2)) {
+            assertThat(batch.size()).as("size of batch").isLessThanOrEqualTo(2);
+            namesOfBatchedClasses.addAll(namesOf(batch));
+            numberOfBatches++;
+        }
+
+        assertThat(namesOfBatchedClasses).isEqualTo(namesOf(new ClassFileImporter().importLocations(singletonList(location))));
+        assertThat(numberOfBatches).isEqualTo(3);
+    }
+
+    @Test
+    public void import_in_batches_creates_classes_of_other_batches_as_stubs() {
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(true);
+        Location location = Location.of(getClass().getResource("testexamples/simpleimport"));
+
+        for (JavaClasses batch : new ClassFileImporter().importLocationsInBatches(singletonList(location), 1)) {
+            JavaClass javaClass = getOnlyElement(batch);
+            if (javaClass.isEquivalentTo(AnnotationToImport.class)) {
+                JavaClass enumOfOtherBatch = javaClass.getMethod("someEnumMethod").getRawReturnType();
+                assertThat(enumOfOtherBatch).matches(EnumToImport.class);
+                assertThat(enumOfOtherBatch.getFields()).as("fields of stub").isEmpty();
+                assertThat(batch.contain(EnumToImport.class)).as("batch contains " + EnumToImport.class.getSimpleName()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void import_in_batches_imports_nested_classes_in_the_batch_of_their_top_level_class() {
+        Location location = Location.of(getClass().getResource("testexamples/innerclassimport"));
+
+        for (JavaClasses batch : new ClassFileImporter().importLocationsInBatches(singletonList(location), 1)) {
+            if (batch.contain(ClassWithInnerClass.class)) {
+                JavaClass innerClass = batch.get(ClassWithInnerClass.Inner.class);
+                assertThat(innerClass.getEnclosingClass().get()).isSameAs(batch.get(ClassWithInnerClass.class));
+                assertThat(batch.contain(ClassWithInnerClass.NestedStatic.class)).as("batch contains nested static class").isTrue();
+                assertThat(batch.contain(CalledClass.class)).as("batch contains " + CalledClass.class.getSimpleName()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void import_in_batches_without_class_files_consists_of_a_single_empty_batch() throws IOException {
+        Location emptyFolder = Location.of(temporaryFolder.newFolder().toPath());
+
+        Iterable<JavaClasses> batches = new ClassFileImporter().importLocationsInBatches(singletonList(emptyFolder), 10);
+
+        assertThat(getOnlyElement(batches)).isEmpty();
+    }
+
+    @Test
+    public void reimport_replaces_classes_within_changed_locations() throws IOException {
+        File unchangedFolder = temporaryFolder.newFolder();
+        File changedFolder = temporaryFolder.newFolder();
+        copyClassFile(Class11.class, unchangedFolder);
+        copyClassFile(Class12.class, changedFolder);
+        ClassFileImporter importer = new ClassFileImporter().withIncrementalReimport();
+        JavaClasses previous = importer.importPaths(unchangedFolder.toPath(), changedFolder.toPath());
+
+        checkState(new File(changedFolder, Class12.class.getSimpleName() + ".class").delete());
+        copyClassFile(Class21.class, changedFolder);
+        JavaClasses reimported = importer.reimport(previous, singletonList(Location.of(changedFolder.toPath())));
+
+        assertThatTypes(reimported).matchInAnyOrder(Class11.class, Class21.class);
+        assertThat(reimported.get(Class11.class)).isNotSameAs(previous.get(Class11.class));
+        assertThatTypes(previous).matchInAnyOrder(Class11.class, Class12.class);
+    }
+
+    @Test
+    public void reimport_creates_the_same_classes_as_a_new_import() {
+        URL packageUrl = getClass().getResource("testexamples");
+        Location changedLocation = Location.of(getClass().getResource("testexamples/innerclassimport"));
+        JavaClasses previous = new ClassFileImporter().withIncrementalReimport().importUrl(packageUrl);
+
+        JavaClasses reimported = new ClassFileImporter().reimport(previous, singletonList(changedLocation));
+        JavaClasses expected = new ClassFileImporter().importUrl(packageUrl);
+
+        assertThat(namesOf(reimported)).containsOnlyElementsOf(namesOf(expected));
+        assertThat(namesOf(expected)).containsOnlyElementsOf(namesOf(reimported));
+        for (JavaClass expectedClass : expected) {
+            JavaClass actual = reimported.get(expectedClass.getName());
+            assertThat(fullNamesOf(actual.getMembers())).isEqualTo(fullNamesOf(expectedClass.getMembers()));
+            assertThat(actual.getAccessesFromSelf().size()).as("accesses from " + expectedClass.getName())
+                    .isEqualTo(expectedClass.getAccessesFromSelf().size());
+            assertThat(actual.getDirectDependenciesToSelf().size()).as("dependencies to " + expectedClass.getName())
+                    .isEqualTo(expectedClass.getDirectDependenciesToSelf().size());
+        }
+    }
+
+    @Test
+    public void reimports_of_the_same_classes_do_not_share_any_class_graph() {
+        URL packageUrl = getClass().getResource("testexamples/simpleimport");
+        Location changedLocation = Location.of(getClass().getResource("testexamples/innerclassimport"));
+        JavaClasses previous = new ClassFileImporter().withIncrementalReimport().importUrl(packageUrl);
+
+        JavaClasses first = new ClassFileImporter().reimport(previous, singletonList(changedLocation));
+        JavaClasses second = new ClassFileImporter().reimport(previous, singletonList(changedLocation));
+
+        for (JavaClasses reimported : ImmutableList.of(previous, first, second)) {
+            JavaClass annotation = reimported.get(AnnotationToImport.class);
+            for (JavaMember member : annotation.getMembers()) {
+                assertThat(member.getOwner()).isSameAs(annotation);
+            }
+            JavaEnumConstant defaultValue = (JavaEnumConstant) annotation.getMethod("someEnumMethod").getDefaultValue().get();
+            assertThat(defaultValue.getDeclaringClass()).isSameAs(reimported.get(EnumToImport.class));
+        }
+    }
+
+    @Test
+    public void reimport_falls_back_to_full_import_if_parsed_class_files_were_not_retained() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(Class11.class, folder);
+        JavaClasses previous = new ClassFileImporter().importPath(folder.toPath());
+
+        copyClassFile(Class12.class, folder);
+        JavaClasses reimported = new ClassFileImporter().reimport(previous, singletonList(Location.of(folder.toPath())));
+
+        assertThatTypes(reimported).matchInAnyOrder(Class11.class, Class12.class);
+    }
+
+    private Set<String> fullNamesOf(Set<JavaMember> members) {
+        Set<String> result = new HashSet<>();
+        for (JavaMember member : members) {
+            result.add(member.getFullName());
+        }
+        return result;
+    }
+
     private void assertSameSimpleNameOfArchUnitAndReflection(JavaClasses classes, String className) throws ClassNotFoundException {
         assertSameSimpleNameOfArchUnitAndReflection(classes, Class.forName(className));
     }
@@ -898,6 +1165,22 @@ public class ClassFileImporterTest {
         assertThat(classes.get(clazz.getName())).hasSimpleName(clazz.getSimpleName());
     }
 
+    private static Set<String> descriptionsOf(Set<JavaAccess<?>> accesses) {
+        Set<String> result = new HashSet<>();
+        for (JavaAccess<?> access : accesses) {
+            result.add(access.getDescription());
+        }
+        return result;
+    }
+
+    private static Set<String> targetNamesOf(Set<Dependency> dependencies) {
+        Set<String> result = new HashSet<>();
+        for (Dependency dependency : dependencies) {
+            result.add(dependency.getTargetClass().getName());
+        }
+        return result;
+    }
+
     private void copyClassFile(Class<?> clazz, File targetFolder) throws IOException {
         Files.copy(Paths.get(uriOf(clazz)), new File(targetFolder, clazz.getSimpleName() + ".class").toPath());
     }
@@ -1,16 +1,30 @@
 package com.tngtech.archunit.core.importer;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Bytes;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
@@ -22,6 +36,7 @@ import org.junit.runner.RunWith;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.io.ByteStreams.toByteArray;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +47,8 @@ public class ClassFileSourceTest {
 
     @Rule
     public final TemporaryFolder tempDir = new TemporaryFolder();
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
 
     @DataProvider
     public static Object[][] expected_classes() {
@@ -134,6 +151,122 @@ public class ClassFileSourceTest {
         checkAllElementsCanBeRead(classFileSource);
     }
 
+    @Test
+    public void random_access_JAR_provides_the_same_class_files_as_JAR_url() throws IOException {
+        JarFile jarFile = new TestJarFile()
+                .withEntry(classFileResource(getClass()))
+                .withEntry(classFileResource(ClassFileSource.class))
+                .withEntry("/com/tngtech/archunit/core/importer/NotThere.class")
+                .create();
+        RandomAccessJarFile randomAccessJarFile = RandomAccessJarFile.tryOpen(new File(jarFile.getName())).get();
+
+        ClassFileSource randomAccess = new ClassFileSource.FromRandomAccessJar(
+                randomAccessJarFile, Location.of(jarFile), NormalizedResourceName.from(""), new ImportOptions());
+        ClassFileSource viaUrl = new ClassFileSource.FromJar(jarUrlOf(jarFile), "", new ImportOptions());
+
+        assertThat(contentsOf(randomAccess)).isEqualTo(contentsOf(viaUrl)).hasSize(3);
+    }
+
+    @Test
+    public void random_access_JAR_reads_stored_entries() throws IOException {
+        File file = tempDir.newFile("stored.jar");
+        byte[] content = toByteArray(getClass().getResourceAsStream(classFileResource(getClass())));
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+            ZipEntry entry = new ZipEntry("some/Stored.class");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setCrc(crc.getValue());
+            out.putNextEntry(entry);
+            out.write(content);
+            out.closeEntry();
+        }
+
+        RandomAccessJarFile randomAccessJarFile = RandomAccessJarFile.tryOpen(file).get();
+
+        assertThat(randomAccessJarFile.read(getOnlyElement(randomAccessJarFile.getEntries()))).isEqualTo(content);
+    }
+
+    @Test
+    public void JAR_files_are_only_read_directly_if_configured() {
+        JarFile jarFile = new TestJarFile().withEntry(classFileResource(getClass())).create();
+
+        assertThat(Location.of(jarFile).asClassFileSource(new ImportOptions())).isInstanceOf(ClassFileSource.FromJar.class);
+
+        ArchConfiguration.get().setImportJarFilesDirectly(true);
+
+        assertThat(Location.of(jarFile).asClassFileSource(new ImportOptions())).isInstanceOf(ClassFileSource.FromRandomAccessJar.class);
+    }
+
+    @Test
+    public void random_access_JAR_reads_ZIP64_archives() throws IOException {
+        File file = tempDir.newFile("zip64.jar");
+        int numberOfEntries = 0x10000 + 1;
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+            for (int i = 0; i < numberOfEntries; i++) {
+                out.putNextEntry(new ZipEntry("some/Entry" + i + ".class"));
+                out.write(("content " + i).getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+
+        RandomAccessJarFile randomAccessJarFile = RandomAccessJarFile.tryOpen(file).get();
+
+        assertThat(randomAccessJarFile.getEntries()).hasSize(numberOfEntries);
+        RandomAccessJarFile.Entry lastEntry = randomAccessJarFile.getEntries().get(numberOfEntries - 1);
+        assertThat(new String(randomAccessJarFile.read(lastEntry), StandardCharsets.UTF_8)).isEqualTo("content " + (numberOfEntries - 1));
+    }
+
+    @Test
+    public void random_access_JAR_falls_back_to_regular_reading_of_entries_that_can_not_be_read_directly() throws IOException {
+        File file = tempDir.newFile("changed.jar");
+        byte[] content = toByteArray(getClass().getResourceAsStream(classFileResource(getClass())));
+        writeJar(file, ImmutableMap.of("some/Entry.class", content));
+        RandomAccessJarFile randomAccessJarFile = RandomAccessJarFile.tryOpen(file).get();
+        RandomAccessJarFile.Entry entry = getOnlyElement(randomAccessJarFile.getEntries());
+
+        // moves the entry to a different offset than the one read from the central directory before
+        writeJar(file, ImmutableMap.of("some/Other.class", new byte[1000], "some/Entry.class", content));
+        URI entryUri = Location.of(file.toURI()).append(entry.getName()).asURI();
+
+        try (InputStream in = randomAccessJarFile.openStream(entry, entryUri)) {
+            assertThat(toByteArray(in)).isEqualTo(content);
+        }
+    }
+
+    private void writeJar(File file, Map<String, byte[]> contentsByEntryName) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+            for (Map.Entry<String, byte[]> entry : contentsByEntryName.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+    }
+
+    @Test
+    public void files_that_are_no_ZIP_archives_are_not_opened() throws IOException {
+        File file = tempDir.newFile("invalid.jar");
+        Files.write(file.toPath(), "no ZIP archive".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(RandomAccessJarFile.tryOpen(file).isPresent()).as("invalid JAR file is opened").isFalse();
+    }
+
+    private Map<String, List<Byte>> contentsOf(ClassFileSource source) throws IOException {
+        Map<String, List<Byte>> result = new HashMap<>();
+        for (ClassFileLocation location : source) {
+            try (InputStream in = location.openStream()) {
+                result.put(location.getUri().toString(), Bytes.asList(toByteArray(in)));
+            }
+        }
+        return result;
+    }
+
+    private static String classFileResource(Class<?> clazz) {
+        return String.format("/%s.class", clazz.getName().replace('.', '/'));
+    }
+
     @SuppressWarnings("EmptyTryBlock")
     private void checkAllElementsCanBeRead(ClassFileSource classFileSource) {
         for (ClassFileLocation location : classFileSource) {
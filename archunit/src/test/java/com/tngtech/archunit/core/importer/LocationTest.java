@@ -6,6 +6,7 @@ import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.InitialConfigurationTest;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolverFactoryTest;
+import com.tngtech.archunit.testutil.TestUtils;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
@@ -136,6 +137,48 @@ public class LocationTest {
                 .isEmpty();
     }
 
+    @Test
+    public void contains_entry_with_prefix_of_whole_segments() {
+        JarFile jarFile = jarFileContaining(ImmutableSet.of(classFileEntry(getClass()), classFileEntry(DescribedPredicate.class)));
+
+        Location location = Location.of(jarFile);
+
+        assertThat(location.containsEntryWithPrefix(NormalizedResourceName.from("com/tngtech"))).as("contains com/tngtech").isTrue();
+        assertThat(location.containsEntryWithPrefix(packageEntry(DescribedPredicate.class))).as("contains package entry").isTrue();
+        assertThat(location.containsEntryWithPrefix(classFileEntry(getClass()))).as("contains class file entry").isTrue();
+        assertThat(location.containsEntryWithPrefix(NormalizedResourceName.from("com/tng"))).as("contains com/tng").isFalse();
+        assertThat(location.containsEntryWithPrefix(NormalizedResourceName.from("org"))).as("contains org").isFalse();
+    }
+
+    @Test
+    public void entries_of_jar_are_read_again_after_the_jar_has_changed() {
+        File file = new File(TestUtils.newTemporaryFolder(), "changing.jar");
+        new TestJarFile().withEntry(classFileResource(getClass())).create(file);
+        Location location = Location.of(file.toURI());
+
+        assertThat(location.iterateEntries()).containsOnly(classFileEntry(getClass()));
+
+        long lastModified = file.lastModified();
+        new TestJarFile().withEntry(classFileResource(getClass())).withEntry(classFileResource(Location.class)).create(file);
+        checkState(file.setLastModified(lastModified + 2000), "Could not set last modified of %s", file);
+
+        assertThat(location.iterateEntries()).containsOnly(classFileEntry(getClass()), classFileEntry(Location.class));
+        assertThat(location.containsEntryWithPrefix(classFileEntry(Location.class))).as("contains new entry").isTrue();
+    }
+
+    @Test
+    public void reading_entries_in_parallel_gives_the_same_entries() {
+        JarFile first = jarFileContaining(ImmutableSet.of(classFileEntry(getClass())));
+        JarFile second = jarFileContaining(ImmutableSet.of(classFileEntry(Location.class)));
+        Location firstLocation = Location.of(first);
+        Location secondLocation = Location.of(second);
+
+        Location.readEntriesOf(ImmutableSet.of(firstLocation, secondLocation), 2);
+
+        assertThat(firstLocation.iterateEntries()).containsOnly(classFileEntry(getClass()));
+        assertThat(secondLocation.iterateEntries()).containsOnly(classFileEntry(Location.class));
+    }
+
     private File createNonExistingFolder() {
         File nonExistingFile = new File("/not/there");
         checkState(!nonExistingFile.exists(), "File should not exist");
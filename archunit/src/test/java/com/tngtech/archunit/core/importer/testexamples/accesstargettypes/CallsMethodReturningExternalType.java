@@ -0,0 +1,7 @@
+package com.tngtech.archunit.core.importer.testexamples.accesstargettypes;
+
+public class CallsMethodReturningExternalType {
+    void call() {
+        System.getProperties();
+    }
+}
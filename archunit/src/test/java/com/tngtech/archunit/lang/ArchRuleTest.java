@@ -3,11 +3,13 @@ package com.tngtech.archunit.lang;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.After;
@@ -18,10 +20,13 @@ import org.junit.rules.ExpectedException;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
@@ -37,6 +42,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class ArchRuleTest {
     @Rule
     public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
 
     @Before
     public void setUp() {
@@ -159,6 +166,99 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void parallel_evaluation_reports_same_events_in_same_order_as_sequential_evaluation() {
+        ArchRule rule = all(strings()).should(conditionRecordingThreads(true));
+        JavaClasses classes = importClasses(ArchRuleTest.class, ArchRule.class, ArchCondition.class, ConditionEvents.class,
+                EvaluationResult.class, Priority.class, ClassesTransformer.class, SimpleConditionEvent.class);
+
+        EvaluationResult sequentialResult = rule.evaluate(classes);
+        ArchConfiguration.get().setRuleEvaluationParallelism(4);
+        EvaluationResult parallelResult = rule.evaluate(classes);
+
+        assertThat(parallelResult.getFailureReport().getDetails()).hasSize(classes.size())
+                .containsExactlyElementsOf(sequentialResult.getFailureReport().getDetails());
+    }
+
+    @Test
+    public void conditions_not_supporting_parallel_evaluation_are_evaluated_in_calling_thread() {
+        ArchConfiguration.get().setRuleEvaluationParallelism(4);
+        ConditionRecordingThreads condition = conditionRecordingThreads(false);
+
+        all(strings()).should(condition).evaluate(importClasses(ArchRuleTest.class, ArchRule.class, ArchCondition.class));
+
+        assertThat(condition.threads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void evaluation_stops_after_configured_maximum_number_of_violations() {
+        ArchConfiguration.get().setRuleEvaluationMaxViolations(3);
+        ConditionRecordingThreads condition = conditionRecordingThreads(true);
+        JavaClasses classes = importClasses(ArchRuleTest.class, ArchRule.class, ArchCondition.class, ConditionEvents.class,
+                EvaluationResult.class, Priority.class);
+
+        EvaluationResult result = all(strings()).should(condition).evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(3);
+        assertThat(result.getFailureReport().toString())
+                .contains(">= 3 times - the evaluation of the rule has been stopped at this number of violations")
+                .contains("ArchRule.withMaxViolations(..)")
+                .contains(ArchConfiguration.RULE_EVALUATION_MAX_VIOLATIONS);
+    }
+
+    @Test
+    public void evaluation_stops_after_maximum_number_of_violations_of_rule() {
+        ArchRule rule = classes().should(addFixedNumberOfViolations(3)).withMaxViolations(4);
+
+        EvaluationResult result = rule.evaluate(importClassesWithContext(Object.class, String.class));
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(4);
+        assertThat(result.getFailureReport().toString()).contains(">= 4 times");
+    }
+
+    @Test
+    public void maximum_number_of_violations_of_rule_overrides_configured_limit() {
+        ArchConfiguration.get().setRuleEvaluationMaxViolations(1);
+
+        EvaluationResult result = classes().should(addFixedNumberOfViolations(3)).withMaxViolations(Integer.MAX_VALUE)
+                .evaluate(importClassesWithContext(Object.class, String.class));
+
+        assertThat(result.getFailureReport().toString()).contains("(6 times)");
+    }
+
+    @Test
+    public void rejects_maximum_number_of_violations_that_is_not_positive() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be positive, but was 0");
+
+        classes().should(addFixedNumberOfViolations(3)).withMaxViolations(0);
+    }
+
+    private ConditionRecordingThreads conditionRecordingThreads(boolean supportsParallelEvaluation) {
+        return new ConditionRecordingThreads(supportsParallelEvaluation);
+    }
+
+    private static class ConditionRecordingThreads extends ArchCondition<String> {
+        private final boolean supportsParallelEvaluation;
+        private final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+
+        ConditionRecordingThreads(boolean supportsParallelEvaluation) {
+            super("record threads");
+            this.supportsParallelEvaluation = supportsParallelEvaluation;
+        }
+
+        @Override
+        public void check(String item, ConditionEvents events) {
+            threads.add(Thread.currentThread());
+            events.add(SimpleConditionEvent.violated(item, "violated by " + item));
+        }
+
+        @Override
+        public boolean supportsParallelEvaluation() {
+            return supportsParallelEvaluation;
+        }
+    }
+
     private ClassesTransformer<String> strings() {
         return new AbstractClassesTransformer<String>("strings") {
             @Override
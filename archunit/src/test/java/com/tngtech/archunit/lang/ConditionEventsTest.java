@@ -34,6 +34,19 @@ public class ConditionEventsTest {
         assertThat(events.isEmpty()).as("events are empty").isEqualTo(expectedEmpty);
     }
 
+    @Test
+    public void events_recording_only_violations_drop_allowed_events() {
+        ConditionEvents events = ConditionEvents.recordingViolationsOnly();
+        events.add(SimpleConditionEvent.satisfied("allowed", "allowed"));
+        events.add(SimpleConditionEvent.violated("violated", "violated"));
+
+        assertThat(events.recordsAllowedEvents()).as("records allowed events").isFalse();
+        assertThat(events.getAllowed()).isEmpty();
+        assertThat(events.getViolating()).hasSize(1);
+        assertThat(events.createEmptyWithSameRecording().recordsAllowedEvents()).as("new events record allowed events").isFalse();
+        assertThat(new ConditionEvents().recordsAllowedEvents()).as("default events record allowed events").isTrue();
+    }
+
     @Test
     public void handleViolations_reports_only_violations_referring_to_the_correct_type() {
         ConditionEvents events = events(
@@ -0,0 +1,172 @@
+package com.tngtech.archunit.lang;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.haveSimpleNameStartingWith;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RuleBatchTest {
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private final JavaClasses importedClasses = importClassesWithContext(RuleBatchTest.class, EvaluationResult.class);
+
+    @Test
+    public void evaluates_rules_like_individual_evaluation_in_order() {
+        ArchRule first = classes().should().bePublic();
+        ArchRule second = classes().should().haveSimpleNameStartingWith("Rule").because("some reason");
+        ArchRule third = noClasses().should().haveSimpleNameStartingWith("Evaluation");
+        ArchRule fourth = classes().that().haveSimpleNameStartingWith("Rule").should().haveSimpleNameEndingWith("Test");
+
+        List<EvaluationResult> results = RuleBatch.of(first, second, third, fourth).evaluate(importedClasses);
+
+        assertThat(results).hasSize(4);
+        assertSameResult(results.get(0), first.evaluate(importedClasses));
+        assertSameResult(results.get(1), second.evaluate(importedClasses));
+        assertSameResult(results.get(2), third.evaluate(importedClasses));
+        assertSameResult(results.get(3), fourth.evaluate(importedClasses));
+        assertThat(results.get(1).hasViolation()).as("second rule has violation").isTrue();
+    }
+
+    @Test
+    public void transforms_classes_only_once_for_rules_on_the_same_transformer() {
+        CountingTransformer transformer = new CountingTransformer();
+        ArchRule first = all(transformer).should(haveSimpleNameStartingWith("Rule"));
+        ArchRule second = all(transformer).should(haveSimpleNameStartingWith("Evaluation"));
+
+        List<EvaluationResult> results = RuleBatch.of(first, second).evaluate(importedClasses);
+
+        assertThat(transformer.transformations.get()).as("number of transformations").isEqualTo(1);
+        assertThat(results.get(0).getFailureReport().getDetails()).hasSize(1);
+        assertThat(results.get(1).getFailureReport().getDetails()).hasSize(1);
+    }
+
+    @Test
+    public void shares_transformation_and_predicates_of_rules_selecting_objects_of_the_same_transformer() {
+        CountingTransformer transformer = new CountingTransformer();
+        CountingPredicate predicate = new CountingPredicate();
+        ArchRule first = all(transformer.that(predicate)).should(haveSimpleNameStartingWith("Rule"));
+        ArchRule second = all(transformer.that(predicate).as("renamed")).should(haveSimpleNameStartingWith("Evaluation"));
+        ArchRule third = all(transformer).should(haveSimpleNameStartingWith("Rule"));
+
+        List<EvaluationResult> results = RuleBatch.of(first, second, third).evaluate(importedClasses);
+
+        assertThat(transformer.transformations.get()).as("number of transformations").isEqualTo(1);
+        assertThat(predicate.evaluations.get()).as("number of predicate evaluations").isEqualTo(importedClasses.size());
+        assertSameResult(results.get(0), first.evaluate(importedClasses));
+        assertSameResult(results.get(1), second.evaluate(importedClasses));
+        assertSameResult(results.get(2), third.evaluate(importedClasses));
+    }
+
+    @Test
+    public void evaluates_same_condition_used_by_multiple_rules_separately() {
+        ArchCondition<JavaClass> condition = new CountingCondition();
+        CountingTransformer transformer = new CountingTransformer();
+        ArchRule first = all(transformer).should(condition);
+        ArchRule second = all(transformer).should(condition).as("other description");
+
+        List<EvaluationResult> results = RuleBatch.of(first, second).evaluate(importedClasses);
+
+        String expectedDetail = "checked " + importedClasses.size() + " classes";
+        assertThat(results.get(0).getFailureReport().getDetails()).containsExactly(expectedDetail);
+        assertThat(results.get(1).getFailureReport().getDetails()).containsExactly(expectedDetail);
+        assertThat(transformer.transformations.get()).as("number of transformations").isEqualTo(2);
+    }
+
+    @Test
+    public void joins_results_of_evaluation_in_batches() {
+        ArchRule first = classes().should().haveSimpleNameStartingWith("Rule");
+        ArchRule second = noClasses().should().haveSimpleNameStartingWith("Evaluation");
+        List<JavaClasses> batches = ImmutableList.of(
+                importClassesWithContext(RuleBatchTest.class), importClassesWithContext(EvaluationResult.class));
+
+        List<EvaluationResult> results = RuleBatch.of(first, second).evaluateInBatches(batches);
+
+        assertThat(results).hasSize(2);
+        assertSameDetails(results.get(0), first.evaluate(importedClasses));
+        assertSameDetails(results.get(1), second.evaluate(importedClasses));
+        assertThat(results.get(0).hasViolation()).as("first rule has violation").isTrue();
+    }
+
+    @Test
+    public void rejects_evaluation_without_any_batch() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("At least one batch");
+
+        RuleBatch.of(classes().should().bePublic()).evaluateInBatches(ImmutableList.<JavaClasses>of());
+    }
+
+    private static void assertSameDetails(EvaluationResult actual, EvaluationResult expected) {
+        List<String> expectedDetails = expected.getFailureReport().getDetails();
+        assertThat(actual.getFailureReport().getDetails()).hasSameSizeAs(expectedDetails).containsOnlyElementsOf(expectedDetails);
+    }
+
+    private static void assertSameResult(EvaluationResult actual, EvaluationResult expected) {
+        assertThat(actual.getFailureReport().toString()).isEqualTo(expected.getFailureReport().toString());
+        assertThat(actual.getPriority()).isEqualTo(expected.getPriority());
+    }
+
+    private static class CountingCondition extends ArchCondition<JavaClass> {
+        private int checked;
+
+        CountingCondition() {
+            super("be counted");
+        }
+
+        @Override
+        public void init(Iterable<JavaClass> allObjectsToTest) {
+            checked = 0;
+        }
+
+        @Override
+        public void check(JavaClass item, ConditionEvents events) {
+            checked++;
+        }
+
+        @Override
+        public void finish(ConditionEvents events) {
+            events.add(SimpleConditionEvent.violated(this, "checked " + checked + " classes"));
+        }
+    }
+
+    private static class CountingPredicate extends DescribedPredicate<JavaClass> {
+        private final AtomicInteger evaluations = new AtomicInteger();
+
+        CountingPredicate() {
+            super("are counted");
+        }
+
+        @Override
+        public boolean apply(JavaClass input) {
+            evaluations.incrementAndGet();
+            return input.getSimpleName().startsWith("Rule");
+        }
+    }
+
+    private static class CountingTransformer extends AbstractClassesTransformer<JavaClass> {
+        private final AtomicInteger transformations = new AtomicInteger();
+
+        CountingTransformer() {
+            super("counted classes");
+        }
+
+        @Override
+        public Iterable<JavaClass> doTransform(JavaClasses collection) {
+            transformations.incrementAndGet();
+            return collection;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.tngtech.archunit.lang.ArchCondition;
@@ -54,6 +55,22 @@ public class ContainsOnlyConditionTest {
         assertThat(getInverted(events)).containViolations(messageForTwoTimes(isSerializableMessageFor(SerializableObject.class)));
     }
 
+    @Test
+    public void recording_only_violations_defers_allowed_events_until_inverted() {
+        ConditionEvents events = ConditionEvents.recordingViolationsOnly();
+        containOnlyElementsThat(IS_SERIALIZABLE).check(TWO_SERIALIZABLE_OBJECTS, events);
+
+        assertThat(events.isEmpty()).as("events are empty").isTrue();
+
+        events = ConditionEvents.recordingViolationsOnly();
+        containOnlyElementsThat(IS_SERIALIZABLE).check(ONE_SERIALIZABLE_AND_ONE_NON_SERIALIZABLE_OBJECT, events);
+        ConditionEvents allEvents = new ConditionEvents();
+        containOnlyElementsThat(IS_SERIALIZABLE).check(ONE_SERIALIZABLE_AND_ONE_NON_SERIALIZABLE_OBJECT, allEvents);
+
+        assertThat(events).containViolations(isSerializableMessageFor(Object.class));
+        assertThat(descriptionLinesOf(getInverted(events))).isEqualTo(descriptionLinesOf(getInverted(allEvents)));
+    }
+
     @Test
     public void if_there_are_no_input_events_no_ContainsOnlyEvent_is_added() {
         ConditionEvents events = new ConditionEvents();
@@ -69,6 +86,14 @@ public class ContainsOnlyConditionTest {
         return inverted;
     }
 
+    private static List<String> descriptionLinesOf(ConditionEvents events) {
+        List<String> result = new ArrayList<>();
+        for (ConditionEvent event : events) {
+            result.addAll(event.getDescriptionLines());
+        }
+        return result;
+    }
+
     static String messageForTwoTimes(String message) {
         return String.format("%s%n%s", message, message);
     }
@@ -1,5 +1,6 @@
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -15,12 +16,17 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.library.dependencies.Graph.Cycles;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.DiscreteDomain.integers;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.DETECTION_PARALLELISM_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -30,6 +36,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -163,6 +174,146 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void finds_cycles_not_reachable_from_nodes_with_lower_index() {
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(ImmutableSet.of(0, 1, 2, 3, 4));
+        graph.addEdges(ImmutableSet.of(
+                newEdge(0, 2),
+                newEdge(2, 3),
+                newEdge(3, 2),
+                newEdge(1, 4),
+                newEdge(4, 1)
+        ));
+
+        Cycles<Integer, Object> cycles = graph.findCycles();
+
+        assertThat(cycles).hasSize(2);
+    }
+
+    @Test
+    public void finds_cycles_of_very_long_cycle_without_overflowing_the_stack() {
+        ContiguousSet<Integer> nodes = ContiguousSet.create(Range.closedOpen(0, 100_000), integers());
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(nodes);
+        List<Edge<Integer, Object>> edges = new ArrayList<>();
+        for (int node : nodes) {
+            edges.add(GraphTest.<Integer, Object>newEdge(node, (node + 1) % nodes.size()));
+        }
+        graph.addEdges(edges);
+
+        Cycle<Integer, Object> cycle = getOnlyElement(graph.findCycles());
+
+        assertThat(cycle.getEdges()).hasSize(nodes.size());
+    }
+
+    @Test
+    public void finds_same_cycles_in_same_order_if_components_are_searched_in_parallel() {
+        Graph<Integer, Object> graph = RealLifeGraph.get();
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, "1000");
+        List<Cycle<Integer, Object>> sequentialCycles = ImmutableList.copyOf(graph.findCycles());
+
+        ArchConfiguration.get().setProperty(DETECTION_PARALLELISM_PROPERTY_NAME, "4");
+        Cycles<Integer, Object> parallelCycles = graph.findCycles();
+
+        assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+        assertThat(parallelCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
+    }
+
+    @Test
+    public void stops_detection_once_timeout_is_reached() {
+        Graph<Integer, Integer> completeGraph = createCompleteGraph(30);
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(Integer.MAX_VALUE));
+        ArchConfiguration.get().setProperty(DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME, "100");
+
+        Cycles<Integer, Integer> cycles = completeGraph.findCycles();
+
+        assertThat(cycles.timeoutReached()).as("timeout reached").isTrue();
+        assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isFalse();
+        assertThat(cycles).isNotEmpty();
+    }
+
+    @Test
+    public void rejects_timeout_that_is_no_integer() {
+        ArchConfiguration.get().setProperty(DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME, "1s");
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Property cycles.detectionTimeoutMillis must be an integer, but was '1s'");
+        createCompleteGraph(3).findCycles();
+    }
+
+    @Test
+    public void rejects_timeout_that_is_not_positive() {
+        ArchConfiguration.get().setProperty(DETECTION_TIMEOUT_MILLIS_PROPERTY_NAME, "0");
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Property cycles.detectionTimeoutMillis must be positive, but was 0");
+        createCompleteGraph(3).findCycles();
+    }
+
+    @Test
+    public void finds_strongly_connected_components_with_feedback_edges() {
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, 7), integers()));
+        graph.addEdges(ImmutableSet.of(
+                GraphTest.<Integer, Object>newEdge(0, 1),
+                GraphTest.<Integer, Object>newEdge(1, 2),
+                GraphTest.<Integer, Object>newEdge(2, 0),
+                GraphTest.<Integer, Object>newEdge(2, 3),
+                GraphTest.<Integer, Object>newEdge(3, 4),
+                GraphTest.<Integer, Object>newEdge(4, 3),
+                GraphTest.<Integer, Object>newEdge(6, 3)
+        ));
+
+        List<StronglyConnectedComponent<Integer, Object>> components = graph.findStronglyConnectedComponents();
+
+        assertThat(components).hasSize(2);
+        assertThat(components.get(0).getNodes()).containsOnly(0, 1, 2);
+        assertThat(components.get(0).getEdges()).hasSize(3);
+        assertThat(components.get(0).getFeedbackEdges()).hasSize(1);
+        assertThat(components.get(1).getNodes()).containsOnly(3, 4);
+        assertThat(components.get(1).getEdges()).hasSize(2);
+        assertThat(components.get(1).getFeedbackEdges()).hasSize(1);
+        for (StronglyConnectedComponent<Integer, Object> component : components) {
+            assertFeedbackEdgesBreakAllCycles(component);
+        }
+    }
+
+    @Test
+    public void feedback_edges_of_complete_graph_break_all_cycles() {
+        Graph<Integer, Integer> completeGraph = createCompleteGraph(30);
+
+        StronglyConnectedComponent<Integer, Integer> component = getOnlyElement(completeGraph.findStronglyConnectedComponents());
+
+        assertThat(component.getNodes()).hasSize(30);
+        assertThat(component.getEdges()).hasSize(30 * 29);
+        assertThat(component.getFeedbackEdges()).hasSize(30 * 29 / 2);
+        assertFeedbackEdgesBreakAllCycles(component);
+    }
+
+    @Test
+    public void feedback_edges_of_real_life_graph_break_all_cycles() {
+        List<StronglyConnectedComponent<Integer, Object>> components = RealLifeGraph.get().findStronglyConnectedComponents();
+
+        assertThat(components).isNotEmpty();
+        for (StronglyConnectedComponent<Integer, Object> component : components) {
+            assertThat(component.getFeedbackEdges().size()).isLessThanOrEqualTo(component.getEdges().size() / 2);
+            assertFeedbackEdgesBreakAllCycles(component);
+        }
+    }
+
+    private static <T, ATTACHMENT> void assertFeedbackEdgesBreakAllCycles(StronglyConnectedComponent<T, ATTACHMENT> component) {
+        Set<Edge<T, ATTACHMENT>> feedbackEdges = ImmutableSet.copyOf(component.getFeedbackEdges());
+        Graph<T, ATTACHMENT> remainingGraph = new Graph<>();
+        remainingGraph.addNodes(component.getNodes());
+        for (Edge<T, ATTACHMENT> edge : component.getEdges()) {
+            if (!feedbackEdges.contains(edge)) {
+                remainingGraph.addEdges(singleton(edge));
+            }
+        }
+        assertThat(remainingGraph.findCycles()).as("cycles after removing feedback edges").isEmpty();
+    }
+
     @SuppressWarnings("unchecked")
     private Graph<Integer, Integer> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
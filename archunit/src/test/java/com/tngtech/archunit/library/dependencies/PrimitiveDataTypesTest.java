@@ -16,6 +16,19 @@ public class PrimitiveDataTypesTest {
         assertThat(intStack.pop()).isEqualTo(1);
     }
 
+    @Test
+    public void stack_can_be_peeked_without_removing_the_top_element() {
+        IntStack intStack = new IntStack(2);
+        assertThat(intStack.isEmpty()).as("stack is empty").isTrue();
+
+        intStack.push(1);
+        intStack.push(2);
+
+        assertThat(intStack.peek()).isEqualTo(2);
+        assertThat(intStack.peek()).isEqualTo(2);
+        assertThat(intStack.isEmpty()).as("stack is empty").isFalse();
+    }
+
     @Test
     public void conversion_to_array_gets_all_elements() {
         IntStack intStack = new IntStack(10);
@@ -0,0 +1,76 @@
+package com.tngtech.archunit.library.dependencies;
+
+import com.google.common.collect.ImmutableMap;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.CycleWithUnbalancedDependenciesRoot;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SliceGraphTest {
+    private static final ImmutableMap<String, String> expectedTargetSliceByOriginSlice = ImmutableMap.of(
+            "onedependency", "thirtydependencies",
+            "threedependencies", "onedependency",
+            "thirtydependencies", "threedependencies");
+    private static final ImmutableMap<String, Integer> expectedNumberOfDependenciesByOriginSlice = ImmutableMap.of(
+            "onedependency", 1,
+            "threedependencies", 3,
+            "thirtydependencies", 30);
+
+    @Test
+    public void accumulates_edges_between_slices_and_resolves_their_dependencies() {
+        Slices slices = unbalancedDependenciesSlices();
+        SliceGraph graph = createGraph(slices, DescribedPredicate.<Dependency>alwaysTrue());
+
+        PrimitiveGraph primitiveGraph = graph.toPrimitiveGraph();
+        assertThat(primitiveGraph.getSize()).isEqualTo(3);
+        for (int originIndex = 0; originIndex < primitiveGraph.getSize(); originIndex++) {
+            String origin = graph.getNode(originIndex).getNamePart(1);
+            int[] targetIndexes = primitiveGraph.getAdjacentNodesOf(originIndex);
+            assertThat(targetIndexes).hasSize(1);
+
+            Edge<Slice, Dependency> edge = graph.getEdge(originIndex, targetIndexes[0]);
+
+            assertThat(edge.getFrom()).isEqualTo(graph.getNode(originIndex));
+            assertThat(edge.getTo().getNamePart(1)).isEqualTo(expectedTargetSliceByOriginSlice.get(origin));
+            assertThat(edge.getAttachments()).hasSize(expectedNumberOfDependenciesByOriginSlice.get(origin));
+            assertThat(graph.getEdge(originIndex, targetIndexes[0])).as("edge resolved again").isSameAs(edge);
+        }
+    }
+
+    @Test
+    public void ignores_dependencies_not_matching_predicate() {
+        Slices slices = unbalancedDependenciesSlices();
+        SliceGraph graph = createGraph(slices, new DescribedPredicate<Dependency>("not from thirtydependencies") {
+            @Override
+            public boolean apply(Dependency input) {
+                return !input.getOriginClass().getPackageName().endsWith(".thirtydependencies");
+            }
+        });
+
+        PrimitiveGraph primitiveGraph = graph.toPrimitiveGraph();
+        int numberOfEdges = 0;
+        for (int originIndex = 0; originIndex < primitiveGraph.getSize(); originIndex++) {
+            numberOfEdges += primitiveGraph.getAdjacentNodesOf(originIndex).length;
+            if (graph.getNode(originIndex).getNamePart(1).equals("thirtydependencies")) {
+                assertThat(primitiveGraph.getAdjacentNodesOf(originIndex)).isEmpty();
+            }
+        }
+        assertThat(numberOfEdges).isEqualTo(2);
+    }
+
+    private Slices unbalancedDependenciesSlices() {
+        return Slices.matching(CycleWithUnbalancedDependenciesRoot.class.getPackage().getName() + ".(*)..")
+                .transform(new ClassFileImporter().importPackagesOf(CycleWithUnbalancedDependenciesRoot.class));
+    }
+
+    private SliceGraph createGraph(Slices slices, DescribedPredicate<Dependency> predicate) {
+        SliceGraph graph = new SliceGraph(slices, predicate);
+        for (Slice slice : slices) {
+            graph.addDependenciesOf(slice);
+        }
+        return graph;
+    }
+}
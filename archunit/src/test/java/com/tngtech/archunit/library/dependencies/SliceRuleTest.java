@@ -147,6 +147,22 @@ public class SliceRuleTest {
                 "Dependencies of Slice threedependencies"));
     }
 
+    @Test
+    public void reports_cyclic_groups_together_with_dependencies_to_remove() {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(CompleteSevenNodesGraphRoot.class);
+
+        String failureReport = slices()
+                .matching(CompleteSevenNodesGraphRoot.class.getPackage().getName() + ".(*)")
+                .should().beFreeOfCyclicGroups().evaluate(classes)
+                .getFailureReport().toString();
+
+        assertThat(countCyclesInMessage(failureReport)).isZero();
+        assertThat(filterLinesMatching(failureReport, "Cyclic group detected"))
+                .containsExactly("Cyclic group detected: Slice a, Slice b, Slice c, Slice d, Slice e, Slice f, Slice g");
+        assertThat(failureReport).contains("Removing the following 21 of 42 slice dependencies between these 7 slices would break all cycles");
+        assertThat(filterLinesMatching(failureReport, "Dependencies of Slice")).hasSize(21);
+    }
+
     private List<String> filterLinesMatching(String text, final String regex) {
         return FluentIterable.from(Splitter.on(lineSeparator()).split(text))
                 .filter(new Predicate<String>() {
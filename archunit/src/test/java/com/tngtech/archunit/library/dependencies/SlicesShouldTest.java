@@ -84,7 +84,9 @@ public class SlicesShouldTest {
                 $(slices().matching("foo.(*)..").should().notDependOnEachOther(),
                         "slices matching 'foo.(*)..' should not depend on each other"),
                 $(slices().matching("foo.(*)..").should().beFreeOfCycles(),
-                        "slices matching 'foo.(*)..' should be free of cycles"));
+                        "slices matching 'foo.(*)..' should be free of cycles"),
+                $(slices().matching("foo.(*)..").should().beFreeOfCyclicGroups(),
+                        "slices matching 'foo.(*)..' should be free of cyclic groups"));
     }
 
     @Test
@@ -0,0 +1,150 @@
+package com.tngtech.archunit.library.freeze;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.Properties;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.lang.ArchRule;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BinaryViolationStoreTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ViolationStore store = new BinaryViolationStore();
+    private File configuredFolder;
+
+    @Before
+    public void setUp() throws Exception {
+        configuredFolder = new File(temporaryFolder.newFolder(), "notyetthere");
+
+        store.initialize(propertiesOf(
+                "binary.path", configuredFolder.getAbsolutePath(),
+                "binary.allowStoreCreation", String.valueOf(true)));
+    }
+
+    @Test
+    public void reports_unknown_rule_as_unstored() {
+        assertThat(store.contains(defaultRule())).as("store contains random rule").isFalse();
+    }
+
+    @Test
+    public void throws_an_exception_if_violations_of_unstored_rule_are_requested() {
+        final ArchRule rule = defaultRule();
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                store.getViolations(rule);
+            }
+        }).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No rule stored with description '" + rule.getDescription() + "'");
+    }
+
+    @Test
+    public void rejects_store_creation_if_not_allowed() throws IOException {
+        final File folder = temporaryFolder.newFolder();
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                new BinaryViolationStore().initialize(propertiesOf("binary.path", folder.getAbsolutePath()));
+            }
+        }).isInstanceOf(StoreInitializationFailedException.class)
+                .hasMessageContaining("freeze.store.binary.allowStoreCreation=true");
+    }
+
+    @Test
+    public void stores_and_reads_violations_of_multiple_rules_across_instances() {
+        store.save(rule("first rule"), ImmutableList.of("first violation1", "first violation2"));
+        store.save(rule("second rule"), ImmutableList.of("second violation1", String.format("second with%nlinebreak")));
+        store.save(rule("third rule"), ImmutableList.<String>of());
+
+        ViolationStore reopened = new BinaryViolationStore();
+        reopened.initialize(propertiesOf("binary.path", configuredFolder.getAbsolutePath()));
+
+        assertThat(reopened.contains(rule("first rule"))).as("store contains rule").isTrue();
+        assertThat(reopened.getViolations(rule("first rule"))).containsExactly("first violation1", "first violation2");
+        assertThat(reopened.getViolations(rule("second rule"))).containsExactly("second violation1", String.format("second with%nlinebreak"));
+        assertThat(reopened.getViolations(rule("third rule"))).isEmpty();
+    }
+
+    @Test
+    public void updates_stored_violations_of_single_rule() {
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        store.save(defaultRule(), ImmutableList.of("first overwritten violation"));
+
+        ViolationStore reopened = new BinaryViolationStore();
+        reopened.initialize(propertiesOf("binary.path", configuredFolder.getAbsolutePath()));
+
+        assertThat(reopened.getViolations(defaultRule())).containsExactly("first overwritten violation");
+        assertThat(configuredFolder.list()).as("files in store").hasSize(2);
+    }
+
+    @Test
+    public void does_not_rewrite_unchanged_violations() {
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        File violationsFile = violationsFileOf(configuredFolder);
+        assertThat(violationsFile.setLastModified(0)).isTrue();
+
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+
+        assertThat(violationsFile.lastModified()).isEqualTo(0);
+    }
+
+    @Test
+    public void rejects_update_if_not_allowed() {
+        store.save(defaultRule(), ImmutableList.of("violation"));
+        final ViolationStore reopened = new BinaryViolationStore();
+        reopened.initialize(propertiesOf(
+                "binary.path", configuredFolder.getAbsolutePath(),
+                "binary.allowStoreUpdate", String.valueOf(false)));
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                reopened.save(defaultRule(), ImmutableList.of("other violation"));
+            }
+        }).isInstanceOf(StoreUpdateFailedException.class)
+                .hasMessageContaining("freeze.store.binary.allowStoreUpdate=true");
+    }
+
+    private static File violationsFileOf(File folder) {
+        File[] files = folder.listFiles();
+        for (File file : files) {
+            if (file.getName().endsWith(".violations")) {
+                return file;
+            }
+        }
+        throw new AssertionError("No violations file found in " + folder);
+    }
+
+    private static Properties propertiesOf(String... keyValuePairs) {
+        Properties result = new Properties();
+        LinkedList<String> keyValues = new LinkedList<>(asList(keyValuePairs));
+        while (!keyValues.isEmpty()) {
+            result.setProperty(keyValues.poll(), keyValues.poll());
+        }
+        return result;
+    }
+
+    private ArchRule defaultRule() {
+        return rule("default rule");
+    }
+
+    private ArchRule rule(String description) {
+        return classes().should().bePublic().as(description);
+    }
+}
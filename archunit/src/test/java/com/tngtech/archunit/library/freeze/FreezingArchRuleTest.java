@@ -25,6 +25,9 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.RuleBatch;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -37,6 +40,7 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
@@ -128,6 +132,27 @@ public class FreezingArchRuleTest {
         frozen.check(classes);
     }
 
+    @Test
+    public void compares_joined_violations_of_all_batches_with_store() {
+        ArchRule input = classes().should(new ArchCondition<JavaClass>("be violated") {
+            @Override
+            public void check(JavaClass javaClass, ConditionEvents events) {
+                events.add(SimpleConditionEvent.violated(javaClass, javaClass.getSimpleName() + " is violated"));
+            }
+        }).as("some description");
+
+        TestViolationStore violationStore = new TestViolationStore();
+        RuleBatch frozen = RuleBatch.of(freeze(input).persistIn(violationStore));
+        List<JavaClasses> batches = ImmutableList.of(importClasses(String.class), importClasses(Integer.class));
+
+        EvaluationResult first = getOnlyElement(frozen.evaluateInBatches(batches));
+        EvaluationResult second = getOnlyElement(frozen.evaluateInBatches(batches));
+
+        assertThat(first.hasViolation()).as("first evaluation has violation").isFalse();
+        assertThat(second.hasViolation()).as("second evaluation has violation").isFalse();
+        violationStore.verifyStoredRule("some description", "String is violated", "Integer is violated");
+    }
+
     @Test
     public void fails_on_violations_additional_to_frozen_ones() {
         TestViolationStore violationStore = new TestViolationStore();
@@ -259,6 +284,35 @@ public class FreezingArchRuleTest {
                 .hasAnyViolationOf("violation", "equivalent one");
     }
 
+    @Test
+    public void matches_known_violations_by_normalized_form_if_matcher_supports_it() {
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description")
+                .withViolations("some #ignore_this# violation", "some #ignore_this_too# violation", "obsolete violation").create());
+
+        ArchRule frozen = freeze(rule("some description")
+                .withViolations("some #now changed# violation", "some #changed as well# violation", "some #third# violation").create())
+                .persistIn(violationStore)
+                .associateViolationLinesVia(new NormalizingViolationLineMatcher() {
+                    @Override
+                    public String normalize(String line) {
+                        return line.replaceAll("#.*#", "");
+                    }
+
+                    @Override
+                    public boolean matches(String lineFromFirstViolation, String lineFromSecondViolation) {
+                        return normalize(lineFromFirstViolation).equals(normalize(lineFromSecondViolation));
+                    }
+                });
+
+        assertThatRule(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("some #third# violation");
+        assertThat(violationStore.getViolations(frozen))
+                .containsOnly("some #ignore_this# violation", "some #ignore_this_too# violation");
+    }
+
     @DataProvider
     public static List<List<String>> different_line_separators_to_store_and_read() {
         String windowsLineSeparator = "\r\n";
@@ -113,6 +113,22 @@ public class TextFileBasedViolationStoreTest {
         assertThat(store.getViolations(thirdRule)).containsOnly("third violation1", "third violation2");
     }
 
+    @Test
+    public void keeps_rules_stored_by_other_stores_using_the_same_folder() {
+        ViolationStore otherStore = new TextFileBasedViolationStore();
+        otherStore.initialize(propertiesOf("default.path", configuredFolder.getAbsolutePath()));
+
+        ArchRule firstRule = rule("first rule");
+        store.save(firstRule, ImmutableList.of("first violation"));
+        ArchRule secondRule = rule("second rule");
+        otherStore.save(secondRule, ImmutableList.of("second violation"));
+
+        ViolationStore reloadedStore = new TextFileBasedViolationStore();
+        reloadedStore.initialize(propertiesOf("default.path", configuredFolder.getAbsolutePath()));
+        assertThat(reloadedStore.getViolations(firstRule)).containsOnly("first violation");
+        assertThat(reloadedStore.getViolations(secondRule)).containsOnly("second violation");
+    }
+
     @Test
     public void stores_violations_with_line_breaks() {
         List<String> expected = ImmutableList.of(String.format("first with%nlinebreak"), String.format("second with%nlinebreak"));
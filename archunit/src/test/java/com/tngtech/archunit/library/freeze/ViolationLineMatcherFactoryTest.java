@@ -53,5 +53,10 @@ public class ViolationLineMatcherFactoryTest {
         assertThat(defaultMatcher.matches(str1, str2))
                 .as(String.format("'%s' matches '%s'", str1, str2))
                 .isEqualTo(expected);
+
+        NormalizingViolationLineMatcher normalizingMatcher = (NormalizingViolationLineMatcher) defaultMatcher;
+        assertThat(normalizingMatcher.normalize(str1).equals(normalizingMatcher.normalize(str2)))
+                .as(String.format("normalized '%s' equals normalized '%s'", str1, str2))
+                .isEqualTo(expected);
     }
 }
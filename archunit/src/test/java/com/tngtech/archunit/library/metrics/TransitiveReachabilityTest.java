@@ -0,0 +1,87 @@
+package com.tngtech.archunit.library.metrics;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransitiveReachabilityTest {
+
+    @Test
+    public void counts_reachable_nodes_of_acyclic_graph() {
+        // 0 -> 1 -> 2, 0 -> 3
+        int[][] successors = {{1, 3}, {2}, {}, {}};
+
+        assertThat(TransitiveReachability.countReachableNodes(successors, 1)).containsExactly(4, 2, 1, 1);
+    }
+
+    @Test
+    public void counts_reachable_nodes_of_graph_with_cycles() {
+        // 0 -> 1 -> 2 -> 0, 2 -> 3 -> 4 -> 3, 5 -> 5
+        int[][] successors = {{1}, {2}, {0, 3}, {4}, {3}, {5}};
+
+        assertThat(TransitiveReachability.countReachableNodes(successors, 1)).containsExactly(5, 5, 5, 2, 2, 1);
+    }
+
+    @Test
+    public void counts_reachable_nodes_of_long_chain_without_overflowing_the_stack() {
+        int[][] successors = new int[100_000][];
+        for (int i = 0; i < successors.length - 1; i++) {
+            successors[i] = new int[]{i + 1};
+        }
+        successors[successors.length - 1] = new int[]{0};
+
+        int[] result = TransitiveReachability.countReachableNodes(successors, 1);
+
+        assertThat(result[0]).isEqualTo(successors.length);
+        assertThat(result[successors.length - 1]).isEqualTo(successors.length);
+    }
+
+    @Test
+    public void counts_reachable_nodes_of_random_graphs_spanning_several_blocks_in_parallel() {
+        Random random = new Random(42);
+        for (int run = 0; run < 10; run++) {
+            int[][] successors = randomGraph(random, 3000, 3);
+
+            int[] expected = countReachableNodesByBreadthFirstSearch(successors);
+
+            assertThat(TransitiveReachability.countReachableNodes(successors, 1)).containsExactly(expected);
+            assertThat(TransitiveReachability.countReachableNodes(successors, 4)).containsExactly(expected);
+        }
+    }
+
+    private static int[][] randomGraph(Random random, int numberOfNodes, int maxNumberOfSuccessors) {
+        int[][] result = new int[numberOfNodes][];
+        for (int node = 0; node < numberOfNodes; node++) {
+            result[node] = new int[random.nextInt(maxNumberOfSuccessors + 1)];
+            for (int i = 0; i < result[node].length; i++) {
+                result[node][i] = random.nextInt(numberOfNodes);
+            }
+        }
+        return result;
+    }
+
+    private static int[] countReachableNodesByBreadthFirstSearch(int[][] successors) {
+        int[] result = new int[successors.length];
+        for (int start = 0; start < successors.length; start++) {
+            BitSet visited = new BitSet(successors.length);
+            Deque<Integer> queue = new ArrayDeque<>();
+            visited.set(start);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                for (int successor : successors[queue.poll()]) {
+                    if (!visited.get(successor)) {
+                        visited.set(successor);
+                        queue.add(successor);
+                    }
+                }
+            }
+            result[start] = visited.cardinality();
+        }
+        return result;
+    }
+}